@@ -0,0 +1,50 @@
+/*
+ * App Bootstrap Core
+ * Copyright (C) 2026
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package app.bootstrap.core.cqrs;
+
+import app.bootstrap.core.ddd.FieldSpecification;
+import app.bootstrap.core.ddd.ISpecification;
+import app.bootstrap.core.ddd.SpecificationPlan;
+import jakarta.annotation.Nonnull;
+import java.util.List;
+
+/**
+ * A {@link IReadRepository} that can also answer "which views satisfy this rule" without loading
+ * every read model.
+ *
+ * <p>Specifications are written over the view type with {@link app.bootstrap.core.ddd.Field Field}s
+ * ({@code AGE.ge(18).and(CITY.eq("Berlin"))}). An implementation {@linkplain
+ * SpecificationPlan#split splits} the specification against the fields it indexes, translates the
+ * pushdown part into its own index lookups and range scans (or a {@code WHERE} clause), and
+ * evaluates only the residual in memory over the rows that survive. Specifications with no
+ * indexable part still work — as a full scan.
+ *
+ * @param <I> the read model id type
+ */
+public interface ISearchableReadRepository<I> extends IReadRepository<I> {
+
+    /** Every view satisfying {@code specification}, in no particular order. */
+    @Nonnull
+    <V extends IView<I>> List<V> find(
+            @Nonnull ISpecification<V> specification, @Nonnull Class<V> view);
+
+    /** Whether {@code find} can answer {@code leaf} from an index rather than a scan. */
+    boolean supports(@Nonnull FieldSpecification<?, ?> leaf);
+}
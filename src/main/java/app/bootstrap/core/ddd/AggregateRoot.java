@@ -20,15 +20,22 @@
 package app.bootstrap.core.ddd;
 
 import jakarta.annotation.Nonnull;
-import java.util.ArrayList;
-import java.util.Collections;
+import jakarta.annotation.Nullable;
 import java.util.List;
 import java.util.function.Consumer;
 
+/**
+ * Base class for aggregate roots: tracks the version and the events recorded since the last save.
+ *
+ * <p>An aggregate is mutated by one thread at a time — the thread running the command — so its
+ * state, including the uncommitted-event buffer, is unsynchronised. Where aggregates are pinned to
+ * a thread (a per-aggregate executor or actor), {@link #claimOwnership()} turns that assumption
+ * into a checked one: every mutation from another thread then fails fast instead of racing.
+ */
 public abstract class AggregateRoot<T extends Id> extends Entity<T> {
     private int version;
-    private final List<IDomainEvent> uncommitedChanges =
-            Collections.synchronizedList(new ArrayList<>());
+    private final EventBuffer uncommitedChanges = new EventBuffer();
+    @Nullable private volatile Thread owner;
 
     /** Creates a new aggregate at version 0 with no uncommitted changes. */
     protected AggregateRoot(@Nonnull T id) {
@@ -50,28 +57,79 @@ public abstract class AggregateRoot<T extends Id> extends Entity<T> {
     }
 
     public final void markChangesAsCommitted() {
+        checkOwner();
         version = getNextVersion();
-        uncommitedChanges.clear();
+        uncommitedChanges.reset();
     }
 
     public final boolean hasUncommitedChanges() {
         return !uncommitedChanges.isEmpty();
     }
 
+    /**
+     * Read-only view of the recorded events. The view is live and is emptied by the next commit —
+     * copy it to keep the events beyond that.
+     */
     @Nonnull
     public final List<IDomainEvent> getUncommittedChanges() {
-        return Collections.unmodifiableList(uncommitedChanges);
+        return uncommitedChanges;
     }
 
     protected final void apply(@Nonnull final IDomainEvent event) {
-        uncommitedChanges.add(event);
+        checkOwner();
+        uncommitedChanges.append(event);
     }
 
-    // commit uncommited events
+    /**
+     * Hands the recorded events to {@code publish}, then bumps the version and clears them. The
+     * list is only valid during the call: a consumer that keeps events must copy them.
+     */
     public final void commit(@Nonnull Consumer<List<IDomainEvent>> publish) {
-        publish.accept(Collections.unmodifiableList(uncommitedChanges));
+        checkOwner();
+        publish.accept(uncommitedChanges);
         version++;
-        uncommitedChanges.clear();
+        uncommitedChanges.reset();
+    }
+
+    /**
+     * Binds this aggregate to the calling thread: until {@link #releaseOwnership()}, {@code apply},
+     * {@code commit} and {@code markChangesAsCommitted} from any other thread throw {@link
+     * IllegalStateException}. Meant for runtimes that pin each aggregate to one thread.
+     *
+     * @throws IllegalStateException if another thread owns the aggregate
+     */
+    public final void claimOwnership() {
+        final Thread current = Thread.currentThread();
+        final Thread previous = owner;
+        if (previous != null && previous != current) {
+            throw new IllegalStateException(
+                    "aggregate " + getId() + " is owned by thread " + previous.getName());
+        }
+        owner = current;
+    }
+
+    /**
+     * Releases an ownership claimed by the calling thread, e.g. before handing the aggregate to
+     * another thread.
+     *
+     * @throws IllegalStateException if another thread owns the aggregate
+     */
+    public final void releaseOwnership() {
+        checkOwner();
+        owner = null;
+    }
+
+    private void checkOwner() {
+        final Thread current = owner;
+        if (current != null && current != Thread.currentThread()) {
+            throw new IllegalStateException(
+                    "aggregate "
+                            + getId()
+                            + " is owned by thread "
+                            + current.getName()
+                            + ", not "
+                            + Thread.currentThread().getName());
+        }
     }
 
     @Override
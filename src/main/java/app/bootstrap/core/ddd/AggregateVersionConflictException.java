@@ -22,6 +22,10 @@ package app.bootstrap.core.ddd;
 import jakarta.annotation.Nonnull;
 
 public class AggregateVersionConflictException extends Exception {
+    @Nonnull protected final transient Id aggregateId;
+    protected final int persistedVersion;
+    protected final int newVersion;
+
     public AggregateVersionConflictException(
             @Nonnull Id aggregateId, int persistedVersion, int newVersion) {
         super(
@@ -32,5 +36,27 @@ public class AggregateVersionConflictException extends Exception {
                         + ") is greater then the version of the new aggregate (version "
                         + newVersion
                         + ")");
+        this.aggregateId = aggregateId;
+        this.persistedVersion = persistedVersion;
+        this.newVersion = newVersion;
+    }
+
+    /**
+     * The aggregate whose save conflicted. Its class identifies the aggregate type, e.g. for
+     * per-type conflict metrics.
+     */
+    @Nonnull
+    public Id getAggregateId() {
+        return aggregateId;
+    }
+
+    /** The version the store held when the save was rejected. */
+    public int getPersistedVersion() {
+        return persistedVersion;
+    }
+
+    /** The version the rejected save would have written. */
+    public int getNewVersion() {
+        return newVersion;
     }
 }
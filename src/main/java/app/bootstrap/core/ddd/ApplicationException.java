@@ -22,6 +22,7 @@ package app.bootstrap.core.ddd;
 import jakarta.annotation.Nonnull;
 import jakarta.annotation.Nullable;
 
+/** Base class for a use-case failure, identified by a machine-readable error code. */
 public abstract class ApplicationException extends Exception {
     @Nonnull protected final String errorCode;
     @Nullable protected final transient Object context;
@@ -39,6 +40,22 @@ public abstract class ApplicationException extends Exception {
         this.context = context;
     }
 
+    /**
+     * Lightweight form for preallocated, rethrown instances: the cause is fixed as none and
+     * suppression is disabled, so a shared instance carries no per-throw state.
+     *
+     * @param writableStackTrace {@code false} to skip capturing the stack trace
+     */
+    protected ApplicationException(
+            @Nonnull String message,
+            @Nonnull String errorCode,
+            @Nullable Object context,
+            boolean writableStackTrace) {
+        super(message, null, false, writableStackTrace);
+        this.errorCode = errorCode;
+        this.context = context;
+    }
+
     @Nonnull
     public String getErrorCode() {
         return errorCode;
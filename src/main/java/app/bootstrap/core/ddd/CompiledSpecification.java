@@ -0,0 +1,305 @@
+/*
+ * App Bootstrap Core
+ * Copyright (C) 2026
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package app.bootstrap.core.ddd;
+
+import jakarta.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * A composed {@link ISpecification} turned into a flat evaluator for checking many candidates.
+ *
+ * <p><strong>Flattening.</strong> {@link #compile} walks the {@link AndSpecification}, {@link
+ * OrSpecification} and {@link NotSpecification} nodes once, splices nested conjunctions into their
+ * parent conjunction (and disjunctions likewise) and cancels double negations, leaving one node per
+ * operator change rather than one per {@code and}/{@code or} call.
+ *
+ * <p><strong>Adaptive ordering.</strong> {@link #adaptive} additionally reorders the operands of
+ * every conjunction and disjunction by what it observes. A random sample of evaluations runs every
+ * operand and records its cost and outcome; periodically the operands are sorted by expected cost
+ * per decisive outcome — cost over the probability of {@code false} in a conjunction, of {@code
+ * true} in a disjunction — so the cheapest likely short-circuit runs first. Older observations are
+ * halved at each reorder, so the order follows a shifting candidate mix.
+ *
+ * <p>Reordering is only sound for operands that are side-effect free and total: an operand that
+ * throws on candidates another operand was guarding against (a null check before a dereference)
+ * must not be compiled adaptively. The plain {@link #compile} keeps declaration order.
+ *
+ * <p>Compiled specifications are thread-safe; concurrent evaluations may lose the odd sample.
+ */
+public final class CompiledSpecification<T> implements ISpecification<T> {
+
+    private abstract static class Node<T> {
+        abstract boolean eval(T candidate);
+
+        abstract void describe(StringBuilder out);
+    }
+
+    private static final class Leaf<T> extends Node<T> {
+        final ISpecification<T> specification;
+
+        Leaf(ISpecification<T> specification) {
+            this.specification = specification;
+        }
+
+        @Override
+        boolean eval(T candidate) {
+            return specification.isSatisfiedBy(candidate);
+        }
+
+        @Override
+        void describe(StringBuilder out) {
+            out.append(specification);
+        }
+    }
+
+    private static final class Negation<T> extends Node<T> {
+        final Node<T> operand;
+
+        Negation(Node<T> operand) {
+            this.operand = operand;
+        }
+
+        @Override
+        boolean eval(T candidate) {
+            return !operand.eval(candidate);
+        }
+
+        @Override
+        void describe(StringBuilder out) {
+            out.append("not(");
+            operand.describe(out);
+            out.append(')');
+        }
+    }
+
+    private static final class Junction<T> extends Node<T> {
+        final boolean conjunction;
+        final Node<T>[] operands;
+        final int sampleEvery;
+        final int reorderEvery;
+
+        /** Current evaluation order; replaced wholesale, never mutated. */
+        volatile Node<T>[] order;
+
+        // sampled statistics per operand index, guarded by this
+        final double[] costNanos;
+        final double[] evaluations;
+        final double[] decisive;
+        int samples;
+
+        Junction(boolean conjunction, Node<T>[] operands, int sampleEvery, int reorderEvery) {
+            this.conjunction = conjunction;
+            this.operands = operands;
+            this.sampleEvery = sampleEvery;
+            this.reorderEvery = reorderEvery;
+            this.order = operands;
+            this.costNanos = new double[operands.length];
+            this.evaluations = new double[operands.length];
+            this.decisive = new double[operands.length];
+        }
+
+        @Override
+        boolean eval(T candidate) {
+            if (sampleEvery > 0 && ThreadLocalRandom.current().nextInt(sampleEvery) == 0) {
+                return sample(candidate);
+            }
+            // a conjunction stops at the first false, a disjunction at the first true
+            final boolean stopOn = !conjunction;
+            for (final Node<T> operand : order) {
+                if (operand.eval(candidate) == stopOn) {
+                    return stopOn;
+                }
+            }
+            return conjunction;
+        }
+
+        /** Evaluates every operand, recording cost and outcome, and returns the same result. */
+        private boolean sample(T candidate) {
+            final boolean stopOn = !conjunction;
+            final long[] costs = new long[operands.length];
+            final boolean[] outcomes = new boolean[operands.length];
+            boolean result = conjunction;
+            for (int i = 0; i < operands.length; i++) {
+                final long start = System.nanoTime();
+                outcomes[i] = operands[i].eval(candidate);
+                costs[i] = System.nanoTime() - start;
+                if (outcomes[i] == stopOn) {
+                    result = stopOn;
+                }
+            }
+            record(costs, outcomes, stopOn);
+            return result;
+        }
+
+        private synchronized void record(long[] costs, boolean[] outcomes, boolean stopOn) {
+            for (int i = 0; i < operands.length; i++) {
+                costNanos[i] += costs[i];
+                evaluations[i]++;
+                if (outcomes[i] == stopOn) {
+                    decisive[i]++;
+                }
+            }
+            if (++samples >= reorderEvery) {
+                reorder();
+            }
+        }
+
+        private void reorder() {
+            final double[] rank = new double[operands.length];
+            for (int i = 0; i < operands.length; i++) {
+                final double cost = costNanos[i] / evaluations[i];
+                // Laplace smoothing: an operand never seen deciding still has some chance to
+                final double decides = (decisive[i] + 1) / (evaluations[i] + 2);
+                rank[i] = cost / decides;
+                costNanos[i] /= 2;
+                evaluations[i] /= 2;
+                decisive[i] /= 2;
+            }
+            final Integer[] indices = new Integer[operands.length];
+            for (int i = 0; i < indices.length; i++) {
+                indices[i] = i;
+            }
+            Arrays.sort(indices, Comparator.comparingDouble(i -> rank[i]));
+            final Node<T>[] next = Arrays.copyOf(operands, operands.length);
+            for (int i = 0; i < indices.length; i++) {
+                next[i] = operands[indices[i]];
+            }
+            order = next;
+            samples = 0;
+        }
+
+        @Override
+        void describe(StringBuilder out) {
+            out.append(conjunction ? "and(" : "or(");
+            final Node<T>[] current = order;
+            for (int i = 0; i < current.length; i++) {
+                if (i > 0) {
+                    out.append(", ");
+                }
+                current[i].describe(out);
+            }
+            out.append(')');
+        }
+    }
+
+    @Nonnull private final ISpecification<T> source;
+    @Nonnull private final Node<T> root;
+
+    private CompiledSpecification(ISpecification<T> source, Node<T> root) {
+        this.source = source;
+        this.root = root;
+    }
+
+    /** Compiles {@code specification}, keeping every operand in declaration order. */
+    @Nonnull
+    public static <T> CompiledSpecification<T> compile(@Nonnull ISpecification<T> specification) {
+        return new CompiledSpecification<>(specification, build(specification, 0, 0));
+    }
+
+    /**
+     * Compiles {@code specification} with adaptive operand ordering.
+     *
+     * @param sampleEvery on average one evaluation in this many is sampled, per junction
+     * @param reorderEvery the number of samples a junction collects between reorders
+     */
+    @Nonnull
+    public static <T> CompiledSpecification<T> adaptive(
+            @Nonnull ISpecification<T> specification, int sampleEvery, int reorderEvery) {
+        if (sampleEvery < 1 || reorderEvery < 1) {
+            throw new IllegalArgumentException("sampleEvery and reorderEvery must be positive");
+        }
+        return new CompiledSpecification<>(
+                specification, build(specification, sampleEvery, reorderEvery));
+    }
+
+    /** {@link #adaptive(ISpecification, int, int)} sampling one in 64, reordering every 256. */
+    @Nonnull
+    public static <T> CompiledSpecification<T> adaptive(@Nonnull ISpecification<T> specification) {
+        return adaptive(specification, 64, 256);
+    }
+
+    @Override
+    public boolean isSatisfiedBy(T candidate) {
+        return root.eval(candidate);
+    }
+
+    /** The specification this was compiled from. */
+    @Nonnull
+    public ISpecification<T> source() {
+        return source;
+    }
+
+    /** The compiled tree in its current evaluation order, e.g. {@code and(a, or(b, not(c)))}. */
+    @Nonnull
+    public String describe() {
+        final StringBuilder out = new StringBuilder();
+        root.describe(out);
+        return out.toString();
+    }
+
+    @Override
+    public String toString() {
+        return "CompiledSpecification[" + describe() + "]";
+    }
+
+    // ---- building ----------------------------------------------------------------------------
+
+    private static <T> Node<T> build(ISpecification<T> spec, int sampleEvery, int reorderEvery) {
+        if (spec instanceof CompiledSpecification<T> compiled) {
+            return build(compiled.source(), sampleEvery, reorderEvery);
+        }
+        if (spec instanceof NotSpecification<T> not) {
+            if (not.operand() instanceof NotSpecification<T> inner) {
+                return build(inner.operand(), sampleEvery, reorderEvery);
+            }
+            return new Negation<>(build(not.operand(), sampleEvery, reorderEvery));
+        }
+        if (spec instanceof AndSpecification<T> and) {
+            return junction(true, and.operands(), sampleEvery, reorderEvery);
+        }
+        if (spec instanceof OrSpecification<T> or) {
+            return junction(false, or.operands(), sampleEvery, reorderEvery);
+        }
+        return new Leaf<>(spec);
+    }
+
+    private static <T> Node<T> junction(
+            boolean conjunction,
+            List<ISpecification<T>> operands,
+            int sampleEvery,
+            int reorderEvery) {
+        final List<Node<T>> nodes = new ArrayList<>();
+        for (final ISpecification<T> operand : operands) {
+            final Node<T> node = build(operand, sampleEvery, reorderEvery);
+            if (node instanceof Junction<T> nested && nested.conjunction == conjunction) {
+                nodes.addAll(Arrays.asList(nested.operands));
+            } else {
+                nodes.add(node);
+            }
+        }
+        @SuppressWarnings("unchecked")
+        final Node<T>[] array = nodes.toArray(new Node[0]);
+        return new Junction<>(conjunction, array, sampleEvery, reorderEvery);
+    }
+}
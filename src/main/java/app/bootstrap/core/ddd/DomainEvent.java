@@ -36,18 +36,18 @@ public abstract class DomainEvent implements IDomainEvent {
             @Nonnull Id aggregateId,
             @Nonnull Class<? extends AggregateRoot<?>> aggregateType,
             @Nullable Long eventVersion) {
-        this(aggregateId, aggregateType, eventVersion, Clock.systemUTC());
+        this(aggregateId, aggregateType, eventVersion, MonotonicClock.utc());
     }
 
     protected DomainEvent(
             @Nonnull Id aggregateId, @Nonnull Class<? extends AggregateRoot<?>> aggregateType) {
-        this(aggregateId, aggregateType, null, Clock.systemUTC());
+        this(aggregateId, aggregateType, null, MonotonicClock.utc());
     }
 
     /**
      * Emits a new event, taking its {@link #getTimestamp() timestamp} from the given clock. Inject
      * a fixed {@link Clock} in tests to make the timestamp deterministic; production code uses the
-     * no-clock constructors, which default to {@link Clock#systemUTC()}. Pass {@code null} for
+     * no-clock constructors, which default to {@link MonotonicClock#utc()}. Pass {@code null} for
      * {@code eventVersion} when the event carries no version.
      */
     protected DomainEvent(
@@ -55,7 +55,20 @@ public abstract class DomainEvent implements IDomainEvent {
             @Nonnull Class<? extends AggregateRoot<?>> aggregateType,
             @Nullable Long eventVersion,
             @Nonnull Clock clock) {
-        this.eventId = UUID.randomUUID();
+        this(aggregateId, aggregateType, eventVersion, clock, IUuidGenerator.getDefault());
+    }
+
+    /**
+     * Emits a new event whose {@link #getEventId() id} comes from {@code eventIds} instead of
+     * {@link IUuidGenerator#getDefault()}.
+     */
+    protected DomainEvent(
+            @Nonnull Id aggregateId,
+            @Nonnull Class<? extends AggregateRoot<?>> aggregateType,
+            @Nullable Long eventVersion,
+            @Nonnull Clock clock,
+            @Nonnull IUuidGenerator eventIds) {
+        this.eventId = eventIds.next();
         this.timestamp = Instant.now(clock);
         this.aggregateId = aggregateId;
         this.aggregateType = aggregateType;
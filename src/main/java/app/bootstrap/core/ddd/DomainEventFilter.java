@@ -0,0 +1,111 @@
+/*
+ * App Bootstrap Core
+ * Copyright (C) 2026
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package app.bootstrap.core.ddd;
+
+import app.bootstrap.core.messaging.ICorrelated;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Declarative criteria for a {@link IFilteredDomainEventBus} subscription, in place of a listener
+ * that returns early for the wrong events. Each criterion is optional, and an event must meet all
+ * of those that are set.
+ *
+ * <p>The event class and aggregate type criteria depend only on the event's class and {@link
+ * DomainEvent#getAggregateType() aggregate type}, so a bus can {@linkplain #routes resolve} them
+ * once per pair and index the result. Only the correlation id is checked per event.
+ *
+ * @param eventTypes event classes (or supertypes) to receive, or {@code null} for all
+ * @param aggregateTypes aggregate types (or supertypes) whose events to receive, or {@code null}
+ *     for all; an event that is not a {@link DomainEvent} has no aggregate type and never matches
+ * @param correlationId the {@link ICorrelated#getCorrelationId() flow} to receive, or {@code null}
+ *     for all
+ */
+public record DomainEventFilter(
+        @Nullable Set<Class<? extends IDomainEvent>> eventTypes,
+        @Nullable Set<Class<?>> aggregateTypes,
+        @Nullable UUID correlationId) {
+
+    /** Receives every domain event. */
+    public static final DomainEventFilter ANY = new DomainEventFilter(null, null, null);
+
+    public DomainEventFilter {
+        eventTypes = eventTypes == null ? null : Set.copyOf(eventTypes);
+        aggregateTypes = aggregateTypes == null ? null : Set.copyOf(aggregateTypes);
+    }
+
+    @SafeVarargs
+    @Nonnull
+    public final DomainEventFilter withEventTypes(
+            @Nonnull Class<? extends IDomainEvent>... eventTypes) {
+        return new DomainEventFilter(Set.of(eventTypes), aggregateTypes, correlationId);
+    }
+
+    @SafeVarargs
+    @Nonnull
+    public final DomainEventFilter withAggregateTypes(
+            @Nonnull Class<? extends AggregateRoot<?>>... aggregateTypes) {
+        return new DomainEventFilter(eventTypes, Set.of(aggregateTypes), correlationId);
+    }
+
+    @Nonnull
+    public DomainEventFilter withCorrelationId(@Nonnull UUID correlationId) {
+        return new DomainEventFilter(eventTypes, aggregateTypes, correlationId);
+    }
+
+    /**
+     * Whether events of {@code eventClass} raised by {@code aggregateType} can match; the indexable
+     * part of {@link #matches}.
+     */
+    public boolean routes(@Nonnull Class<?> eventClass, @Nullable Class<?> aggregateType) {
+        return (eventTypes == null || anyAssignableFrom(eventTypes, eventClass))
+                && (aggregateTypes == null
+                        || (aggregateType != null
+                                && anyAssignableFrom(aggregateTypes, aggregateType)));
+    }
+
+    /** Whether {@code event} meets every criterion. */
+    public boolean matches(@Nonnull IDomainEvent event) {
+        return routes(event.getClass(), aggregateTypeOf(event)) && correlates(event);
+    }
+
+    /** The per-event part of {@link #matches}: the correlation id, if one is set. */
+    public boolean correlates(@Nonnull IDomainEvent event) {
+        return correlationId == null
+                || (event instanceof ICorrelated correlated
+                        && correlationId.equals(correlated.getCorrelationId()));
+    }
+
+    /** The aggregate type of a {@link DomainEvent}; {@code null} for any other event. */
+    @Nullable public static Class<?> aggregateTypeOf(@Nonnull IDomainEvent event) {
+        return event instanceof DomainEvent domainEvent ? domainEvent.getAggregateType() : null;
+    }
+
+    private static boolean anyAssignableFrom(Set<? extends Class<?>> types, Class<?> type) {
+        for (final Class<?> candidate : types) {
+            if (candidate.isAssignableFrom(type)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * App Bootstrap Core
+ * Copyright (C) 2026
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package app.bootstrap.core.ddd;
+
+import jakarta.annotation.Nonnull;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * The uncommitted-event buffer behind {@link AggregateRoot}: a plain array that is appended to by
+ * the aggregate and reused after every commit. The buffer is its own read-only view — the public
+ * {@link java.util.List} mutators inherited from {@link AbstractList} throw, and only the aggregate
+ * can {@link #append} or {@link #reset} — so handing it out allocates nothing. Both count as
+ * structural modifications, so the view's iterators fail fast like the list it replaced.
+ *
+ * <p>Not thread-safe: an aggregate has one writer at a time.
+ */
+final class EventBuffer extends AbstractList<IDomainEvent> implements RandomAccess {
+    private static final int INITIAL_CAPACITY = 4;
+
+    /** Past this, {@link #reset} drops the array rather than keep a burst's worth of slots. */
+    private static final int RETAINED_CAPACITY = 64;
+
+    private IDomainEvent[] events = new IDomainEvent[INITIAL_CAPACITY];
+    private int size;
+
+    void append(@Nonnull IDomainEvent event) {
+        if (size == events.length) {
+            events = Arrays.copyOf(events, size * 2);
+        }
+        events[size++] = event;
+        modCount++;
+    }
+
+    /** Empties the buffer, keeping the array for the next batch of changes. */
+    void reset() {
+        if (events.length > RETAINED_CAPACITY) {
+            events = new IDomainEvent[INITIAL_CAPACITY];
+        } else {
+            Arrays.fill(events, 0, size, null);
+        }
+        size = 0;
+        modCount++;
+    }
+
+    @Override
+    public IDomainEvent get(int index) {
+        Objects.checkIndex(index, size);
+        return events[index];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+}
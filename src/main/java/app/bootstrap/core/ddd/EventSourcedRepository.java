@@ -0,0 +1,158 @@
+/*
+ * App Bootstrap Core
+ * Copyright (C) 2026
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package app.bootstrap.core.ddd;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import java.util.Optional;
+
+/**
+ * Base for a repository whose aggregates are stored as their event streams rather than as current
+ * state: {@link #save} appends {@link AggregateRoot#getUncommittedChanges()} to an {@link
+ * IEventStore}, and {@link #read} rebuilds the aggregate by replaying its stream.
+ *
+ * <p><strong>Optimistic concurrency.</strong> The append is guarded by {@link
+ * AggregateRoot#getVersion()}: if another writer committed to the stream since this aggregate was
+ * read, {@link #save} throws {@link AggregateVersionConflictException} and nothing is written. The
+ * save flow inside a handler is unchanged:
+ *
+ * <pre>{@code
+ * repository.save(order);        // append at order.getVersion(), or conflict
+ * order.commit(outbox::add);     // stage the same events, bump the version
+ * }</pre>
+ *
+ * <p><strong>Replay.</strong> Subclasses supply two seams: {@link #instantiate} creates an empty
+ * aggregate at the stream version (the same persistence-only door as a state-stored {@code
+ * reconstitute} factory), and {@link #replay} folds one historical event into it. Replay must only
+ * change state — it must never call {@code apply}, or a loaded aggregate would re-publish its own
+ * history.
+ *
+ * <p><strong>Snapshots.</strong> Constructed with an {@link ISnapshotStore} and an {@link
+ * ISnapshotPolicy}, a load starts from the latest snapshot and replays only the events after it.
+ * Once the policy finds a replay too long (by event count or by time), the loaded state is
+ * snapshotted, so a long-lived aggregate costs at most one policy-sized replay per load. The {@link
+ * SnapshotCodec} passed alongside converts between the aggregate and its snapshot state.
+ *
+ * <p>{@link #delete} stays abstract: whether "delete" appends a tombstone event, archives the
+ * stream, or is unsupported is a domain decision.
+ *
+ * @param <I> the aggregate id type
+ * @param <E> the aggregate type
+ * @param <S> the snapshot state type ({@link Void} when snapshots are not used)
+ */
+public abstract class EventSourcedRepository<I extends Id, E extends AggregateRoot<I>, S>
+        extends Repository<I, E> {
+
+    /** Converts between an aggregate and the state kept in its snapshots. */
+    public interface SnapshotCodec<I extends Id, E extends AggregateRoot<I>, S> {
+
+        /** Captures {@code aggregate}'s state for a snapshot. */
+        @Nonnull
+        S snapshot(@Nonnull E aggregate);
+
+        /**
+         * Recreates an aggregate at {@code version} from a snapshot's state; replay then continues
+         * with the events after the snapshot.
+         */
+        @Nonnull
+        E restore(@Nonnull I id, int version, @Nonnull S state);
+    }
+
+    @Nonnull protected final IEventStore eventStore;
+    @Nullable protected final ISnapshotStore<S> snapshotStore;
+    @Nullable protected final SnapshotCodec<I, E, S> snapshotCodec;
+    @Nonnull protected final ISnapshotPolicy snapshotPolicy;
+
+    /** A repository that always replays the full stream. */
+    protected EventSourcedRepository(
+            @Nonnull IDomainEventBus domainEventBus, @Nonnull IEventStore eventStore) {
+        super(domainEventBus);
+        this.eventStore = eventStore;
+        this.snapshotStore = null;
+        this.snapshotCodec = null;
+        this.snapshotPolicy = ISnapshotPolicy.never();
+    }
+
+    /** A repository that replays from the latest snapshot and snapshots when the policy asks. */
+    protected EventSourcedRepository(
+            @Nonnull IDomainEventBus domainEventBus,
+            @Nonnull IEventStore eventStore,
+            @Nonnull ISnapshotStore<S> snapshotStore,
+            @Nonnull SnapshotCodec<I, E, S> snapshotCodec,
+            @Nonnull ISnapshotPolicy snapshotPolicy) {
+        super(domainEventBus);
+        this.eventStore = eventStore;
+        this.snapshotStore = snapshotStore;
+        this.snapshotCodec = snapshotCodec;
+        this.snapshotPolicy = snapshotPolicy;
+    }
+
+    @Nonnull
+    @Override
+    public Optional<E> read(@Nonnull I id) {
+        final long start = System.nanoTime();
+        final ISnapshotStore<S> snapshots = snapshotStore;
+        final SnapshotCodec<I, E, S> codec = snapshotCodec;
+        final Optional<ISnapshotStore.Snapshot<S>> snapshot =
+                snapshots == null || codec == null ? Optional.empty() : snapshots.load(id);
+        final int fromVersion = snapshot.map(ISnapshotStore.Snapshot::version).orElse(0);
+        final IEventStore.EventStream stream = eventStore.read(id, fromVersion);
+        if (stream.isEmpty()) {
+            return Optional.empty();
+        }
+
+        final E aggregate =
+                snapshot.isPresent() && codec != null
+                        ? codec.restore(id, stream.version(), snapshot.get().state())
+                        : instantiate(id, stream.version());
+        for (final IDomainEvent event : stream.events()) {
+            replay(aggregate, event);
+        }
+
+        final int replayed = stream.events().size();
+        if (snapshots != null
+                && codec != null
+                && replayed > 0
+                && snapshotPolicy.shouldSnapshot(replayed, System.nanoTime() - start)) {
+            snapshots.save(
+                    new ISnapshotStore.Snapshot<>(id, stream.version(), codec.snapshot(aggregate)));
+        }
+        return Optional.of(aggregate);
+    }
+
+    @Override
+    public void save(@Nonnull E aggregate) throws AggregateVersionConflictException {
+        if (!aggregate.hasUncommitedChanges()) {
+            return;
+        }
+        eventStore.append(
+                aggregate.getId(), aggregate.getVersion(), aggregate.getUncommittedChanges());
+    }
+
+    /**
+     * Creates an aggregate with no state at {@code version}, ready for {@link #replay}. Must queue
+     * no uncommitted events — chain to {@code AggregateRoot(id, version)}.
+     */
+    @Nonnull
+    protected abstract E instantiate(@Nonnull I id, int version);
+
+    /** Folds one historical event into {@code aggregate}'s state without recording it. */
+    protected abstract void replay(@Nonnull E aggregate, @Nonnull IDomainEvent event);
+}
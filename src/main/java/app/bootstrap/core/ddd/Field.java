@@ -0,0 +1,105 @@
+/*
+ * App Bootstrap Core
+ * Copyright (C) 2026
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package app.bootstrap.core.ddd;
+
+import jakarta.annotation.Nonnull;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * A named, comparable attribute of a candidate — the building block of {@link FieldSpecification}s
+ * that a store can translate into index lookups instead of evaluating them row by row.
+ *
+ * <p>The {@code name} is the contract with the store: an indexed store maps it to one of its
+ * indexes, so two fields with the same name must read the same attribute. The {@code accessor} is
+ * what in-memory evaluation uses, and must agree with what the store indexes.
+ *
+ * <pre>{@code
+ * static final Field<UserView, Integer> AGE = Field.of("age", UserView::age);
+ *
+ * ISpecification<UserView> adults = AGE.ge(18);
+ * }</pre>
+ *
+ * @param name the attribute name stores index by
+ * @param accessor reads the attribute from a candidate; may return {@code null}, which no field
+ *     specification matches
+ */
+public record Field<T, V extends Comparable<? super V>>(
+        @Nonnull String name, @Nonnull Function<? super T, ? extends V> accessor) {
+
+    public Field {
+        Objects.requireNonNull(name, "name");
+        Objects.requireNonNull(accessor, "accessor");
+    }
+
+    @Nonnull
+    public static <T, V extends Comparable<? super V>> Field<T, V> of(
+            @Nonnull String name, @Nonnull Function<? super T, ? extends V> accessor) {
+        return new Field<>(name, accessor);
+    }
+
+    public V valueOf(T candidate) {
+        return accessor.apply(candidate);
+    }
+
+    @Nonnull
+    public FieldSpecification<T, V> eq(@Nonnull V value) {
+        return new FieldSpecification<>(this, FieldSpecification.Operator.EQ, List.of(value));
+    }
+
+    @SafeVarargs
+    @Nonnull
+    public final FieldSpecification<T, V> in(@Nonnull V... values) {
+        return new FieldSpecification<>(this, FieldSpecification.Operator.IN, List.of(values));
+    }
+
+    @Nonnull
+    public FieldSpecification<T, V> lt(@Nonnull V value) {
+        return new FieldSpecification<>(this, FieldSpecification.Operator.LT, List.of(value));
+    }
+
+    @Nonnull
+    public FieldSpecification<T, V> le(@Nonnull V value) {
+        return new FieldSpecification<>(this, FieldSpecification.Operator.LE, List.of(value));
+    }
+
+    @Nonnull
+    public FieldSpecification<T, V> gt(@Nonnull V value) {
+        return new FieldSpecification<>(this, FieldSpecification.Operator.GT, List.of(value));
+    }
+
+    @Nonnull
+    public FieldSpecification<T, V> ge(@Nonnull V value) {
+        return new FieldSpecification<>(this, FieldSpecification.Operator.GE, List.of(value));
+    }
+
+    /** Inclusive at both ends. */
+    @Nonnull
+    public FieldSpecification<T, V> between(@Nonnull V from, @Nonnull V to) {
+        return new FieldSpecification<>(
+                this, FieldSpecification.Operator.BETWEEN, List.of(from, to));
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * App Bootstrap Core
+ * Copyright (C) 2026
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package app.bootstrap.core.ddd;
+
+import jakarta.annotation.Nonnull;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * A comparison of one {@link Field} against constants — the leaf of the inspectable specification
+ * form. Combined with {@link AndSpecification}, {@link OrSpecification} and {@link
+ * NotSpecification} it makes a predicate tree that a store can read and {@linkplain
+ * SpecificationPlan#split plan} against its indexes, while {@link #isSatisfiedBy} keeps it usable
+ * in memory like any other specification.
+ *
+ * <p>Built through {@link Field}: {@code AGE.between(18, 65)}, {@code STATUS.in(ACTIVE, TRIAL)}.
+ *
+ * @param field the compared attribute
+ * @param operator the comparison
+ * @param values the constants: one for the comparisons, two (inclusive bounds) for {@link
+ *     Operator#BETWEEN}, one or more for {@link Operator#IN}
+ */
+public record FieldSpecification<T, V extends Comparable<? super V>>(
+        @Nonnull Field<T, V> field, @Nonnull Operator operator, @Nonnull List<V> values)
+        implements ISpecification<T> {
+
+    public enum Operator {
+        EQ,
+        IN,
+        LT,
+        LE,
+        GT,
+        GE,
+        BETWEEN
+    }
+
+    public FieldSpecification {
+        Objects.requireNonNull(field, "field");
+        Objects.requireNonNull(operator, "operator");
+        values = List.copyOf(values);
+        final boolean arityOk =
+                switch (operator) {
+                    case IN -> !values.isEmpty();
+                    case BETWEEN -> values.size() == 2;
+                    default -> values.size() == 1;
+                };
+        if (!arityOk) {
+            throw new IllegalArgumentException(
+                    operator + " does not take " + values.size() + " value(s)");
+        }
+    }
+
+    /** The single constant of a comparison, or the lower bound of {@link Operator#BETWEEN}. */
+    @Nonnull
+    public V value() {
+        return values.get(0);
+    }
+
+    @Override
+    public boolean isSatisfiedBy(T candidate) {
+        final V actual = field.valueOf(candidate);
+        if (actual == null) {
+            return false;
+        }
+        return switch (operator) {
+            case EQ -> actual.compareTo(value()) == 0;
+            case IN -> values.stream().anyMatch(v -> actual.compareTo(v) == 0);
+            case LT -> actual.compareTo(value()) < 0;
+            case LE -> actual.compareTo(value()) <= 0;
+            case GT -> actual.compareTo(value()) > 0;
+            case GE -> actual.compareTo(value()) >= 0;
+            case BETWEEN ->
+                    actual.compareTo(values.get(0)) >= 0 && actual.compareTo(values.get(1)) <= 0;
+        };
+    }
+
+    @Override
+    public String toString() {
+        return field.name()
+                + ' '
+                + operator.name().toLowerCase(Locale.ROOT)
+                + ' '
+                + (values.size() == 1 ? values.get(0) : values);
+    }
+}
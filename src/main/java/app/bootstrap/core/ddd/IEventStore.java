@@ -0,0 +1,107 @@
+/*
+ * App Bootstrap Core
+ * Copyright (C) 2026
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package app.bootstrap.core.ddd;
+
+import jakarta.annotation.Nonnull;
+import java.util.List;
+
+/**
+ * Append-only store of the {@link IDomainEvent}s each aggregate has emitted, organised as one
+ * stream per aggregate id — the persistence port behind {@link EventSourcedRepository}.
+ *
+ * <p>A stream advances in <em>commits</em>: every {@link #append} adds the events of one save and
+ * bumps the stream version by exactly one, mirroring {@link AggregateRoot}'s "one save = one new
+ * version" rule. The stream version is therefore directly comparable with {@link
+ * AggregateRoot#getVersion()}, which is what makes the optimistic-concurrency check a plain integer
+ * comparison.
+ *
+ * <p>Besides the per-aggregate streams, the store keeps one global order of everything appended,
+ * read with {@link #readAll}.
+ *
+ * <p>Implementations back this with durable storage — an events table with a unique {@code
+ * (aggregate_id, version)} constraint, or an append-only log with a per-stream index.
+ */
+public interface IEventStore {
+
+    /**
+     * Appends the events of one save to the aggregate's stream.
+     *
+     * @param aggregateId the stream to append to
+     * @param expectedVersion the stream version the caller read — {@link
+     *     AggregateRoot#getVersion()} of the aggregate being saved; {@code 0} for a new aggregate
+     * @param events the events of this save, in the order they were applied
+     * @throws AggregateVersionConflictException if the stream has moved past {@code
+     *     expectedVersion} since it was read; nothing is appended
+     */
+    void append(
+            @Nonnull Id aggregateId,
+            int expectedVersion,
+            @Nonnull List<? extends IDomainEvent> events)
+            throws AggregateVersionConflictException;
+
+    /**
+     * Reads the events committed after {@code afterVersion}, oldest first, together with the
+     * stream's current version. An unknown aggregate yields version {@code 0} and no events.
+     *
+     * @param aggregateId the stream to read
+     * @param afterVersion skip every commit up to and including this version; {@code 0} reads the
+     *     whole stream
+     */
+    @Nonnull
+    EventStream read(@Nonnull Id aggregateId, int afterVersion);
+
+    /**
+     * Reads events across all streams in the order they were appended — the feed a projection
+     * rebuild or a catch-up subscriber replays. Every event has a global {@link
+     * StoredEvent#position() position}, starting at {@code 0} and increasing by one per event; to
+     * continue where a batch ended, pass the last position plus one.
+     *
+     * @param fromPosition the first global position to return
+     * @param limit the maximum number of events to return
+     */
+    @Nonnull
+    List<StoredEvent> readAll(long fromPosition, int limit);
+
+    /**
+     * A slice of one aggregate's stream.
+     *
+     * @param aggregateId the stream that was read
+     * @param version the stream's current version, whatever slice was requested
+     * @param events the events of the requested slice, oldest first
+     */
+    record EventStream(@Nonnull Id aggregateId, int version, @Nonnull List<IDomainEvent> events) {
+
+        /** Whether the aggregate has never been saved. */
+        public boolean isEmpty() {
+            return version == 0;
+        }
+    }
+
+    /**
+     * One event as seen by a global {@link #readAll} read.
+     *
+     * @param position the event's position in the global append order
+     * @param aggregateId the stream the event belongs to
+     * @param version the stream version of the commit that appended the event
+     * @param event the event itself
+     */
+    record StoredEvent(
+            long position, @Nonnull Id aggregateId, int version, @Nonnull IDomainEvent event) {}
+}
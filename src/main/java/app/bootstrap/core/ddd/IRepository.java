@@ -26,7 +26,13 @@ public interface IRepository<I extends Id, E extends Entity<I>> {
     @Nonnull
     Optional<E> read(@Nonnull I id);
 
-    void save(@Nonnull E entity);
+    /**
+     * Persists {@code entity}.
+     *
+     * @throws AggregateVersionConflictException if the store holds a newer version than the one the
+     *     entity was read at (optimistic-locking conflict); nothing is written
+     */
+    void save(@Nonnull E entity) throws AggregateVersionConflictException;
 
     void delete(@Nonnull I id);
 }
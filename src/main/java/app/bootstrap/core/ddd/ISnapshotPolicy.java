@@ -0,0 +1,66 @@
+/*
+ * App Bootstrap Core
+ * Copyright (C) 2026
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package app.bootstrap.core.ddd;
+
+import java.time.Duration;
+
+/**
+ * Decides, after an {@link EventSourcedRepository} has rebuilt an aggregate, whether the replay was
+ * expensive enough to be worth a fresh snapshot.
+ */
+@FunctionalInterface
+public interface ISnapshotPolicy {
+
+    /**
+     * Returns whether to snapshot the state a load has just rebuilt.
+     *
+     * @param replayedEvents the number of events replayed on top of the last snapshot (or from the
+     *     start of the stream when there was none)
+     * @param replayNanos the wall time the load took, snapshot restore included
+     * @return {@code true} to snapshot the freshly loaded state
+     */
+    boolean shouldSnapshot(int replayedEvents, long replayNanos);
+
+    /** Snapshot once a load had to replay at least {@code events} events. */
+    static ISnapshotPolicy everyEvents(int events) {
+        if (events < 1) {
+            throw new IllegalArgumentException("events must be positive");
+        }
+        return (replayedEvents, replayNanos) -> replayedEvents >= events;
+    }
+
+    /** Snapshot once a load took longer than {@code cost}, however many events it replayed. */
+    static ISnapshotPolicy replayCostAbove(Duration cost) {
+        final long threshold = cost.toNanos();
+        return (replayedEvents, replayNanos) -> replayedEvents > 0 && replayNanos > threshold;
+    }
+
+    /** Never snapshot. */
+    static ISnapshotPolicy never() {
+        return (replayedEvents, replayNanos) -> false;
+    }
+
+    /** Snapshot when either this policy or {@code other} asks for it. */
+    default ISnapshotPolicy or(ISnapshotPolicy other) {
+        return (replayedEvents, replayNanos) ->
+                shouldSnapshot(replayedEvents, replayNanos)
+                        || other.shouldSnapshot(replayedEvents, replayNanos);
+    }
+}
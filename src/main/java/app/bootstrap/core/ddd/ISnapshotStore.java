@@ -0,0 +1,52 @@
+/*
+ * App Bootstrap Core
+ * Copyright (C) 2026
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package app.bootstrap.core.ddd;
+
+import jakarta.annotation.Nonnull;
+import java.util.Optional;
+
+/**
+ * Keeps the latest {@link Snapshot} per aggregate so an {@link EventSourcedRepository} can start
+ * replay from it instead of from the first event.
+ *
+ * <p>Snapshots are a cache over the event stream, never the source of truth: losing one only costs
+ * a longer replay. Implementations may therefore write them outside the command's transaction and
+ * keep just the newest snapshot per aggregate.
+ *
+ * @param <S> the snapshot state type
+ */
+public interface ISnapshotStore<S> {
+
+    @Nonnull
+    Optional<Snapshot<S>> load(@Nonnull Id aggregateId);
+
+    /** Stores {@code snapshot}, replacing any older one for the same aggregate. */
+    void save(@Nonnull Snapshot<S> snapshot);
+
+    /**
+     * The captured state of one aggregate at a given stream version.
+     *
+     * @param aggregateId the aggregate the state belongs to
+     * @param version the stream version the state reflects
+     * @param state the aggregate's state, in whatever shape the repository chose
+     * @param <S> the snapshot state type
+     */
+    record Snapshot<S>(@Nonnull Id aggregateId, int version, @Nonnull S state) {}
+}
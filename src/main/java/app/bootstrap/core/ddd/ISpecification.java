@@ -1,6 +1,6 @@
 /*
  * App Bootstrap Core
- * Copyright (C) 2025
+ * Copyright (C) 2026
  *
  * Licensed to the Apache Software Foundation (ASF) under one or more
  * contributor license agreements.  See the NOTICE file distributed with
@@ -19,18 +19,54 @@
  */
 package app.bootstrap.core.ddd;
 
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * A business rule as a predicate over candidates, composable with {@link #and}, {@link #or} and
+ * {@link #not}.
+ *
+ * <p>Composition builds inspectable nodes — {@link AndSpecification}, {@link OrSpecification} and
+ * {@link NotSpecification} — with chains of the same operator flattened into one node. To evaluate
+ * a composed rule against many candidates, {@linkplain CompiledSpecification#compile compile} it.
+ *
+ * <p>The bulk methods ({@link #filter}, {@link #partition}, {@link #count}, {@link #anyMatch},
+ * {@link #allMatch}) go through {@link SpecificationEvaluator#defaults()}, which fans large
+ * collections out over the common fork-join pool; use a {@link SpecificationEvaluator} directly for
+ * streams, another pool or threshold.
+ */
 public interface ISpecification<T> {
     boolean isSatisfiedBy(T candidate);
 
     default ISpecification<T> and(ISpecification<T> other) {
-        return candidate -> this.isSatisfiedBy(candidate) && other.isSatisfiedBy(candidate);
+        return AndSpecification.of(this, other);
     }
 
     default ISpecification<T> or(ISpecification<T> other) {
-        return candidate -> this.isSatisfiedBy(candidate) || other.isSatisfiedBy(candidate);
+        return OrSpecification.of(this, other);
     }
 
     default ISpecification<T> not() {
-        return candidate -> !this.isSatisfiedBy(candidate);
+        return NotSpecification.of(this);
+    }
+
+    default List<T> filter(Collection<? extends T> candidates) {
+        return SpecificationEvaluator.defaults().filter(this, candidates.spliterator());
+    }
+
+    default SpecificationEvaluator.Partition<T> partition(Collection<? extends T> candidates) {
+        return SpecificationEvaluator.defaults().partition(this, candidates.spliterator());
+    }
+
+    default long count(Collection<? extends T> candidates) {
+        return SpecificationEvaluator.defaults().count(this, candidates.spliterator());
+    }
+
+    default boolean anyMatch(Collection<? extends T> candidates) {
+        return SpecificationEvaluator.defaults().anyMatch(this, candidates.spliterator());
+    }
+
+    default boolean allMatch(Collection<? extends T> candidates) {
+        return SpecificationEvaluator.defaults().allMatch(this, candidates.spliterator());
     }
 }
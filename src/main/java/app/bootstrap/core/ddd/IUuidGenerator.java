@@ -0,0 +1,57 @@
+/*
+ * App Bootstrap Core
+ * Copyright (C) 2026
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package app.bootstrap.core.ddd;
+
+import jakarta.annotation.Nonnull;
+import java.util.UUID;
+
+/**
+ * Source of the UUIDs behind event ids ({@link DomainEvent}) and generated aggregate ids ({@link
+ * Id}).
+ *
+ * <p>The library default is {@link TimeOrderedUuidGenerator}: UUIDv7 values whose leading bits are
+ * the creation time, generated from per-thread state without locks. To replace it process-wide,
+ * register an implementation (with a public no-arg constructor) in {@code
+ * META-INF/services/app.bootstrap.core.ddd.IUuidGenerator}; the first one found wins. To replace it
+ * for one event or id type, pass a generator to the {@code DomainEvent} or {@code Id} constructor
+ * that takes one.
+ */
+@FunctionalInterface
+public interface IUuidGenerator {
+
+    /** Returns a new UUID. Must be safe to call from any number of threads at once. */
+    @Nonnull
+    UUID next();
+
+    /**
+     * The process-wide generator: the first {@link java.util.ServiceLoader} registration, or {@link
+     * TimeOrderedUuidGenerator} when there is none. Resolved once, on first use.
+     */
+    @Nonnull
+    static IUuidGenerator getDefault() {
+        return DefaultUuidGenerator.INSTANCE;
+    }
+
+    /** Random (version 4) UUIDs from {@link UUID#randomUUID()} — the pre-v7 behaviour. */
+    @Nonnull
+    static IUuidGenerator random() {
+        return UUID::randomUUID;
+    }
+}
@@ -29,6 +29,16 @@ public abstract class Id {
         this.uuid = uuid;
     }
 
+    /** Creates a new id from {@link IUuidGenerator#getDefault()}. */
+    protected Id() {
+        this(IUuidGenerator.getDefault());
+    }
+
+    /** Creates a new id from {@code generator}, e.g. for id types that want random UUIDs. */
+    protected Id(@Nonnull IUuidGenerator generator) {
+        this(generator.next());
+    }
+
     @Nonnull
     public UUID getUuid() {
         return uuid;
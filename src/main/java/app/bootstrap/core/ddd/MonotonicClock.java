@@ -0,0 +1,152 @@
+/*
+ * App Bootstrap Core
+ * Copyright (C) 2026
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package app.bootstrap.core.ddd;
+
+import jakarta.annotation.Nonnull;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * A wall clock derived from {@link System#nanoTime()} plus an offset to UTC, and strictly
+ * increasing per thread.
+ *
+ * <p>Reading it costs one {@code nanoTime} call and an addition, with no system wall-clock read.
+ * The offset is re-measured against {@link Clock#systemUTC()} at most once per resync interval, by
+ * whichever thread first notices it is due, so the clock follows NTP adjustments without drifting.
+ *
+ * <p>Every thread sees strictly increasing instants: if a resync moves the clock back, or two reads
+ * land on the same nanosecond, the thread's next instant is its previous one plus a nanosecond.
+ * Events emitted in a burst by one aggregate therefore keep their order when sorted by timestamp.
+ * Across threads, instants are ordered only as far as the underlying clocks are.
+ *
+ * <p>{@link #utc()} is the default clock of {@link DomainEvent}.
+ */
+public final class MonotonicClock extends Clock {
+    private static final Duration DEFAULT_RESYNC = Duration.ofSeconds(1);
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+    private static final MonotonicClock UTC =
+            new MonotonicClock(new Source(DEFAULT_RESYNC), ZoneOffset.UTC);
+
+    /** An offset to UTC and the {@code nanoTime} it was measured at, published together. */
+    private record Sync(long offsetNanos, long syncedAt) {
+        static Sync measure(long now) {
+            final Instant wall = Clock.systemUTC().instant();
+            return new Sync(wall.getEpochSecond() * NANOS_PER_SECOND + wall.getNano() - now, now);
+        }
+    }
+
+    /** Offset and per-thread high-water marks, shared by every zone view of one clock. */
+    private static final class Source {
+        private final long resyncNanos;
+        private final ThreadLocal<long[]> last =
+                ThreadLocal.withInitial(() -> new long[] {Long.MIN_VALUE});
+        private final AtomicReference<Sync> sync;
+
+        Source(Duration resyncInterval) {
+            this.resyncNanos = resyncInterval.toNanos();
+            this.sync = new AtomicReference<>(Sync.measure(System.nanoTime()));
+        }
+
+        long epochNanos() {
+            final long now = System.nanoTime();
+            Sync current = sync.get();
+            if (now - current.syncedAt() >= resyncNanos) {
+                // only the thread that wins the swap installs its measurement; the rest adopt it
+                final Sync fresh = Sync.measure(now);
+                current = sync.compareAndSet(current, fresh) ? fresh : sync.get();
+            }
+            final long[] previous = last.get();
+            final long candidate = now + current.offsetNanos();
+            final long next = candidate > previous[0] ? candidate : previous[0] + 1;
+            previous[0] = next;
+            return next;
+        }
+    }
+
+    @Nonnull private final Source source;
+    @Nonnull private final ZoneId zone;
+
+    private MonotonicClock(@Nonnull Source source, @Nonnull ZoneId zone) {
+        this.source = source;
+        this.zone = zone;
+    }
+
+    /** The shared UTC clock, resynchronised with the system clock every second. */
+    @Nonnull
+    public static MonotonicClock utc() {
+        return UTC;
+    }
+
+    /** A new UTC clock with its own offset, resynchronised every {@code resyncInterval}. */
+    @Nonnull
+    public static MonotonicClock create(@Nonnull Duration resyncInterval) {
+        if (resyncInterval.isNegative()) {
+            throw new IllegalArgumentException("resyncInterval must not be negative");
+        }
+        return new MonotonicClock(new Source(resyncInterval), ZoneOffset.UTC);
+    }
+
+    @Nonnull
+    @Override
+    public ZoneId getZone() {
+        return zone;
+    }
+
+    /** A view of this clock in {@code zone}; it shares the offset and the per-thread ordering. */
+    @Nonnull
+    @Override
+    public Clock withZone(@Nonnull ZoneId zone) {
+        return zone.equals(this.zone) ? this : new MonotonicClock(source, zone);
+    }
+
+    @Nonnull
+    @Override
+    public Instant instant() {
+        final long nanos = source.epochNanos();
+        return Instant.ofEpochSecond(
+                Math.floorDiv(nanos, NANOS_PER_SECOND), Math.floorMod(nanos, NANOS_PER_SECOND));
+    }
+
+    @Override
+    public long millis() {
+        return Math.floorDiv(source.epochNanos(), 1_000_000L);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof MonotonicClock other
+                && source == other.source
+                && zone.equals(other.zone);
+    }
+
+    @Override
+    public int hashCode() {
+        return System.identityHashCode(source) ^ zone.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "MonotonicClock[" + zone + "]";
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ * App Bootstrap Core
+ * Copyright (C) 2026
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package app.bootstrap.core.ddd;
+
+import jakarta.annotation.Nonnull;
+
+/**
+ * Satisfied when its operand is not. Built by {@link ISpecification#not()}, which cancels double
+ * negation: {@code spec.not().not()} is {@code spec} itself.
+ *
+ * @param operand the negated specification
+ */
+public record NotSpecification<T>(@Nonnull ISpecification<T> operand) implements ISpecification<T> {
+
+    /** The negation of {@code specification}, unwrapping it if it is a negation already. */
+    @Nonnull
+    public static <T> ISpecification<T> of(@Nonnull ISpecification<T> specification) {
+        return specification instanceof NotSpecification<T> not
+                ? not.operand()
+                : new NotSpecification<>(specification);
+    }
+
+    @Override
+    public boolean isSatisfiedBy(T candidate) {
+        return !operand.isSatisfiedBy(candidate);
+    }
+}
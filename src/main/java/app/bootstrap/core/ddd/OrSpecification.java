@@ -0,0 +1,72 @@
+/*
+ * App Bootstrap Core
+ * Copyright (C) 2026
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package app.bootstrap.core.ddd;
+
+import jakarta.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Satisfied when any of its operands is, evaluated left to right with short-circuiting. Built by
+ * {@link ISpecification#or}, which flattens chains — {@code a.or(b).or(c)} is one {@code
+ * OrSpecification} of three operands, not a nest of two — so evaluation is a loop rather than a
+ * recursion, and the tree can be inspected and {@linkplain CompiledSpecification compiled}.
+ *
+ * @param operands the operands, in evaluation order
+ */
+public record OrSpecification<T>(@Nonnull List<ISpecification<T>> operands)
+        implements ISpecification<T> {
+
+    public OrSpecification {
+        operands = List.copyOf(operands);
+        if (operands.size() < 2) {
+            throw new IllegalArgumentException("an or needs at least two operands");
+        }
+    }
+
+    /** The or of {@code left} and {@code right}, splicing in the operands of nested ors. */
+    @Nonnull
+    public static <T> OrSpecification<T> of(
+            @Nonnull ISpecification<T> left, @Nonnull ISpecification<T> right) {
+        final List<ISpecification<T>> operands = new ArrayList<>();
+        addFlattened(operands, left);
+        addFlattened(operands, right);
+        return new OrSpecification<>(operands);
+    }
+
+    private static <T> void addFlattened(
+            List<ISpecification<T>> operands, ISpecification<T> specification) {
+        if (specification instanceof OrSpecification<T> nested) {
+            operands.addAll(nested.operands());
+        } else {
+            operands.add(specification);
+        }
+    }
+
+    @Override
+    public boolean isSatisfiedBy(T candidate) {
+        for (final ISpecification<T> operand : operands) {
+            if (operand.isSatisfiedBy(candidate)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,367 @@
+/*
+ * App Bootstrap Core
+ * Copyright (C) 2026
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package app.bootstrap.core.ddd;
+
+import jakarta.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.concurrent.CountedCompleter;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Evaluates an {@link ISpecification} against many candidates at once, in parallel on a {@link
+ * ForkJoinPool} when the input is large enough to pay for it.
+ *
+ * <p>Inputs are {@link Spliterator}s — a {@link Collection}'s or a {@code Stream}'s — with a known
+ * size below the {@linkplain #threshold() threshold} evaluated sequentially on the calling thread.
+ * Larger inputs are split with {@link Spliterator#trySplit()} into leaves of a few per worker; each
+ * leaf collects into its own list or counter and the results are merged in encounter order, so
+ * {@link #filter} and {@link #partition} return candidates in the same order as a sequential loop.
+ * {@link #count} sums primitive {@code long}s throughout.
+ *
+ * <p>{@link #anyMatch} and {@link #allMatch} stop early: once one leaf finds a decisive candidate,
+ * the others stop at their next element and unstarted leaves are skipped.
+ *
+ * <p>The specification must be safe to call from several threads. Compiling it first with {@link
+ * CompiledSpecification} composes well with bulk evaluation.
+ */
+public final class SpecificationEvaluator {
+
+    /** Candidates below this size are not worth the fork-join overhead. */
+    public static final int DEFAULT_THRESHOLD = 2048;
+
+    private static final SpecificationEvaluator DEFAULT =
+            new SpecificationEvaluator(ForkJoinPool.commonPool(), DEFAULT_THRESHOLD);
+
+    /** Candidates split by outcome, each list unmodifiable and in encounter order. */
+    public record Partition<T>(@Nonnull List<T> satisfied, @Nonnull List<T> unsatisfied) {}
+
+    private final ForkJoinPool pool;
+    private final int threshold;
+
+    private SpecificationEvaluator(ForkJoinPool pool, int threshold) {
+        this.pool = pool;
+        this.threshold = threshold;
+    }
+
+    /** Common pool, {@link #DEFAULT_THRESHOLD}. */
+    @Nonnull
+    public static SpecificationEvaluator defaults() {
+        return DEFAULT;
+    }
+
+    /**
+     * An evaluator that fans inputs of at least {@code threshold} candidates out over {@code pool}.
+     *
+     * @param pool where parallel evaluations run
+     * @param threshold minimum known input size evaluated in parallel; {@link Integer#MAX_VALUE}
+     *     keeps every evaluation sequential
+     */
+    @Nonnull
+    public static SpecificationEvaluator create(@Nonnull ForkJoinPool pool, int threshold) {
+        Objects.requireNonNull(pool, "pool");
+        if (threshold < 1) {
+            throw new IllegalArgumentException("threshold must be positive");
+        }
+        return new SpecificationEvaluator(pool, threshold);
+    }
+
+    public int threshold() {
+        return threshold;
+    }
+
+    /** The satisfying candidates, unmodifiable and in encounter order. */
+    @Nonnull
+    public <T> List<T> filter(
+            @Nonnull ISpecification<? super T> specification,
+            @Nonnull Spliterator<? extends T> candidates) {
+        return Collections.unmodifiableList(
+                evaluate(new FilterTask<T>(null, specification, candidates, 0)).satisfied);
+    }
+
+    @Nonnull
+    public <T> Partition<T> partition(
+            @Nonnull ISpecification<? super T> specification,
+            @Nonnull Spliterator<? extends T> candidates) {
+        final FilterTask<T> root =
+                evaluate(new FilterTask<T>(null, specification, candidates, 0, true));
+        return new Partition<>(
+                Collections.unmodifiableList(root.satisfied),
+                Collections.unmodifiableList(root.unsatisfied));
+    }
+
+    public <T> long count(
+            @Nonnull ISpecification<? super T> specification,
+            @Nonnull Spliterator<? extends T> candidates) {
+        return evaluate(new CountTask<T>(null, specification, candidates, 0)).count;
+    }
+
+    public <T> boolean anyMatch(
+            @Nonnull ISpecification<? super T> specification,
+            @Nonnull Spliterator<? extends T> candidates) {
+        return search(specification, candidates, true);
+    }
+
+    public <T> boolean allMatch(
+            @Nonnull ISpecification<? super T> specification,
+            @Nonnull Spliterator<? extends T> candidates) {
+        return !search(specification, candidates, false);
+    }
+
+    /** Whether any candidate evaluates to {@code decisive}. */
+    private <T> boolean search(
+            ISpecification<? super T> specification,
+            Spliterator<? extends T> candidates,
+            boolean decisive) {
+        return evaluate(
+                        new SearchTask<T>(
+                                null, specification, candidates, 0, decisive, new AtomicBoolean()))
+                .found();
+    }
+
+    private <K extends Task<?, K>> K evaluate(K root) {
+        final long size = root.candidates.getExactSizeIfKnown();
+        if (size < threshold || pool.getParallelism() == 1) {
+            root.leaf();
+            return root;
+        }
+        root.leafSize = Math.max(1, size / (pool.getParallelism() * 4L));
+        pool.invoke(root);
+        return root;
+    }
+
+    /**
+     * Splits its candidates until a piece is at most {@link #leafSize}, evaluates leaves with
+     * {@link #leaf()} and folds children into parents with {@link #merge} on completion.
+     */
+    private abstract static class Task<T, K extends Task<T, K>> extends CountedCompleter<Void> {
+        final ISpecification<? super T> specification;
+        final Spliterator<? extends T> candidates;
+        long leafSize;
+        K left;
+        K right;
+
+        Task(
+                Task<T, K> parent,
+                ISpecification<? super T> specification,
+                Spliterator<? extends T> candidates,
+                long leafSize) {
+            super(parent);
+            this.specification = specification;
+            this.candidates = candidates;
+            this.leafSize = leafSize;
+        }
+
+        abstract K child(Spliterator<? extends T> part);
+
+        abstract void leaf();
+
+        abstract void merge(K left, K right);
+
+        boolean cancelled() {
+            return false;
+        }
+
+        @Override
+        public final void compute() {
+            if (cancelled()) {
+                tryComplete();
+                return;
+            }
+            final Spliterator<? extends T> prefix =
+                    candidates.estimateSize() > leafSize ? candidates.trySplit() : null;
+            if (prefix != null) {
+                left = child(prefix);
+                right = child(candidates);
+                setPendingCount(1);
+                right.fork();
+                left.compute();
+                return;
+            }
+            leaf();
+            tryComplete();
+        }
+
+        @Override
+        public final void onCompletion(CountedCompleter<?> caller) {
+            if (left != null) {
+                merge(left, right);
+                left = null;
+                right = null;
+            }
+        }
+    }
+
+    private static final class FilterTask<T> extends Task<T, FilterTask<T>> {
+        private final boolean keepUnsatisfied;
+        List<T> satisfied = List.of();
+        List<T> unsatisfied = List.of();
+
+        FilterTask(
+                FilterTask<T> parent,
+                ISpecification<? super T> specification,
+                Spliterator<? extends T> candidates,
+                long leafSize) {
+            this(parent, specification, candidates, leafSize, false);
+        }
+
+        FilterTask(
+                FilterTask<T> parent,
+                ISpecification<? super T> specification,
+                Spliterator<? extends T> candidates,
+                long leafSize,
+                boolean keepUnsatisfied) {
+            super(parent, specification, candidates, leafSize);
+            this.keepUnsatisfied = keepUnsatisfied;
+        }
+
+        @Override
+        FilterTask<T> child(Spliterator<? extends T> part) {
+            return new FilterTask<>(this, specification, part, leafSize, keepUnsatisfied);
+        }
+
+        @Override
+        void leaf() {
+            final List<T> yes = new ArrayList<>();
+            final List<T> no = keepUnsatisfied ? new ArrayList<>() : null;
+            candidates.forEachRemaining(
+                    candidate -> {
+                        if (specification.isSatisfiedBy(candidate)) {
+                            yes.add(candidate);
+                        } else if (no != null) {
+                            no.add(candidate);
+                        }
+                    });
+            satisfied = yes;
+            if (no != null) {
+                unsatisfied = no;
+            }
+        }
+
+        @Override
+        void merge(FilterTask<T> left, FilterTask<T> right) {
+            satisfied = concat(left.satisfied, right.satisfied);
+            unsatisfied = concat(left.unsatisfied, right.unsatisfied);
+        }
+
+        private static <T> List<T> concat(List<T> first, List<T> second) {
+            if (second.isEmpty()) {
+                return first;
+            }
+            if (first.isEmpty()) {
+                return second;
+            }
+            final List<T> merged = new ArrayList<>(first.size() + second.size());
+            merged.addAll(first);
+            merged.addAll(second);
+            return merged;
+        }
+    }
+
+    private static final class CountTask<T> extends Task<T, CountTask<T>> {
+        long count;
+
+        CountTask(
+                CountTask<T> parent,
+                ISpecification<? super T> specification,
+                Spliterator<? extends T> candidates,
+                long leafSize) {
+            super(parent, specification, candidates, leafSize);
+        }
+
+        @Override
+        CountTask<T> child(Spliterator<? extends T> part) {
+            return new CountTask<>(this, specification, part, leafSize);
+        }
+
+        @Override
+        void leaf() {
+            final long[] n = new long[1];
+            candidates.forEachRemaining(
+                    candidate -> {
+                        if (specification.isSatisfiedBy(candidate)) {
+                            n[0]++;
+                        }
+                    });
+            count = n[0];
+        }
+
+        @Override
+        void merge(CountTask<T> left, CountTask<T> right) {
+            count = left.count + right.count;
+        }
+    }
+
+    private static final class SearchTask<T> extends Task<T, SearchTask<T>> {
+        private final boolean decisive;
+        private final AtomicBoolean found;
+
+        SearchTask(
+                SearchTask<T> parent,
+                ISpecification<? super T> specification,
+                Spliterator<? extends T> candidates,
+                long leafSize,
+                boolean decisive,
+                AtomicBoolean found) {
+            super(parent, specification, candidates, leafSize);
+            this.decisive = decisive;
+            this.found = found;
+        }
+
+        @Override
+        SearchTask<T> child(Spliterator<? extends T> part) {
+            return new SearchTask<>(this, specification, part, leafSize, decisive, found);
+        }
+
+        /** Whether any leaf met a decisive candidate; shared by the whole task tree. */
+        boolean found() {
+            return found.get();
+        }
+
+        @Override
+        boolean cancelled() {
+            return found.get();
+        }
+
+        @Override
+        void leaf() {
+            // tryAdvance rather than forEachRemaining so a hit elsewhere stops this leaf too
+            while (!found.get()
+                    && candidates.tryAdvance(
+                            candidate -> {
+                                if (specification.isSatisfiedBy(candidate) == decisive) {
+                                    found.set(true);
+                                }
+                            })) {
+                // keep going
+            }
+        }
+
+        @Override
+        void merge(SearchTask<T> left, SearchTask<T> right) {
+            // the shared flag is the result
+        }
+    }
+}
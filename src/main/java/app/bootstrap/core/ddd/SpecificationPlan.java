@@ -0,0 +1,117 @@
+/*
+ * App Bootstrap Core
+ * Copyright (C) 2026
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package app.bootstrap.core.ddd;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * A specification split into the part a store answers from its indexes and the part left for
+ * in-memory evaluation. A store runs {@link #pushdown()} as index lookups and range scans, loads
+ * only the rows it selects, and filters those through {@link #residual()}; the result is exactly
+ * the candidates satisfying the original specification.
+ *
+ * <p>{@link #split} walks the {@link AndSpecification} / {@link OrSpecification} / {@link
+ * NotSpecification} tree down to its leaves and asks {@code supported} about each {@link
+ * FieldSpecification}; every other leaf (a lambda, a hand-written rule) is residual.
+ *
+ * <ul>
+ *   <li>An and pushes down every operand it can and keeps the rest as residual.
+ *   <li>An or pushes down whole when every operand does. When every operand pushes down at least
+ *       partly, the or of those parts is pushed down as a superset and the whole or is residual.
+ *       Otherwise — one operand needs a full scan — nothing is pushed down.
+ *   <li>A not pushes down only when its operand does completely; negating a superset would lose
+ *       rows.
+ * </ul>
+ *
+ * @param pushdown what the store evaluates, or {@code null} for a full scan
+ * @param residual what is evaluated in memory over the selected rows, or {@code null} when the
+ *     pushdown is exact
+ */
+public record SpecificationPlan<T>(
+        @Nullable ISpecification<T> pushdown, @Nullable ISpecification<T> residual) {
+
+    /** Plans {@code specification} for a store that can evaluate the {@code supported} leaves. */
+    @Nonnull
+    public static <T> SpecificationPlan<T> split(
+            @Nonnull ISpecification<T> specification,
+            @Nonnull Predicate<? super FieldSpecification<T, ?>> supported) {
+        if (specification instanceof FieldSpecification<T, ?> leaf) {
+            return supported.test(leaf)
+                    ? new SpecificationPlan<>(leaf, null)
+                    : new SpecificationPlan<>(null, leaf);
+        }
+        if (specification instanceof AndSpecification<T> and) {
+            final List<ISpecification<T>> pushed = new ArrayList<>();
+            final List<ISpecification<T>> residual = new ArrayList<>();
+            for (final ISpecification<T> operand : and.operands()) {
+                final SpecificationPlan<T> plan = split(operand, supported);
+                if (plan.pushdown() != null) {
+                    pushed.add(plan.pushdown());
+                }
+                if (plan.residual() != null) {
+                    residual.add(plan.residual());
+                }
+            }
+            return new SpecificationPlan<>(and(pushed), and(residual));
+        }
+        if (specification instanceof OrSpecification<T> or) {
+            final List<ISpecification<T>> pushed = new ArrayList<>();
+            boolean exact = true;
+            for (final ISpecification<T> operand : or.operands()) {
+                final SpecificationPlan<T> plan = split(operand, supported);
+                if (plan.pushdown() == null) {
+                    return new SpecificationPlan<>(null, or);
+                }
+                pushed.add(plan.pushdown());
+                exact &= plan.residual() == null;
+            }
+            return new SpecificationPlan<>(new OrSpecification<>(pushed), exact ? null : or);
+        }
+        if (specification instanceof NotSpecification<T> not) {
+            final SpecificationPlan<T> plan = split(not.operand(), supported);
+            return plan.isExact()
+                    ? new SpecificationPlan<>(not, null)
+                    : new SpecificationPlan<>(null, not);
+        }
+        return new SpecificationPlan<>(null, specification);
+    }
+
+    /** Whether the store answers the specification alone, with nothing left to filter. */
+    public boolean isExact() {
+        return pushdown != null && residual == null;
+    }
+
+    /** Whether the store has to visit every row. */
+    public boolean isFullScan() {
+        return pushdown == null;
+    }
+
+    @Nullable private static <T> ISpecification<T> and(List<ISpecification<T>> operands) {
+        return switch (operands.size()) {
+            case 0 -> null;
+            case 1 -> operands.get(0);
+            default -> new AndSpecification<>(operands);
+        };
+    }
+}
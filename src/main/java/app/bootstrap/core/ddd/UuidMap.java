@@ -0,0 +1,309 @@
+/*
+ * App Bootstrap Core
+ * Copyright (C) 2026
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package app.bootstrap.core.ddd;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import java.util.AbstractCollection;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * A hash map from {@link UUID} (and so from {@link Id}) keys to values, for in-memory stores that
+ * hold many entries.
+ *
+ * <p>A {@code HashMap<Id, V>} pays for three objects per key: the map node, the {@code Id} and the
+ * {@code UUID} it wraps. This map stores each key as two {@code long}s in parallel primitive arrays
+ * and resolves collisions by linear probing, so an entry costs 16 bytes of key plus one value
+ * reference, at a load factor of at most 3/4. Keys given as {@code (msb, lsb)} pairs — e.g. read
+ * straight out of a file — are never materialised as {@code UUID}s. Removal shifts later entries of
+ * the probe run back instead of leaving tombstones, so lookups stay short under churn.
+ *
+ * <p>{@code null} values are not allowed. Iteration order is unspecified, and the views are not
+ * fail-fast: do not modify the map while iterating it. Not thread-safe; stores guard it with their
+ * own lock.
+ *
+ * @param <V> the value type
+ */
+public final class UuidMap<V> {
+    private static final int MIN_CAPACITY = 16;
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    private long[] msbs;
+    private long[] lsbs;
+    private Object[] values;
+    private int mask;
+    private int resizeAt;
+    private int size;
+
+    /** An empty map with room for a few entries. */
+    public UuidMap() {
+        this(0);
+    }
+
+    /** An empty map that holds {@code expectedSize} entries without resizing. */
+    public UuidMap(int expectedSize) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException(
+                    "expectedSize must not be negative: " + expectedSize);
+        }
+        allocate(capacityFor(expectedSize));
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public boolean containsKey(@Nonnull UUID key) {
+        return find(key.getMostSignificantBits(), key.getLeastSignificantBits()) >= 0;
+    }
+
+    @Nullable public V get(@Nonnull UUID key) {
+        return get(key.getMostSignificantBits(), key.getLeastSignificantBits());
+    }
+
+    /** {@link #get(UUID)} for a key given as its two halves. */
+    @Nullable public V get(long msb, long lsb) {
+        final int index = find(msb, lsb);
+        return index >= 0 ? valueAt(index) : null;
+    }
+
+    /** Associates {@code value} with {@code key}; returns the previous value, if any. */
+    @Nullable public V put(@Nonnull UUID key, @Nonnull V value) {
+        return put(key.getMostSignificantBits(), key.getLeastSignificantBits(), value);
+    }
+
+    /** {@link #put(UUID, Object)} for a key given as its two halves. */
+    @Nullable public V put(long msb, long lsb, @Nonnull V value) {
+        Objects.requireNonNull(value, "value");
+        final int index = find(msb, lsb);
+        if (index >= 0) {
+            final V previous = valueAt(index);
+            values[index] = value;
+            return previous;
+        }
+        insert(-index - 1, msb, lsb, value);
+        return null;
+    }
+
+    /** Associates {@code value} with {@code key} unless a value is present; returns that value. */
+    @Nullable public V putIfAbsent(@Nonnull UUID key, @Nonnull V value) {
+        Objects.requireNonNull(value, "value");
+        final long msb = key.getMostSignificantBits();
+        final long lsb = key.getLeastSignificantBits();
+        final int index = find(msb, lsb);
+        if (index >= 0) {
+            return valueAt(index);
+        }
+        insert(-index - 1, msb, lsb, value);
+        return null;
+    }
+
+    /** Returns the value for {@code key}, first computing and storing it if absent. */
+    @Nonnull
+    public V computeIfAbsent(
+            @Nonnull UUID key, @Nonnull Function<? super UUID, ? extends V> mapping) {
+        final long msb = key.getMostSignificantBits();
+        final long lsb = key.getLeastSignificantBits();
+        final int index = find(msb, lsb);
+        if (index >= 0) {
+            return valueAt(index);
+        }
+        final V value = Objects.requireNonNull(mapping.apply(key), "computed value");
+        insert(-find(msb, lsb) - 1, msb, lsb, value); // the mapping may have changed the table
+        return value;
+    }
+
+    /** Removes {@code key}; returns its value, if it was present. */
+    @Nullable public V remove(@Nonnull UUID key) {
+        return remove(key.getMostSignificantBits(), key.getLeastSignificantBits());
+    }
+
+    /** {@link #remove(UUID)} for a key given as its two halves. */
+    @Nullable public V remove(long msb, long lsb) {
+        final int index = find(msb, lsb);
+        if (index < 0) {
+            return null;
+        }
+        final V previous = valueAt(index);
+        delete(index);
+        return previous;
+    }
+
+    public void clear() {
+        Arrays.fill(values, null);
+        size = 0;
+    }
+
+    /** Calls {@code action} for every entry; each key is materialised as a {@link UUID}. */
+    public void forEach(@Nonnull BiConsumer<? super UUID, ? super V> action) {
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] != null) {
+                action.accept(new UUID(msbs[i], lsbs[i]), valueAt(i));
+            }
+        }
+    }
+
+    /** A read-only view of the values, iterated without creating key objects. */
+    @Nonnull
+    public Collection<V> values() {
+        return new AbstractCollection<>() {
+            @Override
+            public Iterator<V> iterator() {
+                return new Iterator<>() {
+                    private int next = advance(0);
+
+                    private int advance(int from) {
+                        int i = from;
+                        while (i < values.length && values[i] == null) {
+                            i++;
+                        }
+                        return i;
+                    }
+
+                    @Override
+                    public boolean hasNext() {
+                        return next < values.length;
+                    }
+
+                    @Override
+                    public V next() {
+                        if (!hasNext()) {
+                            throw new NoSuchElementException();
+                        }
+                        final V value = valueAt(next);
+                        next = advance(next + 1);
+                        return value;
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    // ---- probing -----------------------------------------------------------------------------
+
+    /** The slot holding the key, or {@code -(free slot) - 1} where it would be inserted. */
+    private int find(long msb, long lsb) {
+        for (int i = home(msb, lsb); ; i = (i + 1) & mask) {
+            if (values[i] == null) {
+                return -i - 1;
+            }
+            if (msbs[i] == msb && lsbs[i] == lsb) {
+                return i;
+            }
+        }
+    }
+
+    private void insert(int index, long msb, long lsb, V value) {
+        msbs[index] = msb;
+        lsbs[index] = lsb;
+        values[index] = value;
+        if (++size > resizeAt) {
+            rehash(values.length * 2);
+        }
+    }
+
+    /** Empties {@code hole}, then shifts back every later entry of its run that may move. */
+    private void delete(int index) {
+        int hole = index;
+        values[hole] = null;
+        size--;
+        for (int i = (hole + 1) & mask; values[i] != null; i = (i + 1) & mask) {
+            final int home = home(msbs[i], lsbs[i]);
+            // the entry may fill the hole only if the hole lies on its probe path
+            if (((i - home) & mask) >= ((i - hole) & mask)) {
+                msbs[hole] = msbs[i];
+                lsbs[hole] = lsbs[i];
+                values[hole] = values[i];
+                values[i] = null;
+                hole = i;
+            }
+        }
+    }
+
+    private int home(long msb, long lsb) {
+        // UUIDv7 keys share their leading bits, so mix both halves thoroughly
+        long h = msb ^ Long.rotateLeft(lsb, 32);
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return (int) h & mask;
+    }
+
+    private void rehash(int capacity) {
+        if (capacity > MAX_CAPACITY) {
+            throw new IllegalStateException(
+                    "UuidMap cannot grow beyond " + MAX_CAPACITY + " slots");
+        }
+        final long[] oldMsbs = msbs;
+        final long[] oldLsbs = lsbs;
+        final Object[] oldValues = values;
+        allocate(capacity);
+        for (int i = 0; i < oldValues.length; i++) {
+            if (oldValues[i] != null) {
+                int j = home(oldMsbs[i], oldLsbs[i]);
+                while (values[j] != null) {
+                    j = (j + 1) & mask;
+                }
+                msbs[j] = oldMsbs[i];
+                lsbs[j] = oldLsbs[i];
+                values[j] = oldValues[i];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        msbs = new long[capacity];
+        lsbs = new long[capacity];
+        values = new Object[capacity];
+        mask = capacity - 1;
+        resizeAt = capacity / 4 * 3;
+    }
+
+    private static int capacityFor(int expectedSize) {
+        final long needed = (long) expectedSize * 4 / 3 + 1;
+        if (needed > MAX_CAPACITY) {
+            throw new IllegalArgumentException("expectedSize too large: " + expectedSize);
+        }
+        return Math.max(MIN_CAPACITY, Integer.highestOneBit((int) needed - 1) << 1);
+    }
+
+    @SuppressWarnings("unchecked")
+    private V valueAt(int index) {
+        return (V) values[index];
+    }
+}
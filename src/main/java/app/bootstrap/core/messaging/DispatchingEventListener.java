@@ -0,0 +1,226 @@
+/*
+ * App Bootstrap Core
+ * Copyright (C) 2026
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package app.bootstrap.core.messaging;
+
+import jakarta.annotation.Nonnull;
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * One listener for an object with several {@link Handles} methods, replacing an {@code instanceof}
+ * chain in {@code handleEvent} with a table lookup and a direct call.
+ *
+ * <p>Each {@code @Handles} method is bound once, when the listener is built, into its own {@link
+ * IEventListener} through {@link LambdaMetafactory} — the same mechanism as a method reference — so
+ * invoking it is an ordinary interface call with no reflection. On the first event of each concrete
+ * class the listener collects the bound handlers whose parameter type accepts it, most specific
+ * type first (the class itself, then its interfaces, then its superclass, recursively; handlers for
+ * one type by method name), and caches that array for the class. Events no method accepts are
+ * ignored.
+ *
+ * <p>Subscribe it with {@link IEventBus#subscribeAll} so each event is delivered once and the
+ * listener's own table does the routing, or subscribe it per {@linkplain #handledTypes() handled
+ * type} on a bus that routes by type itself.
+ *
+ * <p>Handler methods may be private and inherited; an overriding method replaces the one it
+ * overrides. A private method is never overridden, so a subclass method of the same name and
+ * parameter type is bound next to it. Building the listener needs private access to the declaring
+ * classes: {@link #of(Object)} has it on the class path, {@link #of(Object, MethodHandles.Lookup)}
+ * takes the caller's lookup for modular code.
+ */
+public final class DispatchingEventListener implements IEventListener<IEvent> {
+
+    private static final IEventListener<?>[] NONE = new IEventListener<?>[0];
+
+    private final Object target;
+    private final Map<Class<?>, List<IEventListener<IEvent>>> byType;
+    private final Map<Class<?>, IEventListener<?>[]> table = new ConcurrentHashMap<>();
+
+    private DispatchingEventListener(
+            Object target, Map<Class<?>, List<IEventListener<IEvent>>> byType) {
+        this.target = target;
+        this.byType = byType;
+    }
+
+    /** Binds the {@link Handles} methods of {@code target}. */
+    @Nonnull
+    public static DispatchingEventListener of(@Nonnull Object target) {
+        return of(target, MethodHandles.lookup());
+    }
+
+    /**
+     * Binds the {@link Handles} methods of {@code target}, using {@code lookup} to gain private
+     * access to the classes declaring them.
+     *
+     * @throws IllegalArgumentException if {@code target} has no handler methods, or one is static,
+     *     does not return {@code void}, or does not take exactly one {@link IEvent} parameter
+     */
+    @Nonnull
+    public static DispatchingEventListener of(
+            @Nonnull Object target, @Nonnull MethodHandles.Lookup lookup) {
+        final Map<Class<?>, List<IEventListener<IEvent>>> byType = new LinkedHashMap<>();
+        final Map<String, List<Method>> bound = new HashMap<>();
+        for (Class<?> type = target.getClass(); type != null; type = type.getSuperclass()) {
+            final Method[] methods = type.getDeclaredMethods();
+            Arrays.sort(methods, Comparator.comparing(Method::getName));
+            for (final Method method : methods) {
+                if (method.isSynthetic() || !method.isAnnotationPresent(Handles.class)) {
+                    continue;
+                }
+                final Class<?> eventType = validate(method);
+                final List<Method> same =
+                        bound.computeIfAbsent(
+                                method.getName() + ':' + eventType.getName(),
+                                k -> new ArrayList<>());
+                if (same.stream().anyMatch(sub -> overrides(sub, method))) {
+                    continue;
+                }
+                same.add(method);
+                byType.computeIfAbsent(eventType, t -> new ArrayList<>())
+                        .add(bind(target, method, eventType, lookup));
+            }
+        }
+        if (byType.isEmpty()) {
+            throw new IllegalArgumentException(
+                    target.getClass().getName() + " has no @Handles methods");
+        }
+        return new DispatchingEventListener(target, byType);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void handleEvent(@Nonnull IEvent event) throws Exception {
+        IEventListener<?>[] handlers = table.get(event.getClass());
+        if (handlers == null) {
+            handlers = table.computeIfAbsent(event.getClass(), this::resolve);
+        }
+        for (final IEventListener<?> handler : handlers) {
+            ((IEventListener<IEvent>) handler).handleEvent(event);
+        }
+    }
+
+    /** The parameter types of the handler methods. */
+    @Nonnull
+    @SuppressWarnings("unchecked")
+    public Set<Class<? extends IEvent>> handledTypes() {
+        final Set<Class<? extends IEvent>> types = new HashSet<>();
+        byType.keySet().forEach(type -> types.add((Class<? extends IEvent>) type));
+        return Set.copyOf(types);
+    }
+
+    /** Whether some handler method accepts events of {@code type}. */
+    public boolean handles(@Nonnull Class<? extends IEvent> type) {
+        return table.computeIfAbsent(type, this::resolve).length > 0;
+    }
+
+    @Nonnull
+    public Object target() {
+        return target;
+    }
+
+    /** The bound handlers accepting {@code eventClass}, most specific parameter type first. */
+    private IEventListener<?>[] resolve(Class<?> eventClass) {
+        final List<IEventListener<IEvent>> handlers = new ArrayList<>();
+        final Set<Class<?>> visited = new HashSet<>();
+        final Deque<Class<?>> pending = new ArrayDeque<>();
+        pending.add(eventClass);
+        while (!pending.isEmpty()) {
+            final Class<?> type = pending.poll();
+            if (!visited.add(type)) {
+                continue;
+            }
+            handlers.addAll(byType.getOrDefault(type, List.of()));
+            pending.addAll(Arrays.asList(type.getInterfaces()));
+            if (type.getSuperclass() != null) {
+                pending.add(type.getSuperclass());
+            }
+        }
+        return handlers.isEmpty() ? NONE : handlers.toArray(NONE);
+    }
+
+    private static Class<?> validate(Method method) {
+        final Class<?>[] parameters = method.getParameterTypes();
+        if (Modifier.isStatic(method.getModifiers())
+                || method.getReturnType() != void.class
+                || parameters.length != 1
+                || !IEvent.class.isAssignableFrom(parameters[0])) {
+            throw new IllegalArgumentException(
+                    "@Handles method "
+                            + method
+                            + " must be an instance method returning void with one IEvent"
+                            + " parameter");
+        }
+        return parameters[0];
+    }
+
+    /** Whether {@code sub}, of the same signature in a subclass, overrides {@code sup}. */
+    private static boolean overrides(Method sub, Method sup) {
+        final int modifiers = sup.getModifiers();
+        if (Modifier.isPrivate(modifiers) || Modifier.isPrivate(sub.getModifiers())) {
+            return false;
+        }
+        return Modifier.isPublic(modifiers)
+                || Modifier.isProtected(modifiers)
+                || sub.getDeclaringClass()
+                        .getPackageName()
+                        .equals(sup.getDeclaringClass().getPackageName());
+    }
+
+    /** An {@link IEventListener} bound to {@code target} that calls {@code method} directly. */
+    @SuppressWarnings("unchecked")
+    private static IEventListener<IEvent> bind(
+            Object target, Method method, Class<?> eventType, MethodHandles.Lookup caller) {
+        try {
+            final MethodHandles.Lookup lookup =
+                    MethodHandles.privateLookupIn(method.getDeclaringClass(), caller);
+            final MethodHandle implementation = lookup.unreflect(method);
+            final CallSite site =
+                    LambdaMetafactory.metafactory(
+                            lookup,
+                            "handleEvent",
+                            MethodType.methodType(IEventListener.class, method.getDeclaringClass()),
+                            MethodType.methodType(void.class, IEvent.class),
+                            implementation,
+                            MethodType.methodType(void.class, eventType));
+            return (IEventListener<IEvent>) site.getTarget().invoke(target);
+        } catch (Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalArgumentException("cannot bind @Handles method " + method, e);
+        }
+    }
+}
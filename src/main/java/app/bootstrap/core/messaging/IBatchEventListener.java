@@ -0,0 +1,44 @@
+/*
+ * App Bootstrap Core
+ * Copyright (C) 2026
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package app.bootstrap.core.messaging;
+
+import jakarta.annotation.Nonnull;
+import java.util.List;
+
+/**
+ * An {@link IEventListener} that can take several events in one call, such as a projector that
+ * writes a whole commit's updates in one store round trip.
+ *
+ * <p>{@link IEventBus#publishAll} hands a batch listener every event of the batch it matches, in
+ * publish order, as one list; {@link IEventBus#publish} hands it a list of one. The list is only
+ * valid during the call, because an aggregate's commit reuses its buffer: a listener that keeps the
+ * events must copy them.
+ *
+ * @param <E> the event type handled
+ */
+public interface IBatchEventListener<E extends IEvent> extends IEventListener<E> {
+
+    void handleEvents(@Nonnull List<? extends E> events) throws Exception;
+
+    @Override
+    default void handleEvent(@Nonnull E event) throws Exception {
+        handleEvents(List.of(event));
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * App Bootstrap Core
+ * Copyright (C) 2026
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package app.bootstrap.core.messaging;
+
+import jakarta.annotation.Nonnull;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * An {@link IOutbox} that hands each batch to one relay at a time, so relay instances can scale out
+ * without coordinating among themselves.
+ *
+ * <p>{@link #claim} selects the oldest unpublished events that no live lease holds and leases them
+ * to the caller, atomically. A lease ends in one of three ways:
+ *
+ * <ul>
+ *   <li>{@link #markPublished} acknowledges the events after they are published.
+ *   <li>{@link #release} gives them back early, for example after a failed publish.
+ *   <li>It expires, and the events are claimable again. That is how the events of a relay that
+ *       crashed are picked up by another.
+ * </ul>
+ *
+ * <p>A relay that outlives its lease may publish events another relay has claimed since, so
+ * delivery stays at least once. Choose a lease comfortably longer than a publish. {@link
+ * #fetchUnpublished} still returns every unpublished event, leased or not.
+ *
+ * <p>A SQL implementation is an {@code UPDATE ... SET lease_token = ?, lease_until = ?} over the
+ * rows selected with {@code lease_until IS NULL OR lease_until < now()}, using {@code FOR UPDATE
+ * SKIP LOCKED}.
+ */
+public interface IClaimableOutbox extends IOutbox {
+
+    /**
+     * Leases up to {@code limit} of the oldest unpublished events that are not under a live lease,
+     * oldest first.
+     *
+     * @param limit the maximum number of events to claim; must be non-negative
+     * @param lease how long the claim holds before its events become claimable again
+     * @return the claim, possibly empty; its token identifies the lease
+     */
+    @Nonnull
+    Claim claim(int limit, @Nonnull Duration lease);
+
+    /**
+     * Ends the lease on the claim's events that are still unpublished and still held by its token,
+     * making them claimable at once. Releasing an expired or acknowledged claim is a no-op.
+     */
+    void release(@Nonnull Claim claim);
+
+    /**
+     * Events leased to one caller.
+     *
+     * @param token identifies the lease; a later claim of the same events gets a new token
+     * @param events the leased events, oldest first
+     * @param expiresAt when the events become claimable again unless acknowledged or released
+     */
+    record Claim(@Nonnull UUID token, @Nonnull List<IEvent> events, @Nonnull Instant expiresAt) {
+
+        public Claim {
+            events = List.copyOf(events);
+        }
+
+        /** The ids to {@link IOutbox#markPublished acknowledge} once the events are published. */
+        @Nonnull
+        public List<UUID> eventIds() {
+            final List<UUID> ids = new ArrayList<>(events.size());
+            for (final IEvent event : events) {
+                ids.add(event.getEventId());
+            }
+            return ids;
+        }
+
+        public boolean isEmpty() {
+            return events.isEmpty();
+        }
+    }
+}
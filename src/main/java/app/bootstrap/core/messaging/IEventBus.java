@@ -20,6 +20,7 @@
 package app.bootstrap.core.messaging;
 
 import jakarta.annotation.Nonnull;
+import java.util.List;
 
 public interface IEventBus {
 
@@ -34,4 +35,18 @@ public interface IEventBus {
     void unsubscribeAll(@Nonnull IEventListener<? super IEvent> listener);
 
     void publish(@Nonnull IEvent event);
+
+    /**
+     * Publishes {@code events}, typically everything one aggregate commit recorded: {@code
+     * aggregate.commit(bus::publishAll)}. Every listener receives the events it matches in publish
+     * order, and an {@link IBatchEventListener} may receive them as one list. The default publishes
+     * them one by one. A bus that overrides it may look up the listeners once per event class and
+     * deliver listener by listener instead of event by event, so only the order per listener is
+     * guaranteed.
+     */
+    default void publishAll(@Nonnull List<? extends IEvent> events) {
+        for (final IEvent event : events) {
+            publish(event);
+        }
+    }
 }
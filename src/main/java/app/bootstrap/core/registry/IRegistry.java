@@ -0,0 +1,39 @@
+/*
+ * App Bootstrap Core
+ * Copyright (C) 2026
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package app.bootstrap.core.registry;
+
+import jakarta.annotation.Nonnull;
+import java.util.List;
+
+/**
+ * A registration table generated at compile time by the {@link RegistryProcessor}: every {@link
+ * Registered} handler with the messages it handles, and the catalogue of {@link
+ * app.bootstrap.core.ddd.BusinessRules @BusinessRules}. One implementation is generated per
+ * compilation and listed in {@code META-INF/services}; {@link Registries#load()} finds it without
+ * scanning the classpath.
+ */
+public interface IRegistry {
+
+    @Nonnull
+    List<Registration> registrations();
+
+    @Nonnull
+    List<RuleEntry> rules();
+}
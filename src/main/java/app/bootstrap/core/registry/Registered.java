@@ -0,0 +1,53 @@
+/*
+ * App Bootstrap Core
+ * Copyright (C) 2026
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package app.bootstrap.core.registry;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a handler, projector or event handler for compile-time registration. The {@link
+ * RegistryProcessor} records it in the generated {@link IRegistry} together with the message types
+ * it handles, so bootstrap can {@linkplain Registries#wire wire} it without classpath scanning.
+ *
+ * <p>The message type is read from the handler's type argument — {@code IQueryHandler<GetUser,
+ * UserDto>} handles {@code GetUser}, {@code IProjector<UserRenamed>} handles {@code UserRenamed}.
+ * Plain {@link app.bootstrap.core.cqrs.ICommandHandler ICommandHandler}s have no type argument and
+ * must list their commands; any handler may list message types to override what is inferred:
+ *
+ * <pre>{@code
+ * @Registered({RegisterUser.class, RenameUser.class})
+ * public final class UserCommandHandler extends CommandHandler<UserId, User> { ... }
+ * }</pre>
+ *
+ * <p>The class must be concrete and, like the message types, visible from the package of the
+ * generated registry.
+ */
+@Documented
+@Retention(RetentionPolicy.CLASS)
+@Target(ElementType.TYPE)
+public @interface Registered {
+
+    /** The handled message types; empty to infer them from the type arguments. */
+    Class<?>[] value() default {};
+}
@@ -0,0 +1,54 @@
+/*
+ * App Bootstrap Core
+ * Copyright (C) 2026
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package app.bootstrap.core.registry;
+
+import jakarta.annotation.Nonnull;
+import java.util.Objects;
+
+/**
+ * One row of a generated registration table: {@code handler} handles {@code message} in the role
+ * {@code kind}.
+ *
+ * @param kind which bus the handler belongs on
+ * @param handler the {@link Registered} class
+ * @param message the command, query or event type it handles
+ */
+public record Registration(
+        @Nonnull Kind kind, @Nonnull Class<?> handler, @Nonnull Class<?> message) {
+
+    public enum Kind {
+        /** An {@link app.bootstrap.core.cqrs.ICommandHandler} on the command bus. */
+        COMMAND,
+        /** An {@link app.bootstrap.core.cqrs.IResultCommandHandler} on the command bus. */
+        RESULT_COMMAND,
+        /** An {@link app.bootstrap.core.cqrs.IQueryHandler} on the query bus. */
+        QUERY,
+        /** An {@link app.bootstrap.core.cqrs.IProjector} subscribed on the event bus. */
+        PROJECTOR,
+        /** An {@link app.bootstrap.core.cqrs.IEventHandler} subscribed on the event bus. */
+        EVENT_HANDLER
+    }
+
+    public Registration {
+        Objects.requireNonNull(kind, "kind");
+        Objects.requireNonNull(handler, "handler");
+        Objects.requireNonNull(message, "message");
+    }
+}
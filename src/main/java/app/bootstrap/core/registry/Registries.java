@@ -0,0 +1,145 @@
+/*
+ * App Bootstrap Core
+ * Copyright (C) 2026
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package app.bootstrap.core.registry;
+
+import app.bootstrap.core.cqrs.ICommand;
+import app.bootstrap.core.cqrs.ICommandBus;
+import app.bootstrap.core.cqrs.ICommandHandler;
+import app.bootstrap.core.cqrs.IQuery;
+import app.bootstrap.core.cqrs.IQueryBus;
+import app.bootstrap.core.cqrs.IQueryHandler;
+import app.bootstrap.core.cqrs.IResultCommand;
+import app.bootstrap.core.cqrs.IResultCommandHandler;
+import app.bootstrap.core.messaging.IEvent;
+import app.bootstrap.core.messaging.IEventBus;
+import app.bootstrap.core.messaging.IEventListener;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.ServiceLoader;
+import java.util.function.Function;
+
+/**
+ * Bootstrap helpers for generated {@link IRegistry} tables: {@link #load} them, then {@link #wire}
+ * the handlers they list onto the buses.
+ *
+ * <p>Handler instances come from the caller — typically the DI container's lookup by type — since
+ * handlers take their buses and repositories as constructor arguments the table cannot supply.
+ */
+public final class Registries {
+
+    private Registries() {}
+
+    /** Every registry listed in {@code META-INF/services} on the context class loader. */
+    @Nonnull
+    public static List<IRegistry> load() {
+        return load(Thread.currentThread().getContextClassLoader());
+    }
+
+    @Nonnull
+    public static List<IRegistry> load(@Nullable ClassLoader loader) {
+        return ServiceLoader.load(IRegistry.class, loader).stream()
+                .map(ServiceLoader.Provider::get)
+                .toList();
+    }
+
+    /**
+     * Registers every row of {@code registry} on its bus. Each handler class is resolved through
+     * {@code instances} once, however many messages it handles. A handler of {@link IEvent} itself
+     * is subscribed to all events.
+     *
+     * @param commandBus receives command and result-command handlers; may be {@code null} if the
+     *     registry has none
+     * @param queryBus receives query handlers; may be {@code null} if the registry has none
+     * @param eventBus receives projectors and event handlers; may be {@code null} if the registry
+     *     has none
+     * @throws IllegalStateException if a row needs a bus that was not given, or {@code instances}
+     *     returns {@code null} or an object of another type
+     */
+    public static void wire(
+            @Nonnull IRegistry registry,
+            @Nonnull Function<? super Class<?>, ?> instances,
+            @Nullable ICommandBus commandBus,
+            @Nullable IQueryBus queryBus,
+            @Nullable IEventBus eventBus) {
+        final Map<Class<?>, Object> resolved = new HashMap<>();
+        for (final Registration row : registry.registrations()) {
+            final Object handler =
+                    resolved.computeIfAbsent(row.handler(), type -> resolve(instances, type));
+            final Class<?> message = row.message();
+            switch (row.kind()) {
+                case COMMAND ->
+                        require(commandBus, row)
+                                .register(
+                                        (ICommandHandler) handler,
+                                        message.asSubclass(ICommand.class));
+                case RESULT_COMMAND -> registerResult(require(commandBus, row), handler, message);
+                case QUERY -> registerQuery(require(queryBus, row), handler, message);
+                case PROJECTOR, EVENT_HANDLER ->
+                        subscribe(require(eventBus, row), handler, message);
+            }
+        }
+    }
+
+    // The casts below are unchecked at run time; the processor checked them at compile time.
+
+    @SuppressWarnings("unchecked")
+    private static <C extends IResultCommand<R>, R> void registerResult(
+            ICommandBus bus, Object handler, Class<?> message) {
+        bus.register(
+                (IResultCommandHandler<C, R>) handler,
+                (Class<? extends IResultCommand<R>>) message);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <Q extends IQuery<R>, R> void registerQuery(
+            IQueryBus bus, Object handler, Class<?> message) {
+        bus.register((IQueryHandler<Q, R>) handler, (Class<? extends IQuery<R>>) message);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <E extends IEvent> void subscribe(
+            IEventBus bus, Object handler, Class<?> message) {
+        if (message == IEvent.class) {
+            bus.subscribeAll((IEventListener<? super IEvent>) handler);
+        } else {
+            bus.subscribe((Class<E>) message, (IEventListener<? super E>) handler);
+        }
+    }
+
+    private static Object resolve(Function<? super Class<?>, ?> instances, Class<?> type) {
+        final Object instance = instances.apply(type);
+        if (!type.isInstance(instance)) {
+            throw new IllegalStateException(
+                    "no instance of " + type.getName() + " (got " + instance + ")");
+        }
+        return instance;
+    }
+
+    private static <B> B require(@Nullable B bus, Registration row) {
+        if (bus == null) {
+            throw new IllegalStateException(
+                    "no bus for " + row.kind() + " registration of " + row.handler().getName());
+        }
+        return bus;
+    }
+}
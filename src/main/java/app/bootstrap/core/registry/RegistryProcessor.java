@@ -0,0 +1,528 @@
+/*
+ * App Bootstrap Core
+ * Copyright (C) 2026
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package app.bootstrap.core.registry;
+
+import app.bootstrap.core.cqrs.ICommand;
+import app.bootstrap.core.cqrs.ICommandHandler;
+import app.bootstrap.core.cqrs.IEventHandler;
+import app.bootstrap.core.cqrs.IProjector;
+import app.bootstrap.core.cqrs.IQuery;
+import app.bootstrap.core.cqrs.IQueryHandler;
+import app.bootstrap.core.cqrs.IResultCommand;
+import app.bootstrap.core.cqrs.IResultCommandHandler;
+import app.bootstrap.core.ddd.BusinessRules;
+import app.bootstrap.core.messaging.IEvent;
+import jakarta.annotation.Nullable;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.annotation.processing.SupportedOptions;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
+
+/**
+ * Generates the {@link IRegistry} of a compilation: one {@code GeneratedRegistry} class holding
+ * every {@link Registered} handler with its message types as class literals, plus the catalogue of
+ * {@link BusinessRules @BusinessRules} annotations, and the {@code META-INF/services} entry that
+ * lets {@link Registries#load()} find it. Bootstrap then needs neither classpath scanning nor
+ * reflection over annotations.
+ *
+ * <p>Only {@link Registered @Registered} triggers generation; a compilation without it gets no
+ * registry, whatever {@code @BusinessRules} it carries. The registry is generated into the longest
+ * package shared by the registered handlers, or into the package given with {@code
+ * -Aapp.bootstrap.registry.package=...}. Handlers and message types must be visible from there.
+ *
+ * <p>Mistakes are compile errors on the annotated class: an abstract or inner class, a class that
+ * is no handler, an {@link ICommandHandler} without listed commands, a message type that cannot be
+ * inferred or that no role of the class accepts.
+ *
+ * <p>The processor is not registered for discovery, so depending on the library never runs it. Opt
+ * in by naming this class with {@code -processor} (the compiler plugin's {@code
+ * annotationProcessors}) or by listing the library in {@code annotationProcessorPaths}.
+ */
+@SupportedAnnotationTypes("app.bootstrap.core.registry.Registered")
+@SupportedOptions(RegistryProcessor.PACKAGE_OPTION)
+public final class RegistryProcessor extends AbstractProcessor {
+
+    /** Overrides the package of the generated registry. */
+    public static final String PACKAGE_OPTION = "app.bootstrap.registry.package";
+
+    /** Simple name of the generated registry class. */
+    public static final String CLASS_NAME = "GeneratedRegistry";
+
+    /** A handler role: the interface that signals it and the base type of what it handles. */
+    private record Role(
+            Registration.Kind kind,
+            Class<?> handlerType,
+            Class<?> messageType,
+            boolean inferable) {}
+
+    private static final List<Role> ROLES =
+            List.of(
+                    new Role(
+                            Registration.Kind.COMMAND,
+                            ICommandHandler.class,
+                            ICommand.class,
+                            false),
+                    new Role(
+                            Registration.Kind.RESULT_COMMAND,
+                            IResultCommandHandler.class,
+                            IResultCommand.class,
+                            true),
+                    new Role(Registration.Kind.QUERY, IQueryHandler.class, IQuery.class, true),
+                    new Role(Registration.Kind.PROJECTOR, IProjector.class, IEvent.class, true),
+                    new Role(
+                            Registration.Kind.EVENT_HANDLER,
+                            IEventHandler.class,
+                            IEvent.class,
+                            true));
+
+    private record Row(Registration.Kind kind, TypeElement handler, TypeElement message) {}
+
+    private final List<Row> rows = new ArrayList<>();
+    private final List<RuleEntry> rules = new ArrayList<>();
+    private final Set<Element> originating = new LinkedHashSet<>();
+    private boolean failed;
+    private boolean written;
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment round) {
+        if (round.processingOver()) {
+            return false;
+        }
+        boolean found = false; // only @Registered triggers generation
+        for (final Element element : round.getElementsAnnotatedWith(Registered.class)) {
+            found = true;
+            if (written) {
+                late(element);
+            } else {
+                collectHandler(element);
+            }
+        }
+        for (final Element element : round.getElementsAnnotatedWith(BusinessRules.class)) {
+            if (written) {
+                late(element);
+            } else {
+                collectRules(element);
+            }
+        }
+        if (found && !written) {
+            written = true;
+            if (!failed) {
+                write();
+            }
+        }
+        // claim nothing: other processors may read the same annotations
+        return false;
+    }
+
+    // --- Collection --------------------------------------------------------------------------
+
+    private void collectHandler(Element element) {
+        if (element.getKind() != ElementKind.CLASS
+                || element.getModifiers().contains(Modifier.ABSTRACT)) {
+            error(element, "@Registered needs a concrete class");
+            return;
+        }
+        final TypeElement type = (TypeElement) element;
+        if (type.getNestingKind() != NestingKind.TOP_LEVEL
+                && !type.getModifiers().contains(Modifier.STATIC)) {
+            error(element, "@Registered needs a top-level or static nested class");
+            return;
+        }
+        final List<TypeElement> listed = listedMessages(type);
+        final Set<TypeElement> used = new LinkedHashSet<>();
+        boolean handler = false;
+        for (final Role role : ROLES) {
+            final TypeElement roleType = typeElement(role.handlerType());
+            if (!isSubtype(type, roleType)) {
+                continue;
+            }
+            handler = true;
+            final TypeElement base = typeElement(role.messageType());
+            final List<TypeElement> messages = new ArrayList<>();
+            for (final TypeElement message : listed) {
+                if (isSubtype(message, base)) {
+                    messages.add(message);
+                }
+            }
+            if (messages.isEmpty()) {
+                final TypeElement inferred = role.inferable() ? typeArgument(type, roleType) : null;
+                if (inferred == null) {
+                    error(
+                            element,
+                            "cannot tell which "
+                                    + base.getSimpleName()
+                                    + " "
+                                    + type.getSimpleName()
+                                    + " handles as "
+                                    + roleType.getSimpleName()
+                                    + "; list it in @Registered");
+                    continue;
+                }
+                messages.add(inferred);
+            }
+            for (final TypeElement message : messages) {
+                rows.add(new Row(role.kind(), type, message));
+                used.add(message);
+            }
+        }
+        if (!handler) {
+            error(element, "@Registered needs a command, query or event handler");
+            return;
+        }
+        for (final TypeElement message : listed) {
+            if (!used.contains(message)) {
+                error(
+                        element,
+                        message.getQualifiedName()
+                                + " is not a message any role of "
+                                + type.getSimpleName()
+                                + " handles");
+            }
+        }
+        originating.add(type);
+    }
+
+    private void collectRules(Element element) {
+        final BusinessRules annotation = element.getAnnotation(BusinessRules.class);
+        rules.add(new RuleEntry(describe(element), List.of(annotation.rules())));
+        originating.add(outermostType(element));
+    }
+
+    /**
+     * The classes listed in {@code @Registered(...)}, read as mirrors since they may not exist yet.
+     */
+    private List<TypeElement> listedMessages(TypeElement type) {
+        final List<TypeElement> listed = new ArrayList<>();
+        for (final AnnotationMirror mirror : type.getAnnotationMirrors()) {
+            if (!((TypeElement) mirror.getAnnotationType().asElement())
+                    .getQualifiedName()
+                    .contentEquals(Registered.class.getCanonicalName())) {
+                continue;
+            }
+            for (final var entry : mirror.getElementValues().entrySet()) {
+                if (!entry.getKey().getSimpleName().contentEquals("value")) {
+                    continue;
+                }
+                @SuppressWarnings("unchecked")
+                final List<? extends AnnotationValue> values =
+                        (List<? extends AnnotationValue>) entry.getValue().getValue();
+                for (final AnnotationValue value : values) {
+                    final TypeMirror mirrored = (TypeMirror) value.getValue();
+                    if (mirrored.getKind() == TypeKind.DECLARED) {
+                        listed.add((TypeElement) ((DeclaredType) mirrored).asElement());
+                    }
+                }
+            }
+        }
+        return listed;
+    }
+
+    /**
+     * The first type argument with which {@code type} implements {@code generic}, walking the
+     * supertypes so that arguments bound by an intermediate base class are resolved. {@code null}
+     * for a raw implementation or one still bound to a type variable.
+     */
+    @Nullable private TypeElement typeArgument(TypeElement type, TypeElement generic) {
+        final Deque<TypeMirror> pending = new ArrayDeque<>();
+        pending.add(type.asType());
+        while (!pending.isEmpty()) {
+            final TypeMirror current = pending.poll();
+            if (current instanceof DeclaredType declared && declared.asElement().equals(generic)) {
+                final List<? extends TypeMirror> arguments = declared.getTypeArguments();
+                if (arguments.isEmpty() || arguments.get(0).getKind() != TypeKind.DECLARED) {
+                    return null;
+                }
+                return (TypeElement) ((DeclaredType) arguments.get(0)).asElement();
+            }
+            pending.addAll(processingEnv.getTypeUtils().directSupertypes(current));
+        }
+        return null;
+    }
+
+    // --- Generation --------------------------------------------------------------------------
+
+    private void write() {
+        final String pkg = targetPackage();
+        for (final Row row : rows) {
+            if (!visibleFrom(row.handler(), pkg) || !visibleFrom(row.message(), pkg)) {
+                error(
+                        row.handler(),
+                        row.handler().getSimpleName()
+                                + " and "
+                                + row.message().getSimpleName()
+                                + " must be visible from package "
+                                + pkg
+                                + " to be registered");
+            }
+        }
+        if (failed) {
+            return;
+        }
+        rows.sort(
+                Comparator.comparing((Row row) -> row.handler().getQualifiedName().toString())
+                        .thenComparing(Row::kind)
+                        .thenComparing(row -> row.message().getQualifiedName().toString()));
+        rules.sort(Comparator.comparing(RuleEntry::element));
+        final String name = pkg.isEmpty() ? CLASS_NAME : pkg + "." + CLASS_NAME;
+        final Element[] origins = originating.toArray(new Element[0]);
+        try {
+            final JavaFileObject source = processingEnv.getFiler().createSourceFile(name, origins);
+            try (Writer out = source.openWriter()) {
+                out.write(source(pkg));
+            }
+            try (Writer out =
+                    processingEnv
+                            .getFiler()
+                            .createResource(
+                                    StandardLocation.CLASS_OUTPUT,
+                                    "",
+                                    "META-INF/services/" + IRegistry.class.getName(),
+                                    origins)
+                            .openWriter()) {
+                out.write(name + "\n");
+            }
+        } catch (IOException e) {
+            processingEnv
+                    .getMessager()
+                    .printMessage(
+                            Diagnostic.Kind.ERROR, "cannot write " + name + ": " + e.getMessage());
+        }
+    }
+
+    private String source(String pkg) {
+        final StringBuilder out = new StringBuilder();
+        if (!pkg.isEmpty()) {
+            out.append("package ").append(pkg).append(";\n\n");
+        }
+        out.append("@javax.annotation.processing.Generated(\"")
+                .append(RegistryProcessor.class.getName())
+                .append("\")\n")
+                .append("public final class ")
+                .append(CLASS_NAME)
+                .append(" implements ")
+                .append(IRegistry.class.getName())
+                .append(" {\n\n");
+        out.append("    private static final java.util.List<")
+                .append(Registration.class.getName())
+                .append("> REGISTRATIONS =\n            java.util.List.of(");
+        out.append(
+                rows.stream()
+                        .map(
+                                row ->
+                                        "\n                    new "
+                                                + Registration.class.getName()
+                                                + "("
+                                                + Registration.Kind.class.getCanonicalName()
+                                                + "."
+                                                + row.kind()
+                                                + ", "
+                                                + row.handler().getQualifiedName()
+                                                + ".class, "
+                                                + row.message().getQualifiedName()
+                                                + ".class)")
+                        .collect(Collectors.joining(",")));
+        out.append(");\n\n");
+        out.append("    private static final java.util.List<")
+                .append(RuleEntry.class.getName())
+                .append("> RULES =\n            java.util.List.of(");
+        final var elements = processingEnv.getElementUtils();
+        out.append(
+                rules.stream()
+                        .map(
+                                rule ->
+                                        "\n                    new "
+                                                + RuleEntry.class.getName()
+                                                + "("
+                                                + elements.getConstantExpression(rule.element())
+                                                + ", java.util.List.of("
+                                                + rule.rules().stream()
+                                                        .map(elements::getConstantExpression)
+                                                        .collect(Collectors.joining(", "))
+                                                + "))")
+                        .collect(Collectors.joining(",")));
+        out.append(");\n\n");
+        out.append("    @Override\n    public java.util.List<")
+                .append(Registration.class.getName())
+                .append("> registrations() {\n        return REGISTRATIONS;\n    }\n\n");
+        out.append("    @Override\n    public java.util.List<")
+                .append(RuleEntry.class.getName())
+                .append("> rules() {\n        return RULES;\n    }\n}\n");
+        return out.toString();
+    }
+
+    /** The option, else the longest package shared by the handlers. */
+    private String targetPackage() {
+        final String option = processingEnv.getOptions().get(PACKAGE_OPTION);
+        if (option != null && !option.isBlank()) {
+            return option.strip();
+        }
+        final List<Element> basis = new ArrayList<>();
+        rows.forEach(row -> basis.add(row.handler()));
+        String common = null;
+        for (final Element element : basis) {
+            final String pkg = packageOf(element);
+            common = common == null ? pkg : commonPackage(common, pkg);
+        }
+        if (common == null || common.isEmpty()) {
+            return basis.isEmpty() ? "" : packageOf(basis.get(0));
+        }
+        return common;
+    }
+
+    private static String commonPackage(String a, String b) {
+        final String[] left = a.split("\\.", -1);
+        final String[] right = b.split("\\.", -1);
+        final StringBuilder common = new StringBuilder();
+        for (int i = 0; i < Math.min(left.length, right.length) && left[i].equals(right[i]); i++) {
+            if (common.length() > 0) {
+                common.append('.');
+            }
+            common.append(left[i]);
+        }
+        return common.toString();
+    }
+
+    private boolean visibleFrom(TypeElement type, String pkg) {
+        for (Element e = type; e instanceof TypeElement t; e = e.getEnclosingElement()) {
+            final NestingKind nesting = t.getNestingKind();
+            if (nesting == NestingKind.LOCAL
+                    || nesting == NestingKind.ANONYMOUS
+                    || t.getModifiers().contains(Modifier.PRIVATE)) {
+                return false;
+            }
+            if (!t.getModifiers().contains(Modifier.PUBLIC) && !packageOf(t).equals(pkg)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // --- Naming ------------------------------------------------------------------------------
+
+    /** The catalogue name of an annotated element; see {@link RuleEntry#element()}. */
+    private String describe(Element element) {
+        return switch (element.getKind()) {
+            case CLASS, INTERFACE, ENUM, RECORD, ANNOTATION_TYPE -> typeName((TypeElement) element);
+            case METHOD, CONSTRUCTOR -> {
+                final ExecutableElement method = (ExecutableElement) element;
+                yield describe(method.getEnclosingElement())
+                        + "#"
+                        + method.getSimpleName()
+                        + method.getParameters().stream()
+                                .map(p -> simpleTypeName(p.asType()))
+                                .collect(Collectors.joining(",", "(", ")"));
+            }
+            case PARAMETER ->
+                    describe(element.getEnclosingElement()) + ":" + element.getSimpleName();
+            default -> describe(element.getEnclosingElement()) + "#" + element.getSimpleName();
+        };
+    }
+
+    private String typeName(TypeElement type) {
+        final String qualified = type.getQualifiedName().toString();
+        return qualified.isEmpty()
+                ? processingEnv.getElementUtils().getBinaryName(type).toString()
+                : qualified;
+    }
+
+    private String simpleTypeName(TypeMirror type) {
+        final TypeMirror erased = processingEnv.getTypeUtils().erasure(type);
+        if (erased instanceof DeclaredType declared) {
+            return declared.asElement().getSimpleName().toString();
+        }
+        if (erased instanceof ArrayType array) {
+            return simpleTypeName(array.getComponentType()) + "[]";
+        }
+        return erased.toString();
+    }
+
+    // --- Helpers -----------------------------------------------------------------------------
+
+    private TypeElement typeElement(Class<?> type) {
+        return processingEnv.getElementUtils().getTypeElement(type.getCanonicalName());
+    }
+
+    private boolean isSubtype(TypeElement type, TypeElement of) {
+        final var types = processingEnv.getTypeUtils();
+        return types.isSubtype(types.erasure(type.asType()), types.erasure(of.asType()));
+    }
+
+    private String packageOf(Element element) {
+        return processingEnv.getElementUtils().getPackageOf(element).getQualifiedName().toString();
+    }
+
+    private static Element outermostType(Element element) {
+        Element type = element;
+        Element current = element;
+        while (current != null && current.getKind() != ElementKind.PACKAGE) {
+            if (current instanceof TypeElement) {
+                type = current;
+            }
+            current = current.getEnclosingElement();
+        }
+        return type;
+    }
+
+    private void late(Element element) {
+        processingEnv
+                .getMessager()
+                .printMessage(
+                        Diagnostic.Kind.WARNING,
+                        "found in a later processing round; not part of the registry generated"
+                                + " in the first",
+                        element);
+    }
+
+    private void error(Element element, String message) {
+        failed = true;
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+}
@@ -0,0 +1,40 @@
+/*
+ * App Bootstrap Core
+ * Copyright (C) 2026
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package app.bootstrap.core.registry;
+
+import jakarta.annotation.Nonnull;
+import java.util.List;
+
+/**
+ * One {@link app.bootstrap.core.ddd.BusinessRules @BusinessRules} annotation in the generated
+ * catalogue.
+ *
+ * @param element where the annotation sits: {@code com.acme.Order} for a type, {@code
+ *     com.acme.Order#confirm(String)} for a method or constructor ({@code <init>}), {@code
+ *     com.acme.Order#status} for a field and {@code com.acme.Order#confirm(String):reason} for a
+ *     parameter
+ * @param rules the declared rules, in declaration order
+ */
+public record RuleEntry(@Nonnull String element, @Nonnull List<String> rules) {
+
+    public RuleEntry {
+        rules = List.copyOf(rules);
+    }
+}
@@ -0,0 +1,230 @@
+/*
+ * App Bootstrap Core
+ * Copyright (C) 2026
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package app.bootstrap.core.cqrs;
+
+import app.bootstrap.core.ddd.AndSpecification;
+import app.bootstrap.core.ddd.Field;
+import app.bootstrap.core.ddd.FieldSpecification;
+import app.bootstrap.core.ddd.ISpecification;
+import app.bootstrap.core.ddd.NotSpecification;
+import app.bootstrap.core.ddd.OrSpecification;
+import app.bootstrap.core.ddd.SpecificationPlan;
+import jakarta.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+/**
+ * Reference {@link ISearchableReadRepository}: rows of one view type kept in memory with a sorted
+ * secondary index per registered {@link Field}, showing how a store executes a {@link
+ * SpecificationPlan}.
+ *
+ * <p>The pushdown part becomes set algebra over index entries — an equality is one lookup, a
+ * comparison or {@code between} a sub-map of the sorted index, {@code and} an intersection, {@code
+ * or} a union, {@code not} the complement against all ids. Only the selected rows are loaded and
+ * run through the residual. {@link #visited()} counts loaded rows, which is what an index saves.
+ *
+ * <p>Rows whose indexed attribute is {@code null} are not indexed; field specifications never match
+ * them, in memory or here. Thread-safe through a single monitor, like the other in-memory
+ * references.
+ *
+ * @param <I> the id type
+ * @param <R> the stored row, which is also the widest view
+ */
+public final class IndexedReadRepository<I, R extends IView<I>>
+        implements ISearchableReadRepository<I> {
+
+    private static final class Index<I> {
+        final Function<Object, ?> accessor;
+        final NavigableMap<Object, Set<I>> entries = new TreeMap<>();
+
+        Index(Function<Object, ?> accessor) {
+            this.accessor = accessor;
+        }
+
+        void add(Object row, I id) {
+            final Object key = accessor.apply(row);
+            if (key != null) {
+                entries.computeIfAbsent(key, k -> new HashSet<>()).add(id);
+            }
+        }
+
+        void remove(Object row, I id) {
+            final Object key = accessor.apply(row);
+            if (key == null) {
+                return;
+            }
+            final Set<I> ids = entries.get(key);
+            if (ids != null && ids.remove(id) && ids.isEmpty()) {
+                entries.remove(key);
+            }
+        }
+
+        Set<I> select(FieldSpecification<?, ?> leaf) {
+            final List<?> values = leaf.values();
+            final Object value = leaf.value();
+            return switch (leaf.operator()) {
+                case EQ -> entries.getOrDefault(value, Set.of());
+                case IN -> {
+                    final Set<I> ids = new HashSet<>();
+                    values.forEach(v -> ids.addAll(entries.getOrDefault(v, Set.of())));
+                    yield ids;
+                }
+                case LT -> union(entries.headMap(value, false).values());
+                case LE -> union(entries.headMap(value, true).values());
+                case GT -> union(entries.tailMap(value, false).values());
+                case GE -> union(entries.tailMap(value, true).values());
+                case BETWEEN -> union(entries.subMap(value, true, values.get(1), true).values());
+            };
+        }
+
+        private static <I> Set<I> union(Collection<Set<I>> parts) {
+            final Set<I> ids = new HashSet<>();
+            parts.forEach(ids::addAll);
+            return ids;
+        }
+    }
+
+    private final Class<R> rowType;
+    private final Map<I, R> rows = new HashMap<>();
+    private final Map<String, Index<I>> indexes = new HashMap<>();
+    private long visited;
+
+    public IndexedReadRepository(@Nonnull Class<R> rowType) {
+        this.rowType = rowType;
+    }
+
+    /** Index {@code field}; rows already stored are indexed immediately. */
+    @Nonnull
+    public synchronized IndexedReadRepository<I, R> index(@Nonnull Field<? super R, ?> field) {
+        final Function<? super R, ?> accessor = field.accessor();
+        final Index<I> index = new Index<>(row -> accessor.apply(rowType.cast(row)));
+        rows.forEach((id, row) -> index.add(row, id));
+        indexes.put(field.name(), index);
+        return this;
+    }
+
+    /** Insert or replace the row with the same id. */
+    public synchronized void put(@Nonnull R row) {
+        final I id = row.getId();
+        final R previous = rows.put(id, row);
+        for (final Index<I> index : indexes.values()) {
+            if (previous != null) {
+                index.remove(previous, id);
+            }
+            index.add(row, id);
+        }
+    }
+
+    public synchronized void remove(@Nonnull I id) {
+        final R previous = rows.remove(id);
+        if (previous != null) {
+            indexes.values().forEach(index -> index.remove(previous, id));
+        }
+    }
+
+    @Nonnull
+    @Override
+    public synchronized <V extends IView<I>> Optional<V> read(
+            @Nonnull I id, @Nonnull Class<V> view) {
+        return Optional.ofNullable(rows.get(id)).map(row -> cast(row, view));
+    }
+
+    @Override
+    public synchronized boolean supports(@Nonnull FieldSpecification<?, ?> leaf) {
+        return indexes.containsKey(leaf.field().name());
+    }
+
+    @Nonnull
+    @Override
+    public synchronized <V extends IView<I>> List<V> find(
+            @Nonnull ISpecification<V> specification, @Nonnull Class<V> view) {
+        final SpecificationPlan<V> plan = SpecificationPlan.split(specification, this::supports);
+        final Collection<I> selected = plan.isFullScan() ? rows.keySet() : select(plan.pushdown());
+        final ISpecification<V> residual = plan.residual();
+        final List<V> found = new ArrayList<>();
+        for (final I id : selected) {
+            final V candidate = cast(rows.get(id), view);
+            visited++;
+            if (residual == null || residual.isSatisfiedBy(candidate)) {
+                found.add(candidate);
+            }
+        }
+        return found;
+    }
+
+    /** Rows loaded by {@link #find} so far. */
+    public synchronized long visited() {
+        return visited;
+    }
+
+    public synchronized int size() {
+        return rows.size();
+    }
+
+    private Set<I> select(ISpecification<?> pushdown) {
+        if (pushdown instanceof FieldSpecification<?, ?> leaf) {
+            return indexes.get(leaf.field().name()).select(leaf);
+        }
+        if (pushdown instanceof AndSpecification<?> and) {
+            // start from the narrowest operand so the intersection shrinks fastest
+            final List<Set<I>> parts = new ArrayList<>();
+            and.operands().forEach(operand -> parts.add(select(operand)));
+            parts.sort((a, b) -> Integer.compare(a.size(), b.size()));
+            final Set<I> ids = new HashSet<>(parts.get(0));
+            for (int i = 1; i < parts.size() && !ids.isEmpty(); i++) {
+                ids.retainAll(parts.get(i));
+            }
+            return ids;
+        }
+        if (pushdown instanceof OrSpecification<?> or) {
+            final Set<I> ids = new LinkedHashSet<>();
+            or.operands().forEach(operand -> ids.addAll(select(operand)));
+            return ids;
+        }
+        if (pushdown instanceof NotSpecification<?> not) {
+            final Set<I> ids = new HashSet<>(rows.keySet());
+            ids.removeAll(select(not.operand()));
+            return ids;
+        }
+        throw new IllegalArgumentException("not an indexable specification: " + pushdown);
+    }
+
+    private <V> V cast(R row, Class<V> view) {
+        if (!view.isInstance(row)) {
+            throw new IllegalArgumentException(
+                    "unsupported view: "
+                            + view.getName()
+                            + " (rows are "
+                            + rowType.getName()
+                            + ")");
+        }
+        return view.cast(row);
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * App Bootstrap Core
+ * Copyright (C) 2026
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package app.bootstrap.core.cqrs;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import app.bootstrap.core.ddd.Field;
+import app.bootstrap.core.ddd.ISpecification;
+import java.util.Comparator;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class IndexedReadRepositoryTest {
+
+    record UserView(String getId, String city, int age, String email) implements IView<String> {}
+
+    /** A view type the repository does not store. */
+    record OtherView(String getId) implements IView<String> {}
+
+    static final Field<UserView, String> CITY = Field.of("city", UserView::city);
+    static final Field<UserView, Integer> AGE = Field.of("age", UserView::age);
+    static final Field<UserView, String> EMAIL = Field.of("email", UserView::email);
+
+    private IndexedReadRepository<String, UserView> repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = new IndexedReadRepository<String, UserView>(UserView.class).index(CITY);
+        repository.index(AGE);
+        // 100 users: cities alternate Berlin/Paris, ages 0..99; email is not indexed
+        for (int i = 0; i < 100; i++) {
+            repository.put(
+                    new UserView(
+                            "u" + i, i % 2 == 0 ? "Berlin" : "Paris", i, "u" + i + "@example.com"));
+        }
+    }
+
+    private List<String> ids(List<UserView> views) {
+        return views.stream()
+                .sorted(Comparator.comparingInt(UserView::age))
+                .map(UserView::getId)
+                .toList();
+    }
+
+    @Test
+    void shouldAnswerAnIndexedRangeWithoutLoadingOtherRows() {
+        final List<UserView> found = repository.find(AGE.between(10, 14), UserView.class);
+
+        assertEquals(List.of("u10", "u11", "u12", "u13", "u14"), ids(found));
+        assertEquals(5, repository.visited());
+    }
+
+    @Test
+    void shouldIntersectIndexedOperandsAndFilterTheResidualInMemory() {
+        final ISpecification<UserView> spec =
+                CITY.eq("Berlin").and(AGE.lt(10)).and(u -> u.email().startsWith("u4"));
+
+        final List<UserView> found = repository.find(spec, UserView.class);
+
+        assertEquals(List.of("u4"), ids(found));
+        assertEquals(5, repository.visited(), "only Berlin users under 10 are loaded");
+    }
+
+    @Test
+    void shouldPushDownDisjunctionsAndNegations() {
+        final ISpecification<UserView> spec =
+                AGE.in(1, 2, 3).or(AGE.ge(98)).and(CITY.eq("Paris").not());
+
+        final List<UserView> found = repository.find(spec, UserView.class);
+
+        assertEquals(List.of("u2", "u98"), ids(found));
+        assertEquals(2, repository.visited());
+    }
+
+    @Test
+    void shouldFallBackToAFullScanWhenAnOperandIsNotIndexed() {
+        final ISpecification<UserView> spec = AGE.eq(7).or(EMAIL.eq("u8@example.com"));
+
+        final List<UserView> found = repository.find(spec, UserView.class);
+
+        assertEquals(List.of("u7", "u8"), ids(found));
+        assertEquals(100, repository.visited());
+    }
+
+    @Test
+    void shouldKeepIndexesInStepWithReplacedAndRemovedRows() {
+        repository.put(new UserView("u0", "Rome", 0, "u0@example.com"));
+        repository.remove("u2");
+
+        assertEquals(
+                List.of("u4"),
+                ids(repository.find(CITY.eq("Berlin").and(AGE.le(4)), UserView.class)));
+        assertEquals(List.of("u0"), ids(repository.find(CITY.eq("Rome"), UserView.class)));
+        assertEquals(99, repository.size());
+    }
+
+    @Test
+    void shouldIndexRowsStoredBeforeTheIndexWasAdded() {
+        repository.index(EMAIL);
+
+        final List<UserView> found = repository.find(EMAIL.eq("u42@example.com"), UserView.class);
+
+        assertEquals(List.of("u42"), ids(found));
+        assertEquals(1, repository.visited());
+    }
+
+    @Test
+    void shouldRejectViewsItDoesNotStore() {
+        assertThrows(IllegalArgumentException.class, () -> repository.read("u1", OtherView.class));
+        assertTrue(repository.read("missing", UserView.class).isEmpty());
+    }
+}
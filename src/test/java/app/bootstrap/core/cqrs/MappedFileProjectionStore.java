@@ -0,0 +1,412 @@
+/*
+ * App Bootstrap Core
+ * Copyright (C) 2026
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package app.bootstrap.core.cqrs;
+
+import app.bootstrap.core.ddd.UuidMap;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.zip.CRC32;
+
+/**
+ * Durable reference {@link IReadRepository} / {@link IDeletableProjectionStore} for deployments
+ * without a database: rows live in fixed-size slots of a memory-mapped file, and every write is
+ * first appended to a change log so a crash between the log append and the page write-back is
+ * repaired on the next open.
+ *
+ * <p><strong>Layout.</strong> {@code records.dat} is a small header followed by slots of {@code 24
+ * + payloadSize} bytes — a state byte (never used / live / freed), the row id as two {@code long}s,
+ * and the payload whose byte layout the {@link RecordLayout} owns. Deleted slots are recycled
+ * before the file grows; growth doubles the mapping.
+ *
+ * <p><strong>Crash recovery.</strong> {@code changes.log} holds the full post-write image of every
+ * slot touched since the last checkpoint, each entry framed as {@code crc32, slot, image}. Open
+ * replays it up to the first short or corrupt entry (images are idempotent), forces the mapping and
+ * truncates the log; {@link #checkpoint()} and {@link #close()} do the same, and the store
+ * checkpoints by itself once the log outgrows {@code checkpointBytes}. Restart cost is therefore
+ * proportional to the log, not to the read model.
+ *
+ * <p><strong>Lazy index.</strong> Nothing is scanned at open. The id&nbsp;&rarr;&nbsp;slot index is
+ * built on first access by reading only the 24-byte slot headers — payloads are never decoded.
+ *
+ * <p><strong>Zero-copy reads.</strong> {@link #read} hands the layout a read-only slice of the
+ * mapping itself, so a view can be a flyweight over the stored bytes. Such a view reflects later
+ * writes to the same id; copy the fields out if a stable snapshot is needed.
+ *
+ * <p>Thread-safe through a single monitor, like the other in-memory references. A single mapping is
+ * limited to 2&nbsp;GiB; a production store would shard slots across several files.
+ *
+ * @param <P> the projection type this store accepts
+ */
+public final class MappedFileProjectionStore<P extends IProjection<UUID>>
+        implements IReadRepository<UUID>, IDeletableProjectionStore<UUID, P>, Closeable {
+
+    /**
+     * Maps projections and views onto the fixed-size payload of one slot. Buffers passed in are
+     * positioned at the payload start and sized to {@link #payloadSize()}; use absolute accessors.
+     */
+    public interface RecordLayout<P> {
+
+        /** Payload bytes per row; must stay stable for the lifetime of the data file. */
+        int payloadSize();
+
+        /**
+         * Field-scoped write: store only the fields {@code projection} carries into {@code payload}
+         * and leave every other byte untouched. A fresh row arrives zero-filled.
+         */
+        void write(@Nonnull ByteBuffer payload, @Nonnull P projection);
+
+        /**
+         * Materialise {@code view} over the row's payload. {@code payload} is a read-only slice of
+         * the mapping, so returning a flyweight that reads from it lazily costs no copy.
+         *
+         * @throws IllegalArgumentException if the view type is not supported
+         */
+        @Nonnull
+        <V extends IView<UUID>> V read(
+                @Nonnull UUID id, @Nonnull ByteBuffer payload, @Nonnull Class<V> view);
+    }
+
+    private static final int MAGIC = 0x50524A31; // "PRJ1"
+    private static final int FILE_HEADER = 16;
+    private static final int SLOT_HEADER = 24;
+    private static final int ENTRY_CRC = 0;
+    private static final int ENTRY_SLOT = 4;
+    private static final int ENTRY_HEADER = 8;
+    private static final byte UNUSED = 0;
+    private static final byte LIVE = 1;
+    private static final byte FREED = 2;
+    private static final int INITIAL_SLOTS = 64;
+    private static final long DEFAULT_CHECKPOINT_BYTES = 4L * 1024 * 1024;
+
+    @Nonnull private final RecordLayout<P> layout;
+    @Nonnull private final FileChannel data;
+    @Nonnull private final FileChannel log;
+    private final int slotSize;
+    private final boolean syncWrites;
+    private final long checkpointBytes;
+    @Nonnull private final ByteBuffer scratch;
+
+    @Nonnull private MappedByteBuffer mapping;
+    private int capacity;
+
+    @Nullable private UuidMap<Integer> index;
+    @Nonnull private final ArrayDeque<Integer> freeSlots = new ArrayDeque<>();
+    private int highWater;
+
+    private MappedFileProjectionStore(
+            @Nonnull Path directory,
+            @Nonnull RecordLayout<P> layout,
+            boolean syncWrites,
+            long checkpointBytes)
+            throws IOException {
+        this.layout = layout;
+        this.slotSize = SLOT_HEADER + layout.payloadSize();
+        this.syncWrites = syncWrites;
+        this.checkpointBytes = checkpointBytes;
+        this.scratch = ByteBuffer.allocate(ENTRY_HEADER + slotSize);
+        Files.createDirectories(directory);
+        this.data =
+                FileChannel.open(
+                        directory.resolve("records.dat"),
+                        StandardOpenOption.CREATE,
+                        StandardOpenOption.READ,
+                        StandardOpenOption.WRITE);
+        this.log =
+                FileChannel.open(
+                        directory.resolve("changes.log"),
+                        StandardOpenOption.CREATE,
+                        StandardOpenOption.READ,
+                        StandardOpenOption.WRITE);
+        final long existing = data.size();
+        if (existing == 0) {
+            this.capacity = INITIAL_SLOTS;
+            this.mapping = map(capacity);
+            mapping.putInt(0, MAGIC).putInt(4, slotSize);
+        } else {
+            this.capacity = (int) ((existing - FILE_HEADER) / slotSize);
+            this.mapping = map(capacity);
+            if (mapping.getInt(0) != MAGIC || mapping.getInt(4) != slotSize) {
+                throw new IOException("records.dat was written with a different record layout");
+            }
+        }
+        recover();
+    }
+
+    /** Opens (or creates) a store in {@code directory}, syncing the change log on every write. */
+    @Nonnull
+    public static <P extends IProjection<UUID>> MappedFileProjectionStore<P> open(
+            @Nonnull Path directory, @Nonnull RecordLayout<P> layout) throws IOException {
+        return new MappedFileProjectionStore<>(directory, layout, true, DEFAULT_CHECKPOINT_BYTES);
+    }
+
+    /**
+     * Opens (or creates) a store with explicit durability settings. With {@code syncWrites=false}
+     * the log is left to the OS page cache, trading the last few writes on power loss for
+     * throughput; a process crash still loses nothing.
+     */
+    @Nonnull
+    public static <P extends IProjection<UUID>> MappedFileProjectionStore<P> open(
+            @Nonnull Path directory,
+            @Nonnull RecordLayout<P> layout,
+            boolean syncWrites,
+            long checkpointBytes)
+            throws IOException {
+        return new MappedFileProjectionStore<>(directory, layout, syncWrites, checkpointBytes);
+    }
+
+    @Nonnull
+    @Override
+    public synchronized <V extends IView<UUID>> Optional<V> read(
+            @Nonnull UUID id, @Nonnull Class<V> view) {
+        final Integer slot = index().get(id);
+        if (slot == null) {
+            return Optional.empty();
+        }
+        final ByteBuffer payload =
+                mapping.slice(offset(slot) + SLOT_HEADER, layout.payloadSize()).asReadOnlyBuffer();
+        return Optional.of(layout.read(id, payload, view));
+    }
+
+    @Override
+    public synchronized void upsert(@Nonnull P projection) {
+        final UUID id = projection.getId();
+        final UuidMap<Integer> idx = index();
+        Integer slot = idx.get(id);
+        final boolean inserting = slot == null;
+        if (inserting) {
+            slot = allocate();
+            resetScratch(slot);
+        } else {
+            scratch.clear();
+            scratch.putInt(ENTRY_SLOT, slot);
+            scratch.put(ENTRY_HEADER, mapping, offset(slot), slotSize);
+        }
+        scratch.put(ENTRY_HEADER, LIVE)
+                .putLong(ENTRY_HEADER + 8, id.getMostSignificantBits())
+                .putLong(ENTRY_HEADER + 16, id.getLeastSignificantBits());
+        try {
+            layout.write(
+                    scratch.slice(ENTRY_HEADER + SLOT_HEADER, layout.payloadSize()), projection);
+            commit(slot);
+        } catch (RuntimeException e) {
+            if (inserting) {
+                unallocate(slot);
+            }
+            throw e;
+        }
+        idx.put(id, slot);
+    }
+
+    @Override
+    public synchronized void delete(@Nonnull UUID id) {
+        final Integer slot = index().remove(id);
+        if (slot == null) {
+            return; // idempotent
+        }
+        resetScratch(slot);
+        scratch.put(ENTRY_HEADER, FREED);
+        commit(slot);
+        freeSlots.add(slot);
+    }
+
+    /** Number of live rows. */
+    public synchronized int size() {
+        return index().size();
+    }
+
+    /** Forces the mapping to disk and truncates the change log. */
+    public synchronized void checkpoint() {
+        try {
+            mapping.force();
+            log.truncate(0);
+            if (syncWrites) {
+                log.force(true);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        checkpoint();
+        log.close();
+        data.close();
+    }
+
+    // ---- Write path -------------------------------------------------------------------------
+
+    /** Appends the slot image held in {@link #scratch} to the log, then applies it in place. */
+    private void commit(int slot) {
+        try {
+            scratch.putInt(ENTRY_CRC, crc(scratch));
+            scratch.position(0).limit(ENTRY_HEADER + slotSize);
+            final long end = log.size();
+            long written = 0;
+            while (scratch.hasRemaining()) {
+                written += log.write(scratch, end + written);
+            }
+            if (syncWrites) {
+                log.force(false);
+            }
+            mapping.put(offset(slot), scratch, ENTRY_HEADER, slotSize);
+            if (end + written >= checkpointBytes) {
+                checkpoint();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /** Prepares a zero-filled image for {@code slot} in {@link #scratch}. */
+    private void resetScratch(int slot) {
+        scratch.clear();
+        scratch.putInt(ENTRY_SLOT, slot);
+        for (int i = ENTRY_HEADER; i < ENTRY_HEADER + slotSize; i++) {
+            scratch.put(i, (byte) 0);
+        }
+    }
+
+    private int allocate() {
+        final Integer reused = freeSlots.poll();
+        if (reused != null) {
+            return reused;
+        }
+        ensureCapacity(highWater + 1);
+        return highWater++;
+    }
+
+    /**
+     * Hands back a slot whose first write failed. Left in place it would stay {@code UNUSED} below
+     * the high-water mark, and {@link #index()} stops at the first such slot on reopen.
+     */
+    private void unallocate(int slot) {
+        if (slot == highWater - 1) {
+            highWater--;
+        } else {
+            freeSlots.add(slot);
+        }
+    }
+
+    // ---- Recovery & index -------------------------------------------------------------------
+
+    /**
+     * Re-applies the slot images left in the log by a run that did not checkpoint, stopping at the
+     * first entry that is short or fails its checksum — with {@code syncWrites=false} the log's
+     * length can reach the disk before its data, leaving a zero-filled or garbage tail.
+     */
+    private void recover() throws IOException {
+        final long length = log.size();
+        if (length == 0) {
+            return;
+        }
+        final int entrySize = ENTRY_HEADER + slotSize;
+        final ByteBuffer entry = ByteBuffer.allocate(entrySize);
+        for (long position = 0; position + entrySize <= length; position += entrySize) {
+            entry.clear();
+            while (entry.hasRemaining()) {
+                if (log.read(entry, position + entry.position()) < 0) {
+                    break;
+                }
+            }
+            final int slot = entry.getInt(ENTRY_SLOT);
+            if (entry.hasRemaining() || crc(entry) != entry.getInt(ENTRY_CRC) || slot < 0) {
+                break;
+            }
+            ensureCapacity(slot + 1);
+            mapping.put(offset(slot), entry, ENTRY_HEADER, slotSize);
+        }
+        mapping.force();
+        log.truncate(0);
+        log.force(true);
+    }
+
+    /** Builds the id index on first use from the slot headers alone. */
+    @Nonnull
+    private UuidMap<Integer> index() {
+        UuidMap<Integer> idx = index;
+        if (idx != null) {
+            return idx;
+        }
+        idx = new UuidMap<>();
+        int slot = 0;
+        for (; slot < capacity; slot++) {
+            final int offset = offset(slot);
+            final byte state = mapping.get(offset);
+            if (state == UNUSED) {
+                break;
+            }
+            if (state == LIVE) {
+                idx.put(mapping.getLong(offset + 8), mapping.getLong(offset + 16), slot);
+            } else {
+                freeSlots.add(slot);
+            }
+        }
+        highWater = slot;
+        index = idx;
+        return idx;
+    }
+
+    // ---- Mapping ----------------------------------------------------------------------------
+
+    private void ensureCapacity(int slots) {
+        if (slots <= capacity) {
+            return;
+        }
+        int grown = capacity;
+        while (grown < slots) {
+            grown *= 2;
+        }
+        try {
+            mapping = map(grown);
+            capacity = grown;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Nonnull
+    private MappedByteBuffer map(int slots) throws IOException {
+        return data.map(FileChannel.MapMode.READ_WRITE, 0, FILE_HEADER + (long) slots * slotSize);
+    }
+
+    private int offset(int slot) {
+        return FILE_HEADER + slot * slotSize;
+    }
+
+    /** Checksum of a log entry: its slot number and image. */
+    private int crc(@Nonnull ByteBuffer entry) {
+        final CRC32 crc = new CRC32();
+        crc.update(entry.slice(ENTRY_SLOT, ENTRY_HEADER - ENTRY_SLOT + slotSize));
+        return (int) crc.getValue();
+    }
+}
@@ -0,0 +1,288 @@
+/*
+ * App Bootstrap Core
+ * Copyright (C) 2026
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package app.bootstrap.core.cqrs;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import jakarta.annotation.Nonnull;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class MappedFileProjectionStoreTest {
+
+    // --- Projections & a flyweight view over the mapped payload ------------------------------
+
+    record UserRegistered(UUID getId, String name, int age) implements IProjection<UUID> {}
+
+    record UserAgeChanged(UUID getId, int age) implements IProjection<UUID> {}
+
+    /** Reads its fields straight out of the mapped slot — no copy on {@code read}. */
+    static final class UserView implements IView<UUID> {
+        private final UUID id;
+        private final ByteBuffer payload;
+
+        UserView(UUID id, ByteBuffer payload) {
+            this.id = id;
+            this.payload = payload;
+        }
+
+        @Nonnull
+        @Override
+        public UUID getId() {
+            return id;
+        }
+
+        String name() {
+            final byte[] bytes = new byte[payload.getShort(NAME)];
+            payload.get(NAME + 2, bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        int age() {
+            return payload.getInt(AGE);
+        }
+    }
+
+    private static final int NAME = 0; // short length + 30 bytes
+    private static final int AGE = 32;
+
+    /** name @0 (length-prefixed, 30 bytes max), age @32. */
+    static final class UserLayout
+            implements MappedFileProjectionStore.RecordLayout<IProjection<UUID>> {
+        @Override
+        public int payloadSize() {
+            return 36;
+        }
+
+        @Override
+        public void write(@Nonnull ByteBuffer payload, @Nonnull IProjection<UUID> projection) {
+            if (projection instanceof UserRegistered p) {
+                final byte[] name = p.name().getBytes(StandardCharsets.UTF_8);
+                payload.putShort(NAME, (short) name.length).put(NAME + 2, name);
+                payload.putInt(AGE, p.age());
+            } else if (projection instanceof UserAgeChanged p) {
+                payload.putInt(AGE, p.age());
+            } else {
+                throw new IllegalArgumentException(
+                        "unsupported projection: " + projection.getClass().getName());
+            }
+        }
+
+        @Nonnull
+        @Override
+        public <V extends IView<UUID>> V read(
+                @Nonnull UUID id, @Nonnull ByteBuffer payload, @Nonnull Class<V> view) {
+            if (view == UserView.class) {
+                return view.cast(new UserView(id, payload));
+            }
+            throw new IllegalArgumentException("unsupported view: " + view.getName());
+        }
+    }
+
+    @TempDir Path dir;
+
+    private MappedFileProjectionStore<IProjection<UUID>> open() throws IOException {
+        return MappedFileProjectionStore.open(dir, new UserLayout());
+    }
+
+    @Test
+    void shouldCreateRowOnFirstUpsertAndReadItBack() throws IOException {
+        try (var store = open()) {
+            final UUID id = UUID.randomUUID();
+            store.upsert(new UserRegistered(id, "Alice", 30));
+
+            final UserView view = store.read(id, UserView.class).orElseThrow();
+            assertEquals(id, view.getId());
+            assertEquals("Alice", view.name());
+            assertEquals(30, view.age());
+        }
+    }
+
+    @Test
+    void shouldOnlyTouchTheFieldsTheProjectionCarries() throws IOException {
+        try (var store = open()) {
+            final UUID id = UUID.randomUUID();
+            store.upsert(new UserRegistered(id, "Alice", 30));
+
+            store.upsert(new UserAgeChanged(id, 31));
+
+            final UserView view = store.read(id, UserView.class).orElseThrow();
+            assertEquals("Alice", view.name(), "name untouched by the age projection");
+            assertEquals(31, view.age());
+        }
+    }
+
+    @Test
+    void shouldReturnEmptyForUnknownOrDeletedRows() throws IOException {
+        try (var store = open()) {
+            final UUID id = UUID.randomUUID();
+            assertTrue(store.read(id, UserView.class).isEmpty());
+
+            store.upsert(new UserRegistered(id, "Alice", 30));
+            store.delete(id);
+            store.delete(id); // idempotent
+
+            assertTrue(store.read(id, UserView.class).isEmpty());
+            assertEquals(0, store.size());
+        }
+    }
+
+    @Test
+    void shouldRecycleFreedSlotsBeforeGrowing() throws IOException {
+        try (var store = open()) {
+            final UUID first = UUID.randomUUID();
+            store.upsert(new UserRegistered(first, "Alice", 30));
+            final long sizeBefore = Files.size(dir.resolve("records.dat"));
+
+            store.delete(first);
+            final UUID second = UUID.randomUUID();
+            store.upsert(new UserAgeChanged(second, 7));
+
+            final UserView view = store.read(second, UserView.class).orElseThrow();
+            assertEquals("", view.name(), "a recycled slot starts zero-filled");
+            assertEquals(7, view.age());
+            assertEquals(sizeBefore, Files.size(dir.resolve("records.dat")));
+        }
+    }
+
+    @Test
+    void shouldGrowTheMappingBeyondTheInitialCapacity() throws IOException {
+        final List<UUID> ids = new ArrayList<>();
+        try (var store = open()) {
+            for (int i = 0; i < 500; i++) {
+                final UUID id = UUID.randomUUID();
+                ids.add(id);
+                store.upsert(new UserRegistered(id, "user-" + i, i));
+            }
+            assertEquals(500, store.size());
+            assertEquals(499, store.read(ids.get(499), UserView.class).orElseThrow().age());
+        }
+    }
+
+    @Test
+    void shouldKeepRowsAcrossARestart() throws IOException {
+        final UUID alive = UUID.randomUUID();
+        final UUID deleted = UUID.randomUUID();
+        try (var store = open()) {
+            store.upsert(new UserRegistered(alive, "Alice", 30));
+            store.upsert(new UserRegistered(deleted, "Bob", 40));
+            store.delete(deleted);
+        }
+        assertEquals(0, Files.size(dir.resolve("changes.log")), "clean close checkpoints");
+
+        try (var reopened = open()) {
+            assertEquals("Alice", reopened.read(alive, UserView.class).orElseThrow().name());
+            assertTrue(reopened.read(deleted, UserView.class).isEmpty());
+            assertEquals(1, reopened.size());
+        }
+    }
+
+    @Test
+    void shouldNotLeaveAHoleWhenAnInsertFails() throws IOException {
+        // Arrange
+        final UUID bob = UUID.randomUUID();
+        try (var store = open()) {
+            final UserRegistered tooLong =
+                    new UserRegistered(UUID.randomUUID(), "A".repeat(40), 30);
+
+            // Act
+            assertThrows(RuntimeException.class, () -> store.upsert(tooLong));
+            store.upsert(new UserRegistered(bob, "Bob", 41));
+        }
+
+        // Assert — the failed insert gave its slot back, so nothing sits past an unused one
+        try (var reopened = open()) {
+            assertEquals(1, reopened.size());
+            assertEquals("Bob", reopened.read(bob, UserView.class).orElseThrow().name());
+        }
+    }
+
+    @Test
+    void shouldRepairLostPageWritesFromTheChangeLogOnOpen() throws IOException {
+        final UUID id = UUID.randomUUID();
+        // The crashed instance is only closed once recovery has already truncated the log.
+        try (var crashed = open()) {
+            crashed.upsert(new UserRegistered(id, "Alice", 30));
+            crashed.upsert(new UserAgeChanged(id, 31));
+            // The process "dies" with the log un-checkpointed. Wipe the slot area to model dirty
+            // pages that never reached the disk.
+            wipeSlots();
+            assertTrue(Files.size(dir.resolve("changes.log")) > 0);
+
+            try (var recovered = open()) {
+                final UserView view = recovered.read(id, UserView.class).orElseThrow();
+                assertEquals("Alice", view.name());
+                assertEquals(31, view.age());
+                assertEquals(0, Files.size(dir.resolve("changes.log")), "recovery checkpoints");
+            }
+        }
+    }
+
+    @Test
+    void shouldStopReplayAtACorruptLogEntry() throws IOException {
+        final UUID id = UUID.randomUUID();
+        try (var crashed = open()) {
+            crashed.upsert(new UserRegistered(id, "Alice", 30));
+            wipeSlots();
+            // The log's length reached the disk before its data: a zero-filled entry for slot 0,
+            // then garbage naming a slot far past the end of the file.
+            final long end = Files.size(dir.resolve("changes.log"));
+            try (FileChannel raw =
+                    FileChannel.open(dir.resolve("changes.log"), StandardOpenOption.WRITE)) {
+                raw.write(ByteBuffer.allocate((int) end), end);
+                raw.write(ByteBuffer.allocate((int) end).putInt(4, 1 << 30).clear(), 2 * end);
+            }
+
+            try (var recovered = open()) {
+                assertEquals(30, recovered.read(id, UserView.class).orElseThrow().age());
+                assertEquals(1, recovered.size(), "the zeroed entry did not free slot 0");
+            }
+        }
+    }
+
+    @Test
+    void shouldCheckpointOnceTheLogOutgrowsItsBudget() throws IOException {
+        try (var store = MappedFileProjectionStore.open(dir, new UserLayout(), false, 1024)) {
+            for (int i = 0; i < 100; i++) {
+                store.upsert(new UserRegistered(UUID.randomUUID(), "u", i));
+            }
+            assertTrue(Files.size(dir.resolve("changes.log")) < 1024);
+            assertEquals(100, store.size());
+        }
+    }
+
+    /** Zeroes the slot area of {@code records.dat}, as if no page write-back happened. */
+    private void wipeSlots() throws IOException {
+        try (FileChannel raw =
+                FileChannel.open(dir.resolve("records.dat"), StandardOpenOption.WRITE)) {
+            raw.write(ByteBuffer.allocate(4096), 16);
+        }
+    }
+}
@@ -0,0 +1,284 @@
+/*
+ * App Bootstrap Core
+ * Copyright (C) 2026
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package app.bootstrap.core.cqrs;
+
+import app.bootstrap.core.ddd.AggregateVersionConflictException;
+import app.bootstrap.core.ddd.Id;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Reference {@link ICommandBus} decorator that re-runs a <em>synchronous</em> dispatch when the
+ * handler fails with an {@link AggregateVersionConflictException}. Each attempt goes through the
+ * wrapped bus again, so the handler re-reads its aggregate and re-applies the command to the state
+ * that won the race — the retry loop every caller would otherwise write by hand.
+ *
+ * <p><strong>Backoff.</strong> Attempts are spaced with "full jitter": before retry {@code n} the
+ * bus sleeps a random time in {@code [0, min(maxDelay, baseDelay * 2^(n-1))]}, so writers that
+ * collided do not collide again in lockstep.
+ *
+ * <p><strong>Retry budget.</strong> Retries are additionally capped across all commands: every
+ * dispatch earns {@code budgetRatio} of a retry token (up to {@code maxAttempts} banked tokens plus
+ * the earned ones), and every retry spends one. When a hot aggregate makes most commands conflict,
+ * the budget runs dry and conflicts surface to the caller instead of multiplying the load on the
+ * store.
+ *
+ * <p><strong>Metrics.</strong> Conflicts are counted per aggregate type — the class of {@link
+ * AggregateVersionConflictException#getAggregateId()} — so hot spots show up in {@link
+ * #conflicts()}.
+ *
+ * <p>As with {@link TransactionalCommandBus}, the asynchronous {@code send} variants are forwarded
+ * unchanged: an async command's retries belong on the worker thread that runs it. Retrying also
+ * depends on the wrapped bus <em>propagating</em> the conflict; a bus that swallows fire-and-forget
+ * handler exceptions (as {@link SimpleICommandBus} does) reports {@code false} instead, which this
+ * decorator cannot distinguish from any other failure. Handlers must be safe to re-run: everything
+ * they did in a failed attempt has to roll back with it (an {@link IUnitOfWork} inside this bus).
+ */
+public final class RetryingCommandBus implements ICommandBus {
+
+    /**
+     * How a conflicting dispatch is retried.
+     *
+     * @param maxAttempts total attempts per command, including the first
+     * @param baseDelay the backoff ceiling before the first retry
+     * @param maxDelay the largest backoff ceiling
+     * @param budgetRatio retry tokens earned per dispatch — {@code 0.1} allows retries for roughly
+     *     one command in ten under sustained conflicts
+     */
+    public record RetryPolicy(
+            int maxAttempts,
+            @Nonnull Duration baseDelay,
+            @Nonnull Duration maxDelay,
+            double budgetRatio) {
+
+        public RetryPolicy {
+            if (maxAttempts < 1) {
+                throw new IllegalArgumentException(
+                        "maxAttempts must be at least 1: " + maxAttempts);
+            }
+            if (budgetRatio < 0) {
+                throw new IllegalArgumentException(
+                        "budgetRatio must not be negative: " + budgetRatio);
+            }
+        }
+
+        /** Three attempts, 10 ms to 200 ms of jitter, and retries for up to one command in five. */
+        @Nonnull
+        public static RetryPolicy defaults() {
+            return new RetryPolicy(3, Duration.ofMillis(10), Duration.ofMillis(200), 0.2);
+        }
+    }
+
+    /** Conflict counters for one aggregate type. */
+    public record ConflictMetrics(long conflicts, long retries, long exhausted) {}
+
+    /** Sleeps between attempts; swapped out in tests. */
+    @FunctionalInterface
+    public interface Sleeper {
+        void sleep(@Nonnull Duration duration) throws InterruptedException;
+    }
+
+    private static final class Counters {
+        final LongAdder conflicts = new LongAdder();
+        final LongAdder retries = new LongAdder();
+        final LongAdder exhausted = new LongAdder();
+    }
+
+    @FunctionalInterface
+    private interface Attempt<R> {
+        R run() throws Exception;
+    }
+
+    @Nonnull private final ICommandBus delegate;
+    @Nonnull private final RetryPolicy policy;
+    @Nonnull private final Sleeper sleeper;
+    @Nonnull private final Map<Class<? extends Id>, Counters> metrics = new ConcurrentHashMap<>();
+
+    private final double budgetCap;
+    private double budget;
+
+    public RetryingCommandBus(@Nonnull ICommandBus delegate, @Nonnull RetryPolicy policy) {
+        this(delegate, policy, duration -> Thread.sleep(duration));
+    }
+
+    public RetryingCommandBus(
+            @Nonnull ICommandBus delegate, @Nonnull RetryPolicy policy, @Nonnull Sleeper sleeper) {
+        this.delegate = delegate;
+        this.policy = policy;
+        this.sleeper = sleeper;
+        this.budgetCap = policy.maxAttempts();
+        this.budget = budgetCap;
+    }
+
+    // ---- Synchronous dispatch — retried on version conflicts -------------------------------
+
+    @Nonnull
+    @Override
+    public Boolean sendSync(@Nonnull ICommand command) throws Exception {
+        return withRetries(() -> delegate.sendSync(command));
+    }
+
+    @Nonnull
+    @Override
+    public <R> R sendSync(@Nonnull IResultCommand<R> command) throws Exception {
+        return withRetries(() -> delegate.sendSync(command));
+    }
+
+    // ---- Asynchronous dispatch — forwarded (retries belong on the worker thread) -----------
+
+    @Nonnull
+    @Override
+    public CompletableFuture<Boolean> send(@Nonnull ICommand command) throws Exception {
+        return delegate.send(command);
+    }
+
+    @Nonnull
+    @Override
+    public <R> CompletableFuture<R> send(@Nonnull IResultCommand<R> command) throws Exception {
+        return delegate.send(command);
+    }
+
+    // ---- Metrics ---------------------------------------------------------------------------
+
+    /** Conflict counters per aggregate id type, for every type that has conflicted so far. */
+    @Nonnull
+    public Map<Class<? extends Id>, ConflictMetrics> conflicts() {
+        final Map<Class<? extends Id>, ConflictMetrics> snapshot = new HashMap<>();
+        metrics.forEach(
+                (type, c) ->
+                        snapshot.put(
+                                type,
+                                new ConflictMetrics(
+                                        c.conflicts.sum(), c.retries.sum(), c.exhausted.sum())));
+        return Map.copyOf(snapshot);
+    }
+
+    // ---- Retry loop ------------------------------------------------------------------------
+
+    private <R> R withRetries(Attempt<R> attempt) throws Exception {
+        earn();
+        for (int n = 1; ; n++) {
+            try {
+                return attempt.run();
+            } catch (Exception e) {
+                final AggregateVersionConflictException conflict = conflictIn(e);
+                if (conflict == null) {
+                    throw e;
+                }
+                final Counters counters =
+                        metrics.computeIfAbsent(
+                                conflict.getAggregateId().getClass(), k -> new Counters());
+                counters.conflicts.increment();
+                if (n >= policy.maxAttempts() || !spend()) {
+                    counters.exhausted.increment();
+                    throw e;
+                }
+                counters.retries.increment();
+                sleeper.sleep(backoff(n));
+            }
+        }
+    }
+
+    private Duration backoff(int retry) {
+        final long base = policy.baseDelay().toNanos();
+        final long ceiling = Math.min(policy.maxDelay().toNanos(), base << Math.min(retry - 1, 30));
+        if (ceiling <= 0) {
+            return Duration.ZERO;
+        }
+        return Duration.ofNanos(ThreadLocalRandom.current().nextLong(ceiling + 1));
+    }
+
+    private synchronized void earn() {
+        budget = Math.min(budgetCap, budget + policy.budgetRatio());
+    }
+
+    private synchronized boolean spend() {
+        if (budget < 1) {
+            return false;
+        }
+        budget -= 1;
+        return true;
+    }
+
+    /** The conflict that caused {@code e}, however deeply a handler or bus wrapped it. */
+    @Nullable private static AggregateVersionConflictException conflictIn(Throwable e) {
+        for (Throwable t = e; t != null; t = t.getCause()) {
+            if (t instanceof AggregateVersionConflictException conflict) {
+                return conflict;
+            }
+            if (t.getCause() == t) {
+                break;
+            }
+        }
+        return null;
+    }
+
+    // ---- Registration — forwarded unchanged ------------------------------------------------
+
+    @Override
+    public void register(
+            @Nonnull ICommandHandler commandHandler,
+            @Nonnull Class<? extends ICommand> forCommand) {
+        delegate.register(commandHandler, forCommand);
+    }
+
+    @Override
+    public void register(
+            @Nonnull ICommandHandler commandHandler,
+            @Nonnull List<Class<? extends ICommand>> forCommands) {
+        delegate.register(commandHandler, forCommands);
+    }
+
+    @Override
+    public <C extends IResultCommand<R>, R> void register(
+            @Nonnull IResultCommandHandler<C, R> commandHandler,
+            @Nonnull Class<? extends IResultCommand<R>> forCommand) {
+        delegate.register(commandHandler, forCommand);
+    }
+
+    @Override
+    public void unregister(
+            @Nonnull ICommandHandler commandHandler,
+            @Nonnull Class<? extends ICommand> forCommand) {
+        delegate.unregister(commandHandler, forCommand);
+    }
+
+    @Override
+    public void unregister(
+            @Nonnull ICommandHandler commandHandler,
+            @Nonnull List<Class<? extends ICommand>> forCommands) {
+        delegate.unregister(commandHandler, forCommands);
+    }
+
+    @Override
+    public <C extends IResultCommand<R>, R> void unregister(
+            @Nonnull IResultCommandHandler<C, R> commandHandler,
+            @Nonnull Class<? extends IResultCommand<R>> forCommand) {
+        delegate.unregister(commandHandler, forCommand);
+    }
+}
@@ -0,0 +1,213 @@
+/*
+ * App Bootstrap Core
+ * Copyright (C) 2026
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package app.bootstrap.core.cqrs;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import app.bootstrap.core.ddd.AggregateVersionConflictException;
+import app.bootstrap.core.ddd.Id;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Shows the retry decorator: a handler whose save loses an optimistic-concurrency race is re-run
+ * against fresh state instead of every caller writing its own retry loop.
+ */
+class RetryingCommandBusTest {
+
+    static final class AccountId extends Id {
+        AccountId() {
+            super(UUID.randomUUID());
+        }
+    }
+
+    static final class CartId extends Id {
+        CartId() {
+            super(UUID.randomUUID());
+        }
+    }
+
+    private record Deposit(int amount) implements IResultCommand<Integer> {}
+
+    /** A versioned row: read (version, balance), write back only if the version is unchanged. */
+    private static final class Row {
+        int version;
+        int balance;
+
+        synchronized int[] read() {
+            return new int[] {version, balance};
+        }
+
+        synchronized void write(AccountId id, int readVersion, int balance)
+                throws AggregateVersionConflictException {
+            if (version != readVersion) {
+                throw new AggregateVersionConflictException(id, version, readVersion + 1);
+            }
+            this.version++;
+            this.balance = balance;
+        }
+    }
+
+    private final AccountId accountId = new AccountId();
+    private final List<Duration> sleeps = new ArrayList<>();
+    private SimpleICommandBus delegate;
+
+    @BeforeEach
+    void setUp() {
+        delegate = new SimpleICommandBus();
+    }
+
+    private RetryingCommandBus bus(RetryingCommandBus.RetryPolicy policy) {
+        return new RetryingCommandBus(delegate, policy, sleeps::add);
+    }
+
+    private static RetryingCommandBus.RetryPolicy attempts(int maxAttempts) {
+        return new RetryingCommandBus.RetryPolicy(
+                maxAttempts, Duration.ofMillis(10), Duration.ofMillis(40), 1.0);
+    }
+
+    @Test
+    void shouldRerunTheHandlerAgainstFreshStateAfterAConflict() throws Exception {
+        final Row row = new Row();
+        final AtomicInteger runs = new AtomicInteger();
+        final IResultCommandHandler<Deposit, Integer> handler =
+                command -> {
+                    final int[] read = row.read(); // a fresh repository read on every attempt
+                    if (runs.incrementAndGet() == 1) {
+                        row.write(accountId, read[0], read[1] + 100); // a competing writer wins
+                    }
+                    row.write(accountId, read[0], read[1] + command.amount());
+                    return row.balance;
+                };
+        final RetryingCommandBus bus = bus(attempts(3));
+        bus.register(handler, Deposit.class);
+
+        assertEquals(105, bus.sendSync(new Deposit(5)));
+        assertEquals(2, runs.get());
+        assertEquals(
+                new RetryingCommandBus.ConflictMetrics(1, 1, 0),
+                bus.conflicts().get(AccountId.class));
+    }
+
+    @Test
+    void shouldGiveUpAfterMaxAttempts() {
+        final AtomicInteger runs = new AtomicInteger();
+        final RetryingCommandBus bus = bus(attempts(3));
+        bus.register(
+                (IResultCommandHandler<Deposit, Integer>)
+                        command -> {
+                            runs.incrementAndGet();
+                            throw new AggregateVersionConflictException(accountId, 2, 2);
+                        },
+                Deposit.class);
+
+        assertThrows(AggregateVersionConflictException.class, () -> bus.sendSync(new Deposit(1)));
+        assertEquals(3, runs.get());
+        assertEquals(
+                new RetryingCommandBus.ConflictMetrics(3, 2, 1),
+                bus.conflicts().get(AccountId.class));
+    }
+
+    @Test
+    void shouldNotRetryOtherFailures() {
+        final AtomicInteger runs = new AtomicInteger();
+        final RetryingCommandBus bus = bus(attempts(3));
+        bus.register(
+                (IResultCommandHandler<Deposit, Integer>)
+                        command -> {
+                            runs.incrementAndGet();
+                            throw new IllegalStateException("invariant violated");
+                        },
+                Deposit.class);
+
+        assertThrows(IllegalStateException.class, () -> bus.sendSync(new Deposit(1)));
+        assertEquals(1, runs.get());
+        assertTrue(bus.conflicts().isEmpty());
+    }
+
+    @Test
+    void shouldFindAConflictWrappedByTheHandler() throws Exception {
+        final AtomicInteger runs = new AtomicInteger();
+        final RetryingCommandBus bus = bus(attempts(2));
+        bus.register(
+                (IResultCommandHandler<Deposit, Integer>)
+                        command -> {
+                            if (runs.incrementAndGet() == 1) {
+                                throw new IllegalStateException(
+                                        new AggregateVersionConflictException(new CartId(), 1, 1));
+                            }
+                            return 0;
+                        },
+                Deposit.class);
+
+        assertEquals(0, bus.sendSync(new Deposit(1)));
+        assertEquals(1, bus.conflicts().get(CartId.class).conflicts(), "keyed by the id type");
+    }
+
+    @Test
+    void shouldStopRetryingOnceTheBudgetIsSpent() {
+        final AtomicInteger runs = new AtomicInteger();
+        final RetryingCommandBus bus =
+                bus(new RetryingCommandBus.RetryPolicy(2, Duration.ZERO, Duration.ZERO, 0.0));
+        bus.register(
+                (IResultCommandHandler<Deposit, Integer>)
+                        command -> {
+                            runs.incrementAndGet();
+                            throw new AggregateVersionConflictException(accountId, 2, 2);
+                        },
+                Deposit.class);
+
+        final List<Integer> runsPerCommand = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            runs.set(0);
+            assertThrows(
+                    AggregateVersionConflictException.class, () -> bus.sendSync(new Deposit(1)));
+            runsPerCommand.add(runs.get());
+        }
+
+        // two banked tokens, nothing earned: two commands get their retry, the rest fail fast
+        assertEquals(List.of(2, 2, 1, 1), runsPerCommand);
+    }
+
+    @Test
+    void shouldBackOffWithJitterUnderTheCeiling() {
+        final RetryingCommandBus bus = bus(attempts(5));
+        bus.register(
+                (IResultCommandHandler<Deposit, Integer>)
+                        command -> {
+                            throw new AggregateVersionConflictException(accountId, 2, 2);
+                        },
+                Deposit.class);
+
+        assertThrows(AggregateVersionConflictException.class, () -> bus.sendSync(new Deposit(1)));
+
+        assertEquals(4, sleeps.size());
+        final long[] ceilings = {10, 20, 40, 40};
+        for (int i = 0; i < sleeps.size(); i++) {
+            assertTrue(sleeps.get(i).compareTo(Duration.ofMillis(ceilings[i])) <= 0);
+            assertFalse(sleeps.get(i).isNegative());
+        }
+    }
+}
@@ -23,18 +23,17 @@ import app.bootstrap.core.cqrs.CommandStatus;
 import app.bootstrap.core.cqrs.ICommandTrackingRepository;
 import app.bootstrap.core.cqrs.ITrackableCommand;
 import app.bootstrap.core.cqrs.ITrackedCommand;
+import app.bootstrap.core.ddd.UuidMap;
 import jakarta.annotation.Nonnull;
 import java.util.List;
-import java.util.Map;
-import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
 
 public final class InMemoryCommandTrackingRepository implements ICommandTrackingRepository {
 
-    private final Map<UUID, ITrackedCommand> store = new ConcurrentHashMap<>();
+    private final UuidMap<ITrackedCommand> store = new UuidMap<>();
 
     @Override
-    public void update(@Nonnull ITrackableCommand trackableCommand, @Nonnull CommandStatus status) {
+    public synchronized void update(
+            @Nonnull ITrackableCommand trackableCommand, @Nonnull CommandStatus status) {
         store.put(
                 trackableCommand.id(),
                 new TrackedCommand(
@@ -46,7 +45,7 @@ public final class InMemoryCommandTrackingRepository implements ICommandTracking
 
     @Nonnull
     @Override
-    public List<ITrackedCommand> fetch() {
+    public synchronized List<ITrackedCommand> fetch() {
         return List.copyOf(store.values());
     }
 }
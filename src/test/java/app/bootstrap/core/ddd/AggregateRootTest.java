@@ -23,7 +23,13 @@ import static org.junit.jupiter.api.Assertions.*;
 
 import jakarta.annotation.Nonnull;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.Test;
 
@@ -188,6 +194,102 @@ class AggregateRootTest {
         assertEquals(1, publishedEventsCount.get());
     }
 
+    @Test
+    void shouldExposeUncommittedChangesAsReadOnlyView() {
+        // Arrange
+        TestAggregateRoot aggregate = new TestAggregateRoot(new TestId());
+        aggregate.changeName("New Name");
+
+        // Act
+        List<IDomainEvent> changes = aggregate.getUncommittedChanges();
+
+        // Assert
+        assertThrows(
+                UnsupportedOperationException.class,
+                () -> changes.add(new TestDomainEvent("sneaked in")));
+        assertThrows(UnsupportedOperationException.class, changes::clear);
+        assertSame(changes, aggregate.getUncommittedChanges(), "no wrapper per call");
+    }
+
+    @Test
+    void shouldFailFastWhenIteratingChangesWhileTheAggregateMutates() {
+        // Arrange
+        TestAggregateRoot aggregate = new TestAggregateRoot(new TestId());
+        aggregate.changeName("First");
+        Iterator<IDomainEvent> appending = aggregate.getUncommittedChanges().iterator();
+        Iterator<IDomainEvent> committing = aggregate.getUncommittedChanges().iterator();
+        appending.next();
+
+        // Act
+        aggregate.changeName("Second");
+
+        // Assert
+        assertThrows(ConcurrentModificationException.class, appending::next);
+        aggregate.commit(events -> {});
+        assertThrows(ConcurrentModificationException.class, committing::next);
+    }
+
+    @Test
+    void shouldReuseTheBufferAcrossCommits() {
+        // Arrange
+        TestAggregateRoot aggregate = new TestAggregateRoot(new TestId());
+        for (int i = 0; i < 10; i++) {
+            aggregate.changeName("Name " + i); // grows past the initial capacity
+        }
+        List<IDomainEvent> published = new ArrayList<>();
+        aggregate.commit(published::addAll);
+
+        // Act
+        aggregate.changeName("After commit");
+
+        // Assert
+        assertEquals(10, published.size(), "copied during the callback, intact afterwards");
+        assertEquals(1, aggregate.getUncommittedChanges().size());
+        assertEquals(
+                "Name changed to After commit",
+                ((TestDomainEvent) aggregate.getUncommittedChanges().getFirst()).getData());
+        assertThrows(
+                IndexOutOfBoundsException.class, () -> aggregate.getUncommittedChanges().get(1));
+    }
+
+    @Test
+    void shouldRejectMutationsFromOtherThreadsWhileOwned() {
+        // Arrange
+        TestAggregateRoot aggregate = new TestAggregateRoot(new TestId());
+        aggregate.claimOwnership();
+
+        // Act
+        CompletableFuture<Void> foreign =
+                CompletableFuture.runAsync(() -> aggregate.changeName("From elsewhere"));
+
+        // Assert
+        CompletionException thrown = assertThrows(CompletionException.class, foreign::join);
+        assertInstanceOf(IllegalStateException.class, thrown.getCause());
+        assertFalse(aggregate.hasUncommitedChanges());
+        aggregate.changeName("From the owner");
+        assertTrue(aggregate.hasUncommitedChanges());
+    }
+
+    @Test
+    void shouldAllowAnotherThreadAfterOwnershipIsReleased() {
+        // Arrange
+        TestAggregateRoot aggregate = new TestAggregateRoot(new TestId());
+        aggregate.claimOwnership();
+        aggregate.releaseOwnership();
+
+        // Act
+        CompletableFuture.runAsync(
+                        () -> {
+                            aggregate.claimOwnership();
+                            aggregate.changeName("Handed over");
+                        })
+                .join();
+
+        // Assert
+        assertEquals(1, aggregate.getUncommittedChanges().size());
+        assertThrows(IllegalStateException.class, aggregate::claimOwnership);
+    }
+
     @Test
     void shouldPreserveEquality() {
         // Arrange
@@ -34,6 +34,11 @@ class ApplicationExceptionTest {
         public TestApplicationException(String message, String errorCode, Object context) {
             super(message, errorCode, context);
         }
+
+        public TestApplicationException(
+                String message, String errorCode, Object context, boolean writableStackTrace) {
+            super(message, errorCode, context, writableStackTrace);
+        }
     }
 
     @Test
@@ -108,4 +113,37 @@ class ApplicationExceptionTest {
         // Assert
         assertEquals(contextValue, retrievedContext);
     }
+
+    @Test
+    void shouldKeepNoPerThrowStateInLightweightMode() {
+        // Arrange
+        TestApplicationException exception =
+                new TestApplicationException("Unavailable", "UNAVAILABLE", null, false);
+
+        // Act
+        exception.addSuppressed(new IllegalStateException("ignored"));
+
+        // Assert
+        assertEquals(0, exception.getStackTrace().length);
+        assertEquals(0, exception.getSuppressed().length);
+        assertThrows(
+                IllegalStateException.class,
+                () -> exception.initCause(new IllegalStateException("cause")));
+        assertNull(exception.getCause());
+        assertEquals("UNAVAILABLE", exception.getErrorCode());
+        assertNull(exception.getContext());
+    }
+
+    @Test
+    void shouldKeepStackTraceWhenWritable() {
+        // Arrange & Act
+        TestApplicationException exception =
+                new TestApplicationException("Unavailable", "UNAVAILABLE", "ctx", true);
+
+        // Assert
+        assertTrue(exception.getStackTrace().length > 0);
+        assertEquals("ctx", exception.getContext());
+        exception.addSuppressed(new IllegalStateException("ignored"));
+        assertEquals(0, exception.getSuppressed().length);
+    }
 }
@@ -0,0 +1,182 @@
+/*
+ * App Bootstrap Core
+ * Copyright (C) 2026
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package app.bootstrap.core.ddd;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.ToIntFunction;
+
+/**
+ * Reference {@link IRepository} decorator that keeps recently loaded and saved aggregates in a
+ * bounded identity map, so a handler touching a hot aggregate gets the instance back without a full
+ * rehydration.
+ *
+ * <p><strong>Validation.</strong> A cached instance is never trusted blindly: every hit is checked
+ * against a cheap version lookup on the store ({@code SELECT version …}, or the stream version of
+ * an {@link IEventStore}), and only returned if {@link AggregateRoot#getVersion()} still matches.
+ * An instance carrying uncommitted changes — saved but not yet {@code commit}ted, or mutated by a
+ * handler that then failed — is treated as a miss and reloaded. A stale instance therefore costs
+ * one extra load, never a wrong answer.
+ *
+ * <p><strong>Stampede protection.</strong> Concurrent misses for the same id share one in-flight
+ * load: the first caller reads from the delegate, the others wait for its result.
+ *
+ * <p><strong>Single writer.</strong> The cache hands out the <em>same instance</em> to every
+ * caller, so it is only safe where each aggregate is mutated by one thread at a time — a
+ * per-aggregate lane, an actor, or a partitioned consumer. Two handlers mutating the same instance
+ * concurrently would corrupt it before the version check could help.
+ *
+ * @param <I> the aggregate id type
+ * @param <E> the aggregate type
+ */
+public final class CachingRepository<I extends Id, E extends AggregateRoot<I>>
+        implements IRepository<I, E> {
+
+    @Nonnull private final IRepository<I, E> delegate;
+    @Nonnull private final ToIntFunction<I> versionLookup;
+    @Nonnull private final Map<I, E> cache;
+
+    @Nonnull
+    private final ConcurrentHashMap<I, CompletableFuture<Optional<E>>> loading =
+            new ConcurrentHashMap<>();
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong coalesced = new AtomicLong();
+
+    /**
+     * @param delegate the repository that owns storage
+     * @param versionLookup the store's current version of an aggregate, {@code 0} if absent
+     * @param capacity how many aggregates to keep; the least recently used is evicted beyond it
+     */
+    public CachingRepository(
+            @Nonnull IRepository<I, E> delegate,
+            @Nonnull ToIntFunction<I> versionLookup,
+            int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        }
+        this.delegate = delegate;
+        this.versionLookup = versionLookup;
+        this.cache =
+                new LinkedHashMap<>(16, 0.75f, true) {
+                    @Override
+                    protected boolean removeEldestEntry(Map.Entry<I, E> eldest) {
+                        return size() > capacity;
+                    }
+                };
+    }
+
+    @Nonnull
+    @Override
+    public Optional<E> read(@Nonnull I id) {
+        final E cached = cached(id);
+        if (cached != null
+                && !cached.hasUncommitedChanges()
+                && cached.getVersion() == versionLookup.applyAsInt(id)) {
+            hits.incrementAndGet();
+            return Optional.of(cached);
+        }
+        misses.incrementAndGet();
+        return load(id);
+    }
+
+    @Override
+    public void save(@Nonnull E entity) throws AggregateVersionConflictException {
+        try {
+            delegate.save(entity);
+        } catch (AggregateVersionConflictException | RuntimeException e) {
+            evict(entity.getId());
+            throw e;
+        }
+        // cached as saved; the handler's commit() then brings its version in line with the store
+        put(entity.getId(), entity);
+    }
+
+    @Override
+    public void delete(@Nonnull I id) {
+        delegate.delete(id);
+        evict(id);
+    }
+
+    /** Reads served from the cache. */
+    public long hits() {
+        return hits.get();
+    }
+
+    /** Reads that went to the delegate (or joined a load already in flight). */
+    public long misses() {
+        return misses.get();
+    }
+
+    /** Misses that joined another caller's in-flight load instead of loading themselves. */
+    public long coalesced() {
+        return coalesced.get();
+    }
+
+    private Optional<E> load(I id) {
+        final CompletableFuture<Optional<E>> mine = new CompletableFuture<>();
+        final CompletableFuture<Optional<E>> inFlight = loading.putIfAbsent(id, mine);
+        if (inFlight != null) {
+            coalesced.incrementAndGet();
+            try {
+                return inFlight.join();
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException r ? r : e;
+            }
+        }
+        try {
+            final Optional<E> loaded = delegate.read(id);
+            loaded.ifPresentOrElse(aggregate -> put(id, aggregate), () -> evict(id));
+            mine.complete(loaded);
+            return loaded;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            loading.remove(id, mine);
+        }
+    }
+
+    @Nullable private E cached(I id) {
+        synchronized (cache) {
+            return cache.get(id);
+        }
+    }
+
+    private void put(I id, E aggregate) {
+        synchronized (cache) {
+            cache.put(id, aggregate);
+        }
+    }
+
+    private void evict(I id) {
+        synchronized (cache) {
+            cache.remove(id);
+        }
+    }
+}
@@ -0,0 +1,229 @@
+/*
+ * App Bootstrap Core
+ * Copyright (C) 2026
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package app.bootstrap.core.ddd;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import jakarta.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class CachingRepositoryTest {
+
+    static final class CartId extends Id {
+        CartId() {
+            super(UUID.randomUUID());
+        }
+    }
+
+    static final class ItemAdded extends DomainEvent {
+        ItemAdded(CartId id) {
+            super(id, Cart.class);
+        }
+    }
+
+    static final class Cart extends AggregateRoot<CartId> {
+        private int items;
+
+        Cart(CartId id) {
+            super(id);
+        }
+
+        Cart(CartId id, int version, int items) {
+            super(id, version);
+            this.items = items;
+        }
+
+        void add() {
+            items++;
+            apply(new ItemAdded(getId()));
+        }
+
+        int items() {
+            return items;
+        }
+    }
+
+    /** State-stored delegate with an optimistic version check; counts its (slow) loads. */
+    static final class StateRepository implements IRepository<CartId, Cart> {
+        record Row(int version, int items) {}
+
+        final Map<CartId, Row> rows = new ConcurrentHashMap<>();
+        final AtomicInteger loads = new AtomicInteger();
+        volatile CountDownLatch loadGate = new CountDownLatch(0);
+
+        @Nonnull
+        @Override
+        public Optional<Cart> read(@Nonnull CartId id) {
+            loads.incrementAndGet();
+            try {
+                loadGate.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return Optional.ofNullable(rows.get(id))
+                    .map(row -> new Cart(id, row.version(), row.items()));
+        }
+
+        @Override
+        public synchronized void save(@Nonnull Cart cart) throws AggregateVersionConflictException {
+            final int stored = version(cart.getId());
+            if (stored != cart.getVersion()) {
+                throw new AggregateVersionConflictException(
+                        cart.getId(), stored, cart.getNextVersion());
+            }
+            rows.put(cart.getId(), new Row(cart.getNextVersion(), cart.items()));
+        }
+
+        @Override
+        public void delete(@Nonnull CartId id) {
+            rows.remove(id);
+        }
+
+        int version(CartId id) {
+            final Row row = rows.get(id);
+            return row == null ? 0 : row.version();
+        }
+    }
+
+    private StateRepository store;
+    private CachingRepository<CartId, Cart> repository;
+
+    @BeforeEach
+    void setUp() {
+        store = new StateRepository();
+        repository = new CachingRepository<>(store, store::version, 2);
+    }
+
+    private void saveAndCommit(Cart cart) throws AggregateVersionConflictException {
+        repository.save(cart);
+        cart.commit(events -> {});
+    }
+
+    @Test
+    void shouldServeASavedAggregateWithoutReloadingIt() throws Exception {
+        final Cart cart = new Cart(new CartId());
+        cart.add();
+        saveAndCommit(cart);
+
+        final Cart read = repository.read(cart.getId()).orElseThrow();
+
+        assertSame(cart, read);
+        assertEquals(0, store.loads.get());
+        assertEquals(1, repository.hits());
+    }
+
+    @Test
+    void shouldTreatAnInstanceWithUncommittedChangesAsAMiss() throws Exception {
+        final Cart cart = new Cart(new CartId());
+        cart.add();
+        repository.save(cart); // no commit(): the cached instance is ahead of nothing it can prove
+
+        final Cart read = repository.read(cart.getId()).orElseThrow();
+
+        assertNotSame(cart, read);
+        assertEquals(1, store.loads.get());
+        assertEquals(1, read.getVersion());
+    }
+
+    @Test
+    void shouldReloadWhenTheStoreMovedOnBehindTheCache() throws Exception {
+        final Cart cart = new Cart(new CartId());
+        cart.add();
+        saveAndCommit(cart);
+        store.rows.put(cart.getId(), new StateRepository.Row(5, 42)); // another node wrote
+
+        final Cart read = repository.read(cart.getId()).orElseThrow();
+
+        assertEquals(42, read.items());
+        assertEquals(5, read.getVersion());
+        assertEquals(1, store.loads.get());
+        assertSame(read, repository.read(cart.getId()).orElseThrow(), "the fresh load is cached");
+    }
+
+    @Test
+    void shouldEvictOnConflictAndOnDelete() throws Exception {
+        final Cart cart = new Cart(new CartId());
+        cart.add();
+        saveAndCommit(cart);
+        final Cart stale = new Cart(cart.getId(), 0, 0);
+        stale.add();
+
+        assertThrows(AggregateVersionConflictException.class, () -> repository.save(stale));
+        assertEquals(1, repository.read(cart.getId()).orElseThrow().items());
+        assertEquals(1, store.loads.get(), "the conflicting save dropped the cached instance");
+
+        repository.delete(cart.getId());
+        assertTrue(repository.read(cart.getId()).isEmpty());
+    }
+
+    @Test
+    void shouldEvictTheLeastRecentlyUsedBeyondCapacity() throws Exception {
+        final List<Cart> carts = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            final Cart cart = new Cart(new CartId());
+            cart.add();
+            saveAndCommit(cart);
+            carts.add(cart);
+        }
+
+        assertSame(carts.get(2), repository.read(carts.get(2).getId()).orElseThrow());
+        assertNotSame(carts.get(0), repository.read(carts.get(0).getId()).orElseThrow());
+        assertEquals(1, store.loads.get());
+    }
+
+    @Test
+    void shouldLoadOnceForConcurrentMissesOnTheSameId() throws Exception {
+        final CartId id = new CartId();
+        store.rows.put(id, new StateRepository.Row(1, 1));
+        store.loadGate = new CountDownLatch(1);
+        final int readers = 8;
+        final ExecutorService pool = Executors.newFixedThreadPool(readers);
+        try {
+            final List<Future<Cart>> reads = new ArrayList<>();
+            for (int i = 0; i < readers; i++) {
+                reads.add(pool.submit(() -> repository.read(id).orElseThrow()));
+            }
+            while (repository.coalesced() < readers - 1) {
+                Thread.onSpinWait();
+            }
+            store.loadGate.countDown();
+
+            final Cart first = reads.get(0).get();
+            for (Future<Cart> read : reads) {
+                assertSame(first, read.get());
+            }
+            assertEquals(1, store.loads.get());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,169 @@
+/*
+ * App Bootstrap Core
+ * Copyright (C) 2026
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package app.bootstrap.core.ddd;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import org.junit.jupiter.api.Test;
+
+class CompiledSpecificationTest {
+
+    record Order(int amount, boolean priority, String country) {}
+
+    /** A named rule that counts its evaluations and can be made artificially slow. */
+    static final class Rule implements ISpecification<Order> {
+        final String name;
+        final Predicate<Order> predicate;
+        final int spin;
+        final AtomicLong calls = new AtomicLong();
+
+        Rule(String name, int spin, Predicate<Order> predicate) {
+            this.name = name;
+            this.spin = spin;
+            this.predicate = predicate;
+        }
+
+        @Override
+        public boolean isSatisfiedBy(Order candidate) {
+            calls.incrementAndGet();
+            long sink = 0;
+            for (int i = 0; i < spin; i++) {
+                sink += Long.rotateLeft(sink ^ i, 7);
+            }
+            return predicate.test(candidate) || sink == Long.MIN_VALUE;
+        }
+
+        @Override
+        public String toString() {
+            return name;
+        }
+    }
+
+    private static Order[] orders(int count) {
+        Random random = new Random(7);
+        Order[] orders = new Order[count];
+        for (int i = 0; i < count; i++) {
+            orders[i] =
+                    new Order(
+                            random.nextInt(1_000),
+                            random.nextInt(100) == 0,
+                            random.nextBoolean() ? "DE" : "FR");
+        }
+        return orders;
+    }
+
+    @Test
+    void shouldFlattenNestedJunctionsAndDoubleNegation() {
+        // Arrange
+        Rule a = new Rule("a", 0, o -> true);
+        Rule b = new Rule("b", 0, o -> true);
+        Rule c = new Rule("c", 0, o -> true);
+        Rule d = new Rule("d", 0, o -> true);
+        ISpecification<Order> spec =
+                new AndSpecification<>(List.of(a, new AndSpecification<>(List.of(b, c))))
+                        .and(new NotSpecification<>(new NotSpecification<>(d)));
+
+        // Act
+        CompiledSpecification<Order> compiled = CompiledSpecification.compile(spec);
+
+        // Assert
+        assertEquals("and(a, b, c, d)", compiled.describe());
+        assertSame(spec, compiled.source());
+    }
+
+    @Test
+    void shouldAgreeWithTheSourceSpecification() {
+        // Arrange
+        Rule big = new Rule("big", 0, o -> o.amount() > 500);
+        Rule priority = new Rule("priority", 0, Order::priority);
+        Rule german = new Rule("german", 0, o -> o.country().equals("DE"));
+        ISpecification<Order> spec = big.and(german.or(priority)).or(priority.not().and(big.not()));
+        CompiledSpecification<Order> plain = CompiledSpecification.compile(spec);
+        CompiledSpecification<Order> adaptive = CompiledSpecification.adaptive(spec, 2, 16);
+
+        // Act & Assert
+        for (Order order : orders(10_000)) {
+            boolean expected = spec.isSatisfiedBy(order);
+            assertEquals(expected, plain.isSatisfiedBy(order));
+            assertEquals(expected, adaptive.isSatisfiedBy(order));
+        }
+    }
+
+    @Test
+    void shouldMoveTheCheapSelectiveOperandFirst() {
+        // Arrange: declared slow-and-permissive first, cheap-and-selective last
+        Rule slow = new Rule("slow", 2_000, o -> o.amount() >= 0);
+        Rule rare = new Rule("rare", 0, Order::priority);
+        CompiledSpecification<Order> compiled =
+                CompiledSpecification.adaptive(slow.and(rare), 4, 32);
+        Order[] orders = orders(20_000);
+
+        // Act
+        for (Order order : orders) {
+            compiled.isSatisfiedBy(order);
+        }
+        slow.calls.set(0);
+        for (Order order : orders) {
+            compiled.isSatisfiedBy(order);
+        }
+
+        // Assert: the slow rule now only runs for the ~1% that pass the cheap one (plus samples)
+        assertEquals("and(rare, slow)", compiled.describe());
+        assertTrue(slow.calls.get() < orders.length / 2, "slow ran " + slow.calls.get() + " times");
+    }
+
+    @Test
+    void shouldReorderDisjunctionsByLikelyTrue() {
+        // Arrange
+        Rule rarelyTrue = new Rule("rarelyTrue", 0, Order::priority);
+        Rule mostlyTrue = new Rule("mostlyTrue", 0, o -> o.amount() > 50);
+        CompiledSpecification<Order> compiled =
+                CompiledSpecification.adaptive(rarelyTrue.or(mostlyTrue), 1, 64);
+
+        // Act
+        for (Order order : orders(5_000)) {
+            compiled.isSatisfiedBy(order);
+        }
+
+        // Assert
+        assertEquals("or(mostlyTrue, rarelyTrue)", compiled.describe());
+    }
+
+    @Test
+    void shouldKeepDeclarationOrderWhenNotAdaptive() {
+        // Arrange
+        Rule slow = new Rule("slow", 500, o -> true);
+        Rule rare = new Rule("rare", 0, Order::priority);
+        CompiledSpecification<Order> compiled = CompiledSpecification.compile(slow.and(rare));
+
+        // Act
+        for (Order order : orders(2_000)) {
+            compiled.isSatisfiedBy(order);
+        }
+
+        // Assert
+        assertEquals("and(slow, rare)", compiled.describe());
+        assertEquals(2_000, slow.calls.get());
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * App Bootstrap Core
+ * Copyright (C) 2026
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package app.bootstrap.core.ddd;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class DomainEventFilterTest {
+
+    static final class OrderId extends Id {
+        OrderId() {
+            super(UUID.randomUUID());
+        }
+    }
+
+    static class Order extends AggregateRoot<OrderId> {
+        Order() {
+            super(new OrderId());
+        }
+    }
+
+    static final class RushOrder extends Order {}
+
+    static final class Customer extends AggregateRoot<OrderId> {
+        Customer() {
+            super(new OrderId());
+        }
+    }
+
+    static final class OrderPlaced extends DomainEvent {
+        OrderPlaced(Class<? extends AggregateRoot<?>> aggregateType) {
+            super(new OrderId(), aggregateType);
+        }
+    }
+
+    record Tick(UUID getEventId, Instant getTimestamp) implements IDomainEvent {}
+
+    @Test
+    void shouldMatchEverythingWithNoCriteria() {
+        // Act & Assert
+        assertTrue(DomainEventFilter.ANY.matches(new OrderPlaced(Order.class)));
+        assertTrue(DomainEventFilter.ANY.matches(new Tick(UUID.randomUUID(), Instant.now())));
+    }
+
+    @Test
+    void shouldRouteByEventAndAggregateSupertypes() {
+        // Arrange
+        final DomainEventFilter filter =
+                DomainEventFilter.ANY
+                        .withEventTypes(DomainEvent.class)
+                        .withAggregateTypes(Order.class);
+
+        // Act & Assert
+        assertTrue(filter.routes(OrderPlaced.class, Order.class));
+        assertTrue(filter.routes(OrderPlaced.class, RushOrder.class));
+        assertFalse(filter.routes(OrderPlaced.class, Customer.class));
+        assertFalse(filter.routes(Tick.class, Order.class));
+    }
+
+    @Test
+    void shouldNeverMatchAnAggregateTypeForAnEventWithoutOne() {
+        // Arrange
+        final DomainEventFilter filter = DomainEventFilter.ANY.withAggregateTypes(Order.class);
+        final Tick tick = new Tick(UUID.randomUUID(), Instant.now());
+
+        // Act & Assert
+        assertNull(DomainEventFilter.aggregateTypeOf(tick));
+        assertFalse(filter.matches(tick));
+    }
+
+    @Test
+    void shouldRequireACorrelatedEventWhenACorrelationIdIsSet() {
+        // Arrange
+        final DomainEventFilter filter = DomainEventFilter.ANY.withCorrelationId(UUID.randomUUID());
+
+        // Act & Assert — the route is open, only the per-event check rejects
+        assertTrue(filter.routes(OrderPlaced.class, Order.class));
+        assertFalse(filter.matches(new OrderPlaced(Order.class)));
+    }
+
+    @Test
+    void shouldCopyTheCriteriaAndCompareByValue() {
+        // Arrange
+        final Set<Class<?>> aggregates = new HashSet<>(Set.of(Order.class));
+        final DomainEventFilter filter = new DomainEventFilter(null, aggregates, null);
+
+        // Act
+        aggregates.add(Customer.class);
+
+        // Assert
+        assertEquals(Set.of(Order.class), filter.aggregateTypes());
+        assertEquals(DomainEventFilter.ANY.withAggregateTypes(Order.class), filter);
+    }
+}
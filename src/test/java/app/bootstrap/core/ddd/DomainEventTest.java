@@ -89,6 +89,15 @@ class DomainEventTest {
             this.eventData = eventData;
         }
 
+        public TestDomainEvent(
+                @Nonnull Id aggregateId,
+                @Nonnull Class<? extends AggregateRoot<?>> aggregateType,
+                String eventData,
+                @Nonnull IUuidGenerator eventIds) {
+            super(aggregateId, aggregateType, null, Clock.systemUTC(), eventIds);
+            this.eventData = eventData;
+        }
+
         public String getEventData() {
             return eventData;
         }
@@ -291,4 +300,42 @@ class DomainEventTest {
         assertEquals(eventVersion, event.getEventVersion());
         assertEquals(eventData, event.getEventData());
     }
+
+    @Test
+    void shouldDefaultToTimeOrderedEventIds() {
+        // Act
+        TestDomainEvent event =
+                new TestDomainEvent(new TestId(), TestAggregateRoot.class, "Test event data");
+
+        // Assert
+        assertEquals(7, event.getEventId().version());
+    }
+
+    @Test
+    void shouldTakeEventIdFromInjectedGenerator() {
+        // Arrange
+        UUID fixed = UUID.fromString("00000000-0000-4000-8000-000000000001");
+
+        // Act
+        TestDomainEvent event =
+                new TestDomainEvent(new TestId(), TestAggregateRoot.class, "data", () -> fixed);
+
+        // Assert
+        assertEquals(fixed, event.getEventId());
+    }
+
+    @Test
+    void shouldGiveABurstOfEventsStrictlyIncreasingTimestamps() {
+        // Arrange
+        TestId aggregateId = new TestId();
+        Instant previous = Instant.MIN;
+
+        // Act & Assert
+        for (int i = 0; i < 1_000; i++) {
+            TestDomainEvent event =
+                    new TestDomainEvent(aggregateId, TestAggregateRoot.class, "burst " + i);
+            assertTrue(event.getTimestamp().isAfter(previous));
+            previous = event.getTimestamp();
+        }
+    }
 }
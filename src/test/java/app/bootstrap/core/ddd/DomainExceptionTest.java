@@ -34,6 +34,11 @@ class DomainExceptionTest {
         public TestDomainException(String message, String errorCode, Object context) {
             super(message, errorCode, context);
         }
+
+        public TestDomainException(
+                String message, String errorCode, Object context, boolean writableStackTrace) {
+            super(message, errorCode, context, writableStackTrace);
+        }
     }
 
     @Test
@@ -106,4 +111,56 @@ class DomainExceptionTest {
         // Assert
         assertEquals(contextValue, retrievedContext);
     }
+
+    @Test
+    void shouldKeepNoPerThrowStateInLightweightMode() {
+        // Arrange
+        TestDomainException exception =
+                new TestDomainException("Rejected", "REJECTED", null, false);
+
+        // Act
+        exception.addSuppressed(new IllegalStateException("ignored"));
+
+        // Assert
+        assertEquals(0, exception.getStackTrace().length);
+        assertEquals(0, exception.getSuppressed().length);
+        assertThrows(
+                IllegalStateException.class,
+                () -> exception.initCause(new IllegalStateException("cause")));
+        assertNull(exception.getCause());
+        assertEquals("REJECTED", exception.getErrorCode());
+        assertNull(exception.getContext());
+    }
+
+    @Test
+    void shouldKeepStackTraceWhenWritable() {
+        // Arrange & Act
+        TestDomainException exception =
+                new TestDomainException("Rejected", "REJECTED", "ctx", true);
+
+        // Assert
+        assertTrue(exception.getStackTrace().length > 0);
+        assertEquals("ctx", exception.getContext());
+        exception.addSuppressed(new IllegalStateException("ignored"));
+        assertEquals(0, exception.getSuppressed().length);
+    }
+
+    @Test
+    void shouldBeThrowableRepeatedlyWhenPreallocated() {
+        // Arrange
+        final TestDomainException shared =
+                new TestDomainException("Rejected", "REJECTED", null, false);
+
+        // Act & Assert
+        for (int i = 0; i < 3; i++) {
+            TestDomainException thrown =
+                    assertThrows(
+                            TestDomainException.class,
+                            () -> {
+                                throw shared;
+                            });
+            assertSame(shared, thrown);
+            assertEquals(0, thrown.getStackTrace().length);
+        }
+    }
 }
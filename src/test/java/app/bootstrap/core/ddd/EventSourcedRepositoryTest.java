@@ -0,0 +1,300 @@
+/*
+ * App Bootstrap Core
+ * Copyright (C) 2026
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package app.bootstrap.core.ddd;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import app.bootstrap.core.messaging.IEvent;
+import app.bootstrap.core.messaging.IEventListener;
+import jakarta.annotation.Nonnull;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class EventSourcedRepositoryTest {
+
+    // ---- An event-sourced counter aggregate ------------------------------------------------
+
+    static final class CounterId extends Id {
+        CounterId() {
+            super(UUID.randomUUID());
+        }
+    }
+
+    static final class Incremented extends DomainEvent {
+        final int by;
+
+        Incremented(CounterId id, int by) {
+            super(id, Counter.class);
+            this.by = by;
+        }
+    }
+
+    static final class Counter extends AggregateRoot<CounterId> {
+        private int value;
+
+        Counter(CounterId id) {
+            super(id);
+        }
+
+        // persistence seam: empty state at the stream version, no events queued
+        Counter(CounterId id, int version, int value) {
+            super(id, version);
+            this.value = value;
+        }
+
+        void increment(int by) {
+            when(new Incremented(getId(), by));
+            apply(new Incremented(getId(), by));
+        }
+
+        void when(Incremented event) {
+            value += event.by;
+        }
+
+        int value() {
+            return value;
+        }
+    }
+
+    // ---- The repository under test ---------------------------------------------------------
+
+    static final class CounterRepository
+            extends EventSourcedRepository<CounterId, Counter, Integer> {
+        int replayed;
+
+        CounterRepository(IEventStore store) {
+            super(new NoOpDomainEventBus(), store);
+        }
+
+        CounterRepository(
+                IEventStore store, ISnapshotStore<Integer> snapshots, ISnapshotPolicy policy) {
+            super(new NoOpDomainEventBus(), store, snapshots, new CounterSnapshots(), policy);
+        }
+
+        @Nonnull
+        @Override
+        protected Counter instantiate(@Nonnull CounterId id, int version) {
+            return new Counter(id, version, 0);
+        }
+
+        @Override
+        protected void replay(@Nonnull Counter aggregate, @Nonnull IDomainEvent event) {
+            replayed++;
+            aggregate.when((Incremented) event);
+        }
+
+        @Override
+        public void delete(@Nonnull CounterId id) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    static final class CounterSnapshots
+            implements EventSourcedRepository.SnapshotCodec<CounterId, Counter, Integer> {
+        @Nonnull
+        @Override
+        public Integer snapshot(@Nonnull Counter aggregate) {
+            return aggregate.value();
+        }
+
+        @Nonnull
+        @Override
+        public Counter restore(@Nonnull CounterId id, int version, @Nonnull Integer state) {
+            return new Counter(id, version, state);
+        }
+    }
+
+    static final class InMemorySnapshotStore implements ISnapshotStore<Integer> {
+        final Map<Id, Snapshot<Integer>> snapshots = new HashMap<>();
+
+        @Nonnull
+        @Override
+        public Optional<Snapshot<Integer>> load(@Nonnull Id aggregateId) {
+            return Optional.ofNullable(snapshots.get(aggregateId));
+        }
+
+        @Override
+        public void save(@Nonnull Snapshot<Integer> snapshot) {
+            snapshots.put(snapshot.aggregateId(), snapshot);
+        }
+    }
+
+    private InMemoryEventStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new InMemoryEventStore();
+    }
+
+    /** Handler-style save: append, then commit (which bumps the version and clears). */
+    private static void saveAndCommit(CounterRepository repository, Counter counter)
+            throws AggregateVersionConflictException {
+        repository.save(counter);
+        counter.commit(events -> {});
+    }
+
+    @Test
+    void shouldReturnEmptyForAnUnknownAggregate() {
+        assertTrue(new CounterRepository(store).read(new CounterId()).isEmpty());
+    }
+
+    @Test
+    void shouldRebuildAnAggregateByReplayingItsStream() throws Exception {
+        final CounterRepository repository = new CounterRepository(store);
+        final Counter counter = new Counter(new CounterId());
+        counter.increment(2);
+        counter.increment(3);
+        saveAndCommit(repository, counter);
+        counter.increment(5);
+        saveAndCommit(repository, counter);
+
+        final Counter loaded = repository.read(counter.getId()).orElseThrow();
+
+        assertEquals(10, loaded.value());
+        assertEquals(2, loaded.getVersion(), "one version per save, not per event");
+        assertFalse(loaded.hasUncommitedChanges(), "replay must not re-record history");
+    }
+
+    @Test
+    void shouldRejectASaveBasedOnAStaleVersion() throws Exception {
+        final CounterRepository repository = new CounterRepository(store);
+        final Counter counter = new Counter(new CounterId());
+        counter.increment(1);
+        saveAndCommit(repository, counter);
+
+        final Counter first = repository.read(counter.getId()).orElseThrow();
+        final Counter second = repository.read(counter.getId()).orElseThrow();
+        first.increment(1);
+        saveAndCommit(repository, first);
+        second.increment(1);
+
+        assertThrows(AggregateVersionConflictException.class, () -> repository.save(second));
+        assertEquals(2, repository.read(counter.getId()).orElseThrow().value());
+    }
+
+    @Test
+    void shouldSkipSavesWithoutChanges() throws Exception {
+        final CounterRepository repository = new CounterRepository(store);
+        final Counter counter = new Counter(new CounterId());
+
+        repository.save(counter);
+
+        assertTrue(repository.read(counter.getId()).isEmpty(), "nothing was appended");
+    }
+
+    @Test
+    void shouldSnapshotOnceTheReplayReachesThePolicyThreshold() throws Exception {
+        final InMemorySnapshotStore snapshots = new InMemorySnapshotStore();
+        final CounterRepository repository =
+                new CounterRepository(store, snapshots, ISnapshotPolicy.everyEvents(3));
+        final Counter counter = new Counter(new CounterId());
+        for (int i = 0; i < 3; i++) {
+            counter.increment(1);
+            saveAndCommit(repository, counter);
+        }
+
+        repository.read(counter.getId()).orElseThrow();
+        assertEquals(3, repository.replayed);
+        assertEquals(3, snapshots.snapshots.get(counter.getId()).version());
+
+        final Counter fromSnapshot = repository.read(counter.getId()).orElseThrow();
+        assertEquals(3, repository.replayed, "second load replays nothing after the snapshot");
+        assertEquals(3, fromSnapshot.value());
+        assertEquals(3, fromSnapshot.getVersion());
+    }
+
+    @Test
+    void shouldReplayOnlyTheEventsAfterTheSnapshot() throws Exception {
+        final InMemorySnapshotStore snapshots = new InMemorySnapshotStore();
+        final CounterRepository repository =
+                new CounterRepository(store, snapshots, ISnapshotPolicy.everyEvents(100));
+        final Counter counter = new Counter(new CounterId());
+        counter.increment(10);
+        saveAndCommit(repository, counter);
+        counter.increment(1);
+        saveAndCommit(repository, counter);
+        snapshots.save(new ISnapshotStore.Snapshot<>(counter.getId(), 1, 10));
+
+        final Counter loaded = repository.read(counter.getId()).orElseThrow();
+
+        assertEquals(1, repository.replayed, "only the commit after version 1 was replayed");
+        assertEquals(11, loaded.value());
+        assertEquals(2, loaded.getVersion());
+    }
+
+    @Test
+    void shouldComposeSnapshotPolicies() {
+        final ISnapshotPolicy policy =
+                ISnapshotPolicy.everyEvents(50)
+                        .or(ISnapshotPolicy.replayCostAbove(java.time.Duration.ofMillis(5)));
+
+        assertTrue(policy.shouldSnapshot(50, 0));
+        assertTrue(policy.shouldSnapshot(1, 6_000_000));
+        assertFalse(policy.shouldSnapshot(1, 1_000));
+        assertFalse(ISnapshotPolicy.never().shouldSnapshot(1_000, Long.MAX_VALUE));
+    }
+
+    @Test
+    void shouldCarryTheAppendedEventsInOrder() throws Exception {
+        final CounterRepository repository = new CounterRepository(store);
+        final Counter counter = new Counter(new CounterId());
+        counter.increment(1);
+        counter.increment(2);
+        final List<IDomainEvent> applied = List.copyOf(counter.getUncommittedChanges());
+        saveAndCommit(repository, counter);
+
+        assertEquals(applied, store.read(counter.getId(), 0).events());
+    }
+
+    // ---- No-op domain event bus (the Repository base requires one) -------------------------
+
+    static final class NoOpDomainEventBus implements IDomainEventBus {
+        @Override
+        public <E extends IEvent> void subscribe(
+                @Nonnull Class<E> type, @Nonnull IEventListener<? super E> listener) {}
+
+        @Override
+        public <E extends IEvent> void unsubscribe(
+                @Nonnull Class<E> type, @Nonnull IEventListener<? super E> listener) {}
+
+        @Override
+        public void subscribeAll(@Nonnull IEventListener<? super IEvent> listener) {}
+
+        @Override
+        public void unsubscribeAll(@Nonnull IEventListener<? super IEvent> listener) {}
+
+        @Override
+        public void publish(@Nonnull IEvent event) {}
+
+        @Override
+        public void subscribe(@Nonnull IDomainEventListener listener) {}
+
+        @Override
+        public void unsubscribe(@Nonnull IDomainEventListener listener) {}
+
+        @Override
+        public void publish(@Nonnull IDomainEvent event) {}
+    }
+}
@@ -0,0 +1,514 @@
+/*
+ * App Bootstrap Core
+ * Copyright (C) 2026
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package app.bootstrap.core.ddd;
+
+import app.bootstrap.core.messaging.EventCodec;
+import jakarta.annotation.Nonnull;
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * File-backed reference {@link IEventStore}: an append-only log split into segment files, written
+ * through {@link FileChannel}, with a per-aggregate index kept in memory.
+ *
+ * <p><strong>Layout.</strong> Each {@link #append} writes one <em>commit record</em> — a 40-byte
+ * header ({@code length, crc32, firstPosition, aggregate uuid, version, eventCount}) followed by
+ * the length-prefixed events — with a single positional write. A segment is named after the global
+ * position of its first event and is rolled once it would outgrow {@code segmentBytes}.
+ *
+ * <p><strong>Group commit.</strong> With {@code syncWrites}, an append returns only once its record
+ * has been forced to disk, but writers do not force one by one: the first waiter forces the active
+ * segment and publishes how far that force reached, and every writer queued behind it whose record
+ * is already covered returns without a force of its own. Under concurrent load one {@code fsync}
+ * serves many appends, so throughput tracks disk bandwidth rather than {@code fsync} latency.
+ *
+ * <p><strong>Reads.</strong> The index maps every aggregate to the location of each of its commit
+ * records, so {@link #read} fetches exactly the records after {@code afterVersion} and never
+ * decodes another aggregate's events. {@link #readAll} walks the segments in order, skipping whole
+ * records by their header until it reaches {@code fromPosition}. Both see appends as soon as they
+ * are written, before they are forced.
+ *
+ * <p><strong>Recovery.</strong> On open every segment is scanned once to rebuild the index; a
+ * record whose length or checksum does not hold at the tail of the last segment is a torn write
+ * from a crash and is truncated away. Aggregate ids come back from the log as opaque {@link Id}s
+ * carrying only the UUID — equal to the original id by {@link Id#equals}, but not of its subclass.
+ *
+ * <p>The store serialises writers on its monitor; encoding runs before the lock is taken and
+ * forcing after it is released, so the critical section is the version check and one write.
+ */
+public final class FileEventStore implements IEventStore, Closeable {
+
+    private static final int HEADER = 40;
+    private static final int CRC = 4;
+    private static final int FIRST_POSITION = 8;
+    private static final int AGGREGATE = 16;
+    private static final int VERSION = 32;
+    private static final int COUNT = 36;
+    private static final long DEFAULT_SEGMENT_BYTES = 64L * 1024 * 1024;
+    private static final String SUFFIX = ".seg";
+
+    /** An aggregate id read back from the log, where only its UUID is known. */
+    private static final class StreamId extends Id {
+        StreamId(UUID uuid) {
+            super(uuid);
+        }
+    }
+
+    private static final class Segment {
+        final long firstPosition;
+        final FileChannel channel;
+        long size;
+
+        Segment(long firstPosition, FileChannel channel) {
+            this.firstPosition = firstPosition;
+            this.channel = channel;
+        }
+    }
+
+    /** Where each commit of one stream lives: entry {@code v - 1} is the record of version v. */
+    private static final class StreamIndex {
+        long[] locations = new long[4];
+        int[] lengths = new int[4];
+        int size;
+
+        void add(long location, int length) {
+            if (size == locations.length) {
+                locations = Arrays.copyOf(locations, size * 2);
+                lengths = Arrays.copyOf(lengths, size * 2);
+            }
+            locations[size] = location;
+            lengths[size] = length;
+            size++;
+        }
+    }
+
+    private final Path dir;
+    private final EventCodec<IDomainEvent> codec;
+    private final long segmentBytes;
+    private final boolean syncWrites;
+
+    private final List<Segment> segments = new ArrayList<>();
+    private final UuidMap<StreamIndex> streams = new UuidMap<>();
+    private long nextPosition;
+    private long written;
+
+    private final Object forceLock = new Object();
+    private volatile long durable;
+    private long forces;
+
+    private FileEventStore(
+            Path dir, EventCodec<IDomainEvent> codec, long segmentBytes, boolean syncWrites) {
+        this.dir = dir;
+        this.codec = codec;
+        this.segmentBytes = segmentBytes;
+        this.syncWrites = syncWrites;
+    }
+
+    /** Opens (or creates) a store in {@code dir} with 64 MiB segments and durable appends. */
+    @Nonnull
+    public static FileEventStore open(@Nonnull Path dir, @Nonnull EventCodec<IDomainEvent> codec)
+            throws IOException {
+        return open(dir, codec, DEFAULT_SEGMENT_BYTES, true);
+    }
+
+    /**
+     * Opens (or creates) a store in {@code dir}.
+     *
+     * @param segmentBytes the size after which a new segment file is started
+     * @param syncWrites whether {@link #append} waits until its record is forced to disk
+     */
+    @Nonnull
+    public static FileEventStore open(
+            @Nonnull Path dir,
+            @Nonnull EventCodec<IDomainEvent> codec,
+            long segmentBytes,
+            boolean syncWrites)
+            throws IOException {
+        Files.createDirectories(dir);
+        final FileEventStore store = new FileEventStore(dir, codec, segmentBytes, syncWrites);
+        store.load();
+        return store;
+    }
+
+    @Override
+    public void append(
+            @Nonnull Id aggregateId,
+            int expectedVersion,
+            @Nonnull List<? extends IDomainEvent> events)
+            throws AggregateVersionConflictException {
+        final ByteBuffer record = encode(aggregateId, events);
+        try {
+            final long end = write(aggregateId, expectedVersion, events.size(), record);
+            if (syncWrites) {
+                awaitDurable(end);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Nonnull
+    @Override
+    public EventStream read(@Nonnull Id aggregateId, int afterVersion) {
+        final int version;
+        final FileChannel[] channels;
+        final long[] offsets;
+        final int[] lengths;
+        synchronized (this) {
+            final StreamIndex stream = streams.get(aggregateId.getUuid());
+            if (stream == null) {
+                return new EventStream(aggregateId, 0, List.of());
+            }
+            version = stream.size;
+            final int from = Math.min(Math.max(afterVersion, 0), version);
+            channels = new FileChannel[version - from];
+            offsets = new long[version - from];
+            lengths = Arrays.copyOfRange(stream.lengths, from, version);
+            for (int i = from; i < version; i++) {
+                channels[i - from] = segments.get(segmentOf(stream.locations[i])).channel;
+                offsets[i - from] = offsetOf(stream.locations[i]);
+            }
+        }
+
+        final List<IDomainEvent> events = new ArrayList<>();
+        try {
+            for (int i = 0; i < channels.length; i++) {
+                final ByteBuffer record = ByteBuffer.allocate(lengths[i]);
+                readFully(channels[i], record, offsets[i]);
+                events.addAll(decode(record, 0, Integer.MAX_VALUE));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return new EventStream(aggregateId, version, events);
+    }
+
+    @Nonnull
+    @Override
+    public List<StoredEvent> readAll(long fromPosition, int limit) {
+        final List<Segment> view;
+        final long activeEnd;
+        synchronized (this) {
+            if (fromPosition >= nextPosition || limit <= 0) {
+                return List.of();
+            }
+            view = List.copyOf(segments);
+            activeEnd = view.get(view.size() - 1).size;
+        }
+
+        final List<StoredEvent> result = new ArrayList<>(Math.min(limit, 1024));
+        final ByteBuffer header = ByteBuffer.allocate(HEADER);
+        try {
+            for (int s = segmentFor(view, fromPosition);
+                    s < view.size() && result.size() < limit;
+                    s++) {
+                final Segment segment = view.get(s);
+                final long end = s == view.size() - 1 ? activeEnd : segment.size;
+                long offset = 0;
+                while (offset < end && result.size() < limit) {
+                    header.clear();
+                    readFully(segment.channel, header, offset);
+                    final int length = header.getInt(0);
+                    final long first = header.getLong(FIRST_POSITION);
+                    if (first + header.getInt(COUNT) > fromPosition) {
+                        final ByteBuffer record = ByteBuffer.allocate(length);
+                        readFully(segment.channel, record, offset);
+                        final int skip = (int) Math.max(0, fromPosition - first);
+                        final Id id =
+                                new StreamId(
+                                        new UUID(
+                                                record.getLong(AGGREGATE),
+                                                record.getLong(AGGREGATE + 8)));
+                        final int version = record.getInt(VERSION);
+                        long position = first + skip;
+                        for (IDomainEvent event : decode(record, skip, limit - result.size())) {
+                            result.add(new StoredEvent(position++, id, version, event));
+                        }
+                    }
+                    offset += length;
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return result;
+    }
+
+    /** Number of {@code fsync}s issued by appends — with group commit, fewer than the appends. */
+    public long forces() {
+        synchronized (forceLock) {
+            return forces;
+        }
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (!segments.isEmpty()) {
+            active().channel.force(false);
+        }
+        for (Segment segment : segments) {
+            segment.channel.close();
+        }
+    }
+
+    // ---- write path --------------------------------------------------------------------------
+
+    private ByteBuffer encode(Id aggregateId, List<? extends IDomainEvent> events) {
+        final byte[][] payloads = new byte[events.size()][];
+        int length = HEADER;
+        for (int i = 0; i < payloads.length; i++) {
+            payloads[i] = codec.encode(events.get(i));
+            length += 4 + payloads[i].length;
+        }
+        final ByteBuffer record = ByteBuffer.allocate(length);
+        record.putInt(length)
+                .putInt(0) // crc, once the position and version are known
+                .putLong(0) // first position, assigned under the lock
+                .putLong(aggregateId.getUuid().getMostSignificantBits())
+                .putLong(aggregateId.getUuid().getLeastSignificantBits())
+                .putInt(0) // version, assigned under the lock
+                .putInt(payloads.length);
+        for (byte[] payload : payloads) {
+            record.putInt(payload.length).put(payload);
+        }
+        return record.flip();
+    }
+
+    /** Checks the version and writes the record; returns the total bytes written once it lands. */
+    private synchronized long write(
+            Id aggregateId, int expectedVersion, int count, ByteBuffer record)
+            throws IOException, AggregateVersionConflictException {
+        final StreamIndex stream = streams.get(aggregateId.getUuid());
+        final int current = stream == null ? 0 : stream.size;
+        if (current != expectedVersion) {
+            throw new AggregateVersionConflictException(aggregateId, current, expectedVersion + 1);
+        }
+        record.putLong(FIRST_POSITION, nextPosition).putInt(VERSION, current + 1);
+        record.putInt(CRC, crc(record));
+
+        Segment active = active();
+        if (active.size > 0
+                && active.size + record.limit() > segmentBytes
+                && nextPosition > active.firstPosition) {
+            active.channel.force(false); // group commit only ever forces the active segment
+            active = newSegment(nextPosition);
+        }
+        final long offset = active.size;
+        writeFully(active.channel, record, offset);
+        active.size += record.limit();
+
+        streams.computeIfAbsent(aggregateId.getUuid(), k -> new StreamIndex())
+                .add(location(segments.size() - 1, offset), record.limit());
+        nextPosition += count;
+        written += record.limit();
+        return written;
+    }
+
+    /**
+     * Blocks until everything up to {@code end} is on disk. Whoever holds {@code forceLock} forces
+     * on behalf of every record written so far; writers queued behind it usually find themselves
+     * covered when they get the lock and return without forcing.
+     */
+    private void awaitDurable(long end) throws IOException {
+        if (durable >= end) {
+            return;
+        }
+        synchronized (forceLock) {
+            if (durable >= end) {
+                return;
+            }
+            final Segment active;
+            final long covered;
+            synchronized (this) {
+                active = active();
+                covered = written;
+            }
+            // a segment rolled since our write was forced before the roll
+            active.channel.force(false);
+            forces++;
+            durable = covered;
+        }
+    }
+
+    // ---- recovery ----------------------------------------------------------------------------
+
+    private void load() throws IOException {
+        final List<Path> files;
+        try (Stream<Path> list = Files.list(dir)) {
+            files = list.filter(p -> p.getFileName().toString().endsWith(SUFFIX)).sorted().toList();
+        }
+        for (int i = 0; i < files.size(); i++) {
+            final Path file = files.get(i);
+            final String name = file.getFileName().toString();
+            final long first = Long.parseLong(name.substring(0, name.length() - SUFFIX.length()));
+            if (first != nextPosition) {
+                throw new IOException(
+                        file + " starts at position " + first + ", expected " + nextPosition);
+            }
+            final Segment segment =
+                    new Segment(
+                            first,
+                            FileChannel.open(
+                                    file, StandardOpenOption.READ, StandardOpenOption.WRITE));
+            segments.add(segment);
+            final long end = scan(segment, segments.size() - 1);
+            if (end < segment.channel.size()) {
+                if (i < files.size() - 1) {
+                    throw new IOException("corrupt record in " + file + " at offset " + end);
+                }
+                segment.channel.truncate(end); // torn tail of the last append before a crash
+                segment.channel.force(true);
+            }
+            segment.size = end;
+        }
+        if (segments.isEmpty()) {
+            newSegment(0);
+        }
+    }
+
+    /** Indexes every intact record of {@code segment}; returns the offset after the last one. */
+    private long scan(Segment segment, int ordinal) throws IOException {
+        final long fileSize = segment.channel.size();
+        final ByteBuffer header = ByteBuffer.allocate(HEADER);
+        long offset = 0;
+        while (offset + HEADER <= fileSize) {
+            header.clear();
+            readFully(segment.channel, header, offset);
+            final int length = header.getInt(0);
+            if (length < HEADER || offset + length > fileSize) {
+                break;
+            }
+            final ByteBuffer record = ByteBuffer.allocate(length);
+            readFully(segment.channel, record, offset);
+            if (crc(record) != record.getInt(CRC)) {
+                break;
+            }
+            final UUID uuid = new UUID(record.getLong(AGGREGATE), record.getLong(AGGREGATE + 8));
+            final StreamIndex stream = streams.computeIfAbsent(uuid, k -> new StreamIndex());
+            if (record.getInt(VERSION) != stream.size + 1) {
+                throw new IOException(
+                        "stream " + uuid + " skips from version " + stream.size + " at " + offset);
+            }
+            stream.add(location(ordinal, offset), length);
+            nextPosition = record.getLong(FIRST_POSITION) + record.getInt(COUNT);
+            offset += length;
+        }
+        return offset;
+    }
+
+    // ---- helpers -----------------------------------------------------------------------------
+
+    private Segment active() {
+        return segments.get(segments.size() - 1);
+    }
+
+    private Segment newSegment(long firstPosition) throws IOException {
+        final Path file = dir.resolve(String.format("%020d%s", firstPosition, SUFFIX));
+        final Segment segment =
+                new Segment(
+                        firstPosition,
+                        FileChannel.open(
+                                file,
+                                StandardOpenOption.CREATE_NEW,
+                                StandardOpenOption.READ,
+                                StandardOpenOption.WRITE));
+        segments.add(segment);
+        return segment;
+    }
+
+    /**
+     * Decodes up to {@code max} events of one commit record, after skipping the first {@code skip}.
+     */
+    private List<IDomainEvent> decode(ByteBuffer record, int skip, int max) {
+        final int count = record.getInt(COUNT);
+        final List<IDomainEvent> events = new ArrayList<>(Math.min(count, max));
+        int offset = HEADER;
+        for (int i = 0; i < count && events.size() < max; i++) {
+            final int length = record.getInt(offset);
+            if (i >= skip) {
+                events.add(codec.decode(record.slice(offset + 4, length)));
+            }
+            offset += 4 + length;
+        }
+        return events;
+    }
+
+    private static int segmentFor(List<Segment> view, long position) {
+        int low = 0;
+        int high = view.size() - 1;
+        while (low < high) {
+            final int mid = (low + high + 1) >>> 1;
+            if (view.get(mid).firstPosition <= position) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return low;
+    }
+
+    private static long location(int segment, long offset) {
+        return ((long) segment << 40) | offset;
+    }
+
+    private static int segmentOf(long location) {
+        return (int) (location >>> 40);
+    }
+
+    private static long offsetOf(long location) {
+        return location & ((1L << 40) - 1);
+    }
+
+    private static int crc(ByteBuffer record) {
+        final CRC32 crc = new CRC32();
+        crc.update(record.slice(FIRST_POSITION, record.limit() - FIRST_POSITION));
+        return (int) crc.getValue();
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer buffer, long position)
+            throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new EOFException("unexpected end of segment at " + position);
+            }
+        }
+        buffer.flip();
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer, long position)
+            throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer, position + buffer.position());
+        }
+    }
+}
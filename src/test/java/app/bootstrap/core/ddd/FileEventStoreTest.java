@@ -0,0 +1,286 @@
+/*
+ * App Bootstrap Core
+ * Copyright (C) 2026
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package app.bootstrap.core.ddd;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import app.bootstrap.core.messaging.EventCodec;
+import jakarta.annotation.Nonnull;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class FileEventStoreTest {
+
+    static final class AccountId extends Id {
+        AccountId() {
+            super(UUID.randomUUID());
+        }
+
+        AccountId(UUID uuid) {
+            super(uuid);
+        }
+    }
+
+    static final class Account extends AggregateRoot<AccountId> {
+        Account(AccountId id) {
+            super(id);
+        }
+    }
+
+    static final class Deposited extends DomainEvent {
+        final long amount;
+
+        Deposited(AccountId id, long amount) {
+            super(id, Account.class);
+            this.amount = amount;
+        }
+
+        Deposited(UUID eventId, Instant timestamp, AccountId id, long amount) {
+            super(eventId, timestamp, id, Account.class, null);
+            this.amount = amount;
+        }
+    }
+
+    /** eventId, timestamp, aggregate id, amount — and a count of decodes, to observe the reads. */
+    static final class DepositedCodec implements EventCodec<IDomainEvent> {
+        final AtomicInteger decoded = new AtomicInteger();
+
+        @Nonnull
+        @Override
+        public byte[] encode(@Nonnull IDomainEvent event) {
+            final Deposited d = (Deposited) event;
+            return ByteBuffer.allocate(56)
+                    .putLong(d.getEventId().getMostSignificantBits())
+                    .putLong(d.getEventId().getLeastSignificantBits())
+                    .putLong(d.getTimestamp().getEpochSecond())
+                    .putInt(d.getTimestamp().getNano())
+                    .putLong(d.getAggregateId().getUuid().getMostSignificantBits())
+                    .putLong(d.getAggregateId().getUuid().getLeastSignificantBits())
+                    .putLong(d.amount)
+                    .array();
+        }
+
+        @Nonnull
+        @Override
+        public IDomainEvent decode(@Nonnull ByteBuffer bytes) {
+            decoded.incrementAndGet();
+            return new Deposited(
+                    new UUID(bytes.getLong(), bytes.getLong()),
+                    Instant.ofEpochSecond(bytes.getLong(), bytes.getInt()),
+                    new AccountId(new UUID(bytes.getLong(), bytes.getLong())),
+                    bytes.getLong());
+        }
+    }
+
+    @TempDir Path dir;
+
+    private final DepositedCodec codec = new DepositedCodec();
+
+    private static List<Long> amounts(List<IDomainEvent> events) {
+        return events.stream().map(e -> ((Deposited) e).amount).toList();
+    }
+
+    @Test
+    void shouldAppendAndReadAStreamBack() throws Exception {
+        final AccountId id = new AccountId();
+        try (FileEventStore store = FileEventStore.open(dir, codec)) {
+            store.append(id, 0, List.of(new Deposited(id, 1), new Deposited(id, 2)));
+            store.append(id, 1, List.of(new Deposited(id, 3)));
+
+            final IEventStore.EventStream stream = store.read(id, 0);
+            assertEquals(2, stream.version());
+            assertEquals(List.of(1L, 2L, 3L), amounts(stream.events()));
+            assertTrue(store.read(new AccountId(), 0).isEmpty());
+        }
+    }
+
+    @Test
+    void shouldRejectAnAppendAtAStaleVersion() throws Exception {
+        final AccountId id = new AccountId();
+        try (FileEventStore store = FileEventStore.open(dir, codec)) {
+            store.append(id, 0, List.of(new Deposited(id, 1)));
+
+            final AggregateVersionConflictException conflict =
+                    assertThrows(
+                            AggregateVersionConflictException.class,
+                            () -> store.append(id, 0, List.of(new Deposited(id, 2))));
+            assertNotNull(conflict.getMessage());
+            assertEquals(1, store.read(id, 0).events().size(), "nothing was appended");
+        }
+    }
+
+    @Test
+    void shouldDecodeOnlyTheRequestedRangeOfOneStream() throws Exception {
+        final AccountId id = new AccountId();
+        final AccountId other = new AccountId();
+        try (FileEventStore store = FileEventStore.open(dir, codec)) {
+            for (int v = 0; v < 5; v++) {
+                store.append(id, v, List.of(new Deposited(id, v)));
+                store.append(other, v, List.of(new Deposited(other, 100 + v)));
+            }
+            codec.decoded.set(0);
+
+            final IEventStore.EventStream tail = store.read(id, 3);
+
+            assertEquals(5, tail.version());
+            assertEquals(List.of(3L, 4L), amounts(tail.events()));
+            assertEquals(2, codec.decoded.get(), "neither older commits nor other streams decoded");
+        }
+    }
+
+    @Test
+    void shouldReadAllEventsInGlobalOrderAcrossSegments() throws Exception {
+        final AccountId a = new AccountId();
+        final AccountId b = new AccountId();
+        try (FileEventStore store = FileEventStore.open(dir, codec, 256, false)) {
+            for (int v = 0; v < 10; v++) {
+                store.append(a, v, List.of(new Deposited(a, 2L * v), new Deposited(a, 2L * v + 1)));
+                store.append(b, v, List.of(new Deposited(b, 1000 + v)));
+            }
+            try (Stream<Path> files = Files.list(dir)) {
+                assertTrue(files.count() > 1, "the log rolled into several segments");
+            }
+
+            final List<IEventStore.StoredEvent> page = store.readAll(4, 5);
+
+            assertEquals(
+                    List.of(4L, 5L, 6L, 7L, 8L), page.stream().map(e -> e.position()).toList());
+            assertEquals(a, page.get(0).aggregateId());
+            assertEquals(2, page.get(0).version());
+            assertEquals(b, page.get(1).aggregateId());
+
+            final List<IEventStore.StoredEvent> all = new ArrayList<>();
+            for (long from = 0; ; ) {
+                final List<IEventStore.StoredEvent> batch = store.readAll(from, 7);
+                if (batch.isEmpty()) {
+                    break;
+                }
+                all.addAll(batch);
+                from = batch.get(batch.size() - 1).position() + 1;
+            }
+            assertEquals(30, all.size());
+            for (int i = 0; i < all.size(); i++) {
+                assertEquals(i, all.get(i).position());
+            }
+        }
+    }
+
+    @Test
+    void shouldRebuildTheIndexOnReopen() throws Exception {
+        final AccountId id = new AccountId();
+        try (FileEventStore store = FileEventStore.open(dir, codec, 256, true)) {
+            for (int v = 0; v < 6; v++) {
+                store.append(id, v, List.of(new Deposited(id, v)));
+            }
+        }
+
+        try (FileEventStore reopened = FileEventStore.open(dir, codec, 256, true)) {
+            assertEquals(6, reopened.read(id, 0).version());
+            assertEquals(List.of(5L), amounts(reopened.read(id, 5).events()));
+            assertThrows(
+                    AggregateVersionConflictException.class,
+                    () -> reopened.append(id, 5, List.of(new Deposited(id, 9))));
+            reopened.append(id, 6, List.of(new Deposited(id, 6)));
+            assertEquals(6, reopened.readAll(0, 100).get(6).position());
+        }
+    }
+
+    @Test
+    void shouldTruncateATornTailOnOpen() throws Exception {
+        final AccountId id = new AccountId();
+        try (FileEventStore store = FileEventStore.open(dir, codec)) {
+            store.append(id, 0, List.of(new Deposited(id, 1)));
+            store.append(id, 1, List.of(new Deposited(id, 2)));
+        }
+        final Path segment;
+        try (Stream<Path> files = Files.list(dir)) {
+            segment = files.findFirst().orElseThrow();
+        }
+        final long intact = Files.size(segment);
+        try (FileChannel raw = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+            // half a record: a plausible length prefix followed by garbage, as a crash leaves it
+            raw.write(ByteBuffer.allocate(20).putInt(0, 96), intact);
+        }
+
+        try (FileEventStore recovered = FileEventStore.open(dir, codec)) {
+            assertEquals(intact, Files.size(segment));
+            assertEquals(List.of(1L, 2L), amounts(recovered.read(id, 0).events()));
+            recovered.append(id, 2, List.of(new Deposited(id, 3)));
+            assertEquals(3, recovered.read(id, 0).version());
+        }
+    }
+
+    @Test
+    void shouldShareForcesBetweenConcurrentWriters() throws Exception {
+        final int writers = 8;
+        final int appendsEach = 50;
+        final ExecutorService pool = Executors.newFixedThreadPool(writers);
+        try (FileEventStore store = FileEventStore.open(dir, codec)) {
+            final CountDownLatch start = new CountDownLatch(1);
+            final List<Future<AccountId>> futures = new ArrayList<>();
+            for (int w = 0; w < writers; w++) {
+                futures.add(
+                        pool.submit(
+                                () -> {
+                                    final AccountId id = new AccountId();
+                                    start.await();
+                                    for (int v = 0; v < appendsEach; v++) {
+                                        store.append(id, v, List.of(new Deposited(id, v)));
+                                    }
+                                    return id;
+                                }));
+            }
+            start.countDown();
+            for (Future<AccountId> future : futures) {
+                assertEquals(appendsEach, store.read(future.get(), 0).version());
+            }
+            assertEquals(writers * appendsEach, store.readAll(0, Integer.MAX_VALUE).size());
+            assertTrue(store.forces() <= writers * appendsEach);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void shouldAdvanceTheStreamOnAnEmptyCommit() throws IOException {
+        try (FileEventStore store = FileEventStore.open(dir, codec)) {
+            final AccountId id = new AccountId();
+            assertDoesNotThrow(() -> store.append(id, 0, List.of()));
+            assertEquals(
+                    1, store.read(id, 0).version(), "an empty commit still advances the stream");
+        }
+    }
+}
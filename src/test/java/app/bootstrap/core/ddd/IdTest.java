@@ -37,6 +37,17 @@ class IdTest {
         }
     }
 
+    // ID class generating its UUID instead of receiving one
+    static class GeneratedTestId extends Id {
+        public GeneratedTestId() {
+            super();
+        }
+
+        public GeneratedTestId(IUuidGenerator generator) {
+            super(generator);
+        }
+    }
+
     // Another test-specific ID class to test equality between different ID types
     static class AnotherTestId extends Id {
         public AnotherTestId(UUID uuid) {
@@ -139,4 +150,22 @@ class IdTest {
         // Assert
         assertEquals(id, id);
     }
+
+    @Test
+    void shouldGenerateTimeOrderedUuidByDefault() {
+        // Act
+        GeneratedTestId id = new GeneratedTestId();
+
+        // Assert
+        assertEquals(7, id.getUuid().version());
+    }
+
+    @Test
+    void shouldGenerateUuidFromGivenGenerator() {
+        // Act
+        GeneratedTestId id = new GeneratedTestId(IUuidGenerator.random());
+
+        // Assert
+        assertEquals(4, id.getUuid().version());
+    }
 }
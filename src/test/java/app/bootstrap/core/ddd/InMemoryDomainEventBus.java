@@ -0,0 +1,209 @@
+/*
+ * App Bootstrap Core
+ * Copyright (C) 2026
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package app.bootstrap.core.ddd;
+
+import app.bootstrap.core.messaging.IBatchEventListener;
+import app.bootstrap.core.messaging.IEvent;
+import app.bootstrap.core.messaging.IEventListener;
+import app.bootstrap.core.messaging.InMemoryEventBus;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Reference {@link IDomainEventBus} over an {@link InMemoryEventBus}, so domain events get the same
+ * type-indexed, subscription-ordered dispatch. A {@link IDomainEventListener} is a typed
+ * subscription to {@link IDomainEvent}: it receives every domain event and no other event.
+ *
+ * <p>Filtered subscriptions are indexed by the event class and aggregate type they depend on. For
+ * each such route the bus resolves once which filters can match and caches them, so a listener
+ * whose filter rules an event out is never called. Only a correlation id is checked per event.
+ * Filtered listeners run after the unfiltered ones, in subscription order among themselves.
+ */
+public final class InMemoryDomainEventBus implements IFilteredDomainEventBus {
+
+    private record Filtered(DomainEventFilter filter, IDomainEventListener listener) {}
+
+    private record Route(Class<?> eventClass, @Nullable Class<?> aggregateType) {}
+
+    /** Filtered subscriptions and the route table derived from them, replaced as a unit. */
+    private record State(Filtered[] subscriptions, Map<Route, Filtered[]> routes) {
+
+        State(Filtered[] subscriptions) {
+            this(subscriptions, new ConcurrentHashMap<>());
+        }
+
+        Filtered[] receiversOf(IDomainEvent event) {
+            if (subscriptions.length == 0) {
+                return subscriptions;
+            }
+            final Route route =
+                    new Route(event.getClass(), DomainEventFilter.aggregateTypeOf(event));
+            final Filtered[] cached = routes.get(route);
+            return cached != null ? cached : routes.computeIfAbsent(route, this::resolve);
+        }
+
+        private Filtered[] resolve(Route route) {
+            final List<Filtered> matching = new ArrayList<>();
+            for (final Filtered subscription : subscriptions) {
+                if (subscription.filter().routes(route.eventClass(), route.aggregateType())) {
+                    matching.add(subscription);
+                }
+            }
+            return matching.toArray(new Filtered[0]);
+        }
+    }
+
+    private final InMemoryEventBus delegate = new InMemoryEventBus();
+    private volatile State filtered = new State(new Filtered[0]);
+
+    @Override
+    public synchronized void subscribe(
+            @Nonnull DomainEventFilter filter, @Nonnull IDomainEventListener listener) {
+        final Filtered[] current = filtered.subscriptions();
+        final Filtered[] next = Arrays.copyOf(current, current.length + 1);
+        next[current.length] = new Filtered(filter, listener);
+        filtered = new State(next);
+    }
+
+    @Override
+    public synchronized void unsubscribe(
+            @Nonnull DomainEventFilter filter, @Nonnull IDomainEventListener listener) {
+        final List<Filtered> remaining = new ArrayList<>(Arrays.asList(filtered.subscriptions()));
+        for (int i = 0; i < remaining.size(); i++) {
+            if (remaining.get(i).filter().equals(filter)
+                    && remaining.get(i).listener() == listener) {
+                remaining.remove(i);
+                filtered = new State(remaining.toArray(new Filtered[0]));
+                return;
+            }
+        }
+    }
+
+    @Override
+    public void subscribe(@Nonnull IDomainEventListener listener) {
+        delegate.subscribe(IDomainEvent.class, listener);
+    }
+
+    @Override
+    public void unsubscribe(@Nonnull IDomainEventListener listener) {
+        delegate.unsubscribe(IDomainEvent.class, listener);
+    }
+
+    @Override
+    public <E extends IEvent> void subscribe(
+            @Nonnull Class<E> type, @Nonnull IEventListener<? super E> listener) {
+        delegate.subscribe(type, listener);
+    }
+
+    @Override
+    public <E extends IEvent> void unsubscribe(
+            @Nonnull Class<E> type, @Nonnull IEventListener<? super E> listener) {
+        delegate.unsubscribe(type, listener);
+    }
+
+    @Override
+    public void subscribeAll(@Nonnull IEventListener<? super IEvent> listener) {
+        delegate.subscribeAll(listener);
+    }
+
+    @Override
+    public void unsubscribeAll(@Nonnull IEventListener<? super IEvent> listener) {
+        delegate.unsubscribeAll(listener);
+    }
+
+    @Override
+    public void publish(@Nonnull IDomainEvent event) {
+        delegate.publish(event);
+        for (final Filtered subscription : filtered.receiversOf(event)) {
+            if (subscription.filter().correlates(event)) {
+                try {
+                    subscription.listener().handleEvent(event);
+                } catch (Exception e) {
+                    throw new RuntimeException(e);
+                }
+            }
+        }
+    }
+
+    @Override
+    public void publish(@Nonnull IEvent event) {
+        if (event instanceof IDomainEvent domainEvent) {
+            publish(domainEvent);
+        } else {
+            delegate.publish(event);
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void publishAll(@Nonnull List<? extends IEvent> events) {
+        delegate.publishAll(events);
+        final State current = filtered;
+        if (current.subscriptions().length == 0) {
+            return;
+        }
+        final Map<Filtered, List<IDomainEvent>> batches = new IdentityHashMap<>();
+        for (final IEvent event : events) {
+            if (event instanceof IDomainEvent domainEvent) {
+                for (final Filtered subscription : current.receiversOf(domainEvent)) {
+                    if (subscription.filter().correlates(domainEvent)) {
+                        batches.computeIfAbsent(subscription, s -> new ArrayList<>())
+                                .add(domainEvent);
+                    }
+                }
+            }
+        }
+        for (final Filtered subscription : current.subscriptions()) {
+            final List<IDomainEvent> batch = batches.get(subscription);
+            if (batch == null) {
+                continue;
+            }
+            try {
+                if (subscription.listener() instanceof IBatchEventListener<?> batchListener) {
+                    ((IBatchEventListener<IDomainEvent>) batchListener).handleEvents(batch);
+                } else {
+                    for (final IDomainEvent event : batch) {
+                        subscription.listener().handleEvent(event);
+                    }
+                }
+            } catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        }
+    }
+
+    /** How many unfiltered listeners an event of {@code eventClass} reaches. */
+    public int listenerCount(@Nonnull Class<? extends IEvent> eventClass) {
+        return delegate.listenerCount(eventClass);
+    }
+
+    /**
+     * How many filtered listeners {@code event} is routed to before its correlation id is checked.
+     */
+    public int filteredListenerCount(@Nonnull IDomainEvent event) {
+        return filtered.receiversOf(event).length;
+    }
+}
@@ -0,0 +1,224 @@
+/*
+ * App Bootstrap Core
+ * Copyright (C) 2026
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package app.bootstrap.core.ddd;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import app.bootstrap.core.messaging.IBatchEventListener;
+import app.bootstrap.core.messaging.ICorrelated;
+import app.bootstrap.core.messaging.IEvent;
+import jakarta.annotation.Nonnull;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class InMemoryDomainEventBusTest {
+
+    static final class OrderId extends Id {
+        OrderId() {
+            super(UUID.randomUUID());
+        }
+    }
+
+    static final class Order extends AggregateRoot<OrderId> {
+        Order() {
+            super(new OrderId());
+        }
+
+        void place() {
+            apply(new OrderPlaced());
+        }
+    }
+
+    static final class OrderPlaced extends DomainEvent {
+        OrderPlaced() {
+            super(new OrderId(), Order.class, null);
+        }
+    }
+
+    static final class Invoice extends AggregateRoot<OrderId> {
+        Invoice() {
+            super(new OrderId());
+        }
+    }
+
+    static final class InvoiceIssued extends DomainEvent implements ICorrelated {
+        private final UUID flow;
+
+        InvoiceIssued(UUID flow) {
+            super(new OrderId(), Invoice.class, null);
+            this.flow = flow;
+        }
+
+        @Override
+        public UUID getCorrelationId() {
+            return flow;
+        }
+
+        @Override
+        public UUID getCausationId() {
+            return null;
+        }
+    }
+
+    record Heartbeat(UUID getEventId, Instant getTimestamp) implements IEvent {}
+
+    @Test
+    void shouldDeliverDomainEventsToDomainListenersOnly() {
+        // Arrange
+        final InMemoryDomainEventBus bus = new InMemoryDomainEventBus();
+        final List<IDomainEvent> domain = new ArrayList<>();
+        final List<IEvent> all = new ArrayList<>();
+        bus.subscribe((IDomainEventListener) domain::add);
+        bus.subscribeAll(all::add);
+
+        // Act
+        bus.publish(new OrderPlaced());
+        bus.publish(new Heartbeat(UUID.randomUUID(), Instant.now()));
+
+        // Assert
+        assertEquals(1, domain.size());
+        assertEquals(2, all.size());
+    }
+
+    @Test
+    void shouldRouteTypedSubscriptionsAndUnsubscribe() {
+        // Arrange
+        final InMemoryDomainEventBus bus = new InMemoryDomainEventBus();
+        final List<String> received = new ArrayList<>();
+        final IDomainEventListener listener =
+                new IDomainEventListener() {
+                    @Override
+                    public void handleEvent(@Nonnull IDomainEvent event) {
+                        received.add("domain");
+                    }
+                };
+        bus.subscribe(OrderPlaced.class, e -> received.add("placed"));
+        bus.subscribe(listener);
+
+        // Act
+        bus.publish((IDomainEvent) new OrderPlaced());
+        bus.unsubscribe(listener);
+        bus.publish((IDomainEvent) new OrderPlaced());
+
+        // Assert
+        assertEquals(List.of("placed", "domain", "placed"), received);
+        assertEquals(1, bus.listenerCount(OrderPlaced.class));
+        assertEquals(0, bus.listenerCount(Heartbeat.class));
+    }
+
+    @Test
+    void shouldPublishACommitAsOneBatch() {
+        // Arrange
+        final InMemoryDomainEventBus bus = new InMemoryDomainEventBus();
+        final List<Integer> batchSizes = new ArrayList<>();
+        bus.subscribe(
+                OrderPlaced.class,
+                (IBatchEventListener<OrderPlaced>) events -> batchSizes.add(events.size()));
+        final Order order = new Order();
+        order.place();
+        order.place();
+        order.place();
+
+        // Act
+        order.commit(bus::publishAll);
+
+        // Assert
+        assertEquals(List.of(3), batchSizes);
+        assertEquals(1, order.getVersion());
+    }
+
+    @Test
+    void shouldNeverInvokeAFilteredListenerForAnotherAggregateType() {
+        // Arrange
+        final InMemoryDomainEventBus bus = new InMemoryDomainEventBus();
+        final List<IDomainEvent> orders = new ArrayList<>();
+        bus.subscribe(DomainEventFilter.ANY.withAggregateTypes(Order.class), orders::add);
+        final InvoiceIssued invoice = new InvoiceIssued(UUID.randomUUID());
+
+        // Act
+        bus.publish(new OrderPlaced());
+        bus.publish(invoice);
+
+        // Assert
+        assertEquals(1, orders.size());
+        assertInstanceOf(OrderPlaced.class, orders.get(0));
+        assertEquals(0, bus.filteredListenerCount(invoice));
+        assertEquals(1, bus.filteredListenerCount(new OrderPlaced()));
+    }
+
+    @Test
+    void shouldCheckTheCorrelationIdPerEventAndUnsubscribe() {
+        // Arrange
+        final InMemoryDomainEventBus bus = new InMemoryDomainEventBus();
+        final UUID flow = UUID.randomUUID();
+        final List<IDomainEvent> received = new ArrayList<>();
+        final IDomainEventListener listener = received::add;
+        final DomainEventFilter filter =
+                DomainEventFilter.ANY.withEventTypes(InvoiceIssued.class).withCorrelationId(flow);
+        bus.subscribe(filter, listener);
+
+        // Act
+        bus.publish(new InvoiceIssued(flow));
+        bus.publish(new InvoiceIssued(UUID.randomUUID()));
+        bus.publish(new OrderPlaced());
+        bus.unsubscribe(filter, listener);
+        bus.publish(new InvoiceIssued(flow));
+
+        // Assert
+        assertEquals(1, received.size());
+        assertEquals(flow, ((InvoiceIssued) received.get(0)).getCorrelationId());
+    }
+
+    @Test
+    void shouldHandAFilteredBatchListenerOnlyTheMatchingEventsOfACommit() {
+        // Arrange
+        final InMemoryDomainEventBus bus = new InMemoryDomainEventBus();
+        final List<Integer> batchSizes = new ArrayList<>();
+        final List<IEvent> unfiltered = new ArrayList<>();
+        final class OrderProjector
+                implements IDomainEventListener, IBatchEventListener<IDomainEvent> {
+            @Override
+            public void handleEvents(@Nonnull List<? extends IDomainEvent> events) {
+                batchSizes.add(events.size());
+            }
+
+            @Override
+            public void handleEvent(@Nonnull IDomainEvent event) {
+                handleEvents(List.of(event));
+            }
+        }
+        bus.subscribe(DomainEventFilter.ANY.withAggregateTypes(Order.class), new OrderProjector());
+        bus.subscribeAll(unfiltered::add);
+
+        // Act
+        bus.publishAll(
+                List.of(
+                        new OrderPlaced(),
+                        new InvoiceIssued(UUID.randomUUID()),
+                        new OrderPlaced()));
+
+        // Assert
+        assertEquals(List.of(2), batchSizes);
+        assertEquals(3, unfiltered.size());
+    }
+}
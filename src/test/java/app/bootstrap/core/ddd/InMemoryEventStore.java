@@ -0,0 +1,88 @@
+/*
+ * App Bootstrap Core
+ * Copyright (C) 2026
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package app.bootstrap.core.ddd;
+
+import jakarta.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * In-memory reference {@link IEventStore}: one list of commits per aggregate id, where a commit is
+ * the events of one save tagged with the stream version it produced, plus one list of every event
+ * in append order for {@link #readAll}. {@link #append} checks the expected version under the
+ * store's monitor, so two writers racing on the same stream see exactly one winner. A durable
+ * implementation is an events table with a unique {@code (aggregate_id, version)} constraint.
+ */
+public final class InMemoryEventStore implements IEventStore {
+
+    private record Commit(int version, List<IDomainEvent> events) {}
+
+    private final UuidMap<List<Commit>> streams = new UuidMap<>();
+    private final List<StoredEvent> log = new ArrayList<>();
+    private int reads;
+
+    @Override
+    public synchronized void append(
+            @Nonnull Id aggregateId,
+            int expectedVersion,
+            @Nonnull List<? extends IDomainEvent> events)
+            throws AggregateVersionConflictException {
+        final List<Commit> stream =
+                streams.computeIfAbsent(aggregateId.getUuid(), k -> new ArrayList<>());
+        final int current = stream.size();
+        if (current != expectedVersion) {
+            throw new AggregateVersionConflictException(aggregateId, current, expectedVersion + 1);
+        }
+        stream.add(new Commit(current + 1, List.copyOf(events)));
+        for (final IDomainEvent event : events) {
+            log.add(new StoredEvent(log.size(), aggregateId, current + 1, event));
+        }
+    }
+
+    @Nonnull
+    @Override
+    public synchronized EventStream read(@Nonnull Id aggregateId, int afterVersion) {
+        reads++;
+        final List<Commit> stream = streams.get(aggregateId.getUuid());
+        if (stream == null) {
+            return new EventStream(aggregateId, 0, List.of());
+        }
+        final List<IDomainEvent> events = new ArrayList<>();
+        for (int i = Math.max(afterVersion, 0); i < stream.size(); i++) {
+            events.addAll(stream.get(i).events());
+        }
+        return new EventStream(aggregateId, stream.size(), events);
+    }
+
+    @Nonnull
+    @Override
+    public synchronized List<StoredEvent> readAll(long fromPosition, int limit) {
+        if (fromPosition >= log.size()) {
+            return List.of();
+        }
+        final int from = (int) Math.max(fromPosition, 0);
+        return List.copyOf(log.subList(from, (int) Math.min(log.size(), (long) from + limit)));
+    }
+
+    /** Number of stream reads served — lets a test observe how often aggregates were loaded. */
+    public synchronized int reads() {
+        return reads;
+    }
+}
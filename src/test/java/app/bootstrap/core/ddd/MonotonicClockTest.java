@@ -0,0 +1,93 @@
+/*
+ * App Bootstrap Core
+ * Copyright (C) 2026
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package app.bootstrap.core.ddd;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import org.junit.jupiter.api.Test;
+
+class MonotonicClockTest {
+
+    @Test
+    void shouldTrackTheSystemClock() {
+        // Arrange
+        Instant before = Clock.systemUTC().instant();
+
+        // Act
+        Instant now = MonotonicClock.utc().instant();
+
+        // Assert
+        Instant after = Clock.systemUTC().instant();
+        assertFalse(now.isBefore(before.minusMillis(50)), now + " before " + before);
+        assertFalse(now.isAfter(after.plusMillis(50)), now + " after " + after);
+        assertEquals(ZoneOffset.UTC, MonotonicClock.utc().getZone());
+    }
+
+    @Test
+    void shouldBeStrictlyIncreasingWithinAThread() {
+        // Arrange: resync on every read, the worst case for going backwards
+        MonotonicClock clock = MonotonicClock.create(Duration.ZERO);
+        Instant previous = clock.instant();
+
+        // Act & Assert
+        for (int i = 0; i < 100_000; i++) {
+            Instant next = clock.instant();
+            assertTrue(next.isAfter(previous), next + " is not after " + previous);
+            previous = next;
+        }
+    }
+
+    @Test
+    void shouldAgreeOnMillisAndInstant() {
+        // Arrange
+        MonotonicClock clock = MonotonicClock.create(Duration.ofSeconds(1));
+
+        // Act
+        long millis = clock.millis();
+        Instant instant = clock.instant();
+
+        // Assert
+        assertTrue(instant.toEpochMilli() >= millis);
+        assertTrue(instant.toEpochMilli() - millis < 50);
+    }
+
+    @Test
+    void shouldShareStateAcrossZoneViews() {
+        // Arrange
+        MonotonicClock clock = MonotonicClock.create(Duration.ofSeconds(1));
+        ZoneId berlin = ZoneId.of("Europe/Berlin");
+
+        // Act
+        Clock zoned = clock.withZone(berlin);
+        Instant first = clock.instant();
+        Instant second = zoned.instant();
+
+        // Assert
+        assertEquals(berlin, zoned.getZone());
+        assertTrue(second.isAfter(first), "one per-thread ordering for both views");
+        assertSame(clock, clock.withZone(ZoneOffset.UTC));
+        assertEquals(zoned, clock.withZone(berlin));
+    }
+}
@@ -0,0 +1,189 @@
+/*
+ * App Bootstrap Core
+ * Copyright (C) 2026
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package app.bootstrap.core.ddd;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class SpecificationEvaluatorTest {
+
+    private static final ISpecification<Integer> EVEN = n -> n % 2 == 0;
+
+    private ForkJoinPool pool;
+    private SpecificationEvaluator parallel;
+
+    @BeforeEach
+    void setUp() {
+        pool = new ForkJoinPool(4);
+        parallel = SpecificationEvaluator.create(pool, 16);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdownNow();
+    }
+
+    private static List<Integer> range(int n) {
+        return IntStream.range(0, n).boxed().toList();
+    }
+
+    @Test
+    void shouldFilterInEncounterOrderWhenSplit() {
+        // Arrange
+        final List<Integer> candidates = range(10_000);
+
+        // Act
+        final List<Integer> evens = parallel.filter(EVEN, candidates.spliterator());
+
+        // Assert
+        assertEquals(IntStream.range(0, 5_000).map(i -> i * 2).boxed().toList(), evens);
+        assertThrows(UnsupportedOperationException.class, () -> evens.add(1));
+    }
+
+    @Test
+    void shouldPartitionAndCount() {
+        // Arrange
+        final List<Integer> candidates = range(1_001);
+
+        // Act
+        final SpecificationEvaluator.Partition<Integer> split =
+                parallel.partition(EVEN, candidates.spliterator());
+        final long count = parallel.count(EVEN, candidates.spliterator());
+
+        // Assert
+        assertEquals(501, split.satisfied().size());
+        assertEquals(500, split.unsatisfied().size());
+        assertEquals(List.of(1, 3, 5), split.unsatisfied().subList(0, 3));
+        assertEquals(501, count);
+    }
+
+    @Test
+    void shouldStayOnTheCallingThreadBelowTheThreshold() {
+        // Arrange
+        final Set<Thread> threads = ConcurrentHashMap.newKeySet();
+        final ISpecification<Integer> recording =
+                n -> {
+                    threads.add(Thread.currentThread());
+                    return true;
+                };
+
+        // Act
+        parallel.count(recording, range(15).spliterator());
+
+        // Assert
+        assertEquals(Set.of(Thread.currentThread()), threads);
+    }
+
+    @Test
+    void shouldFanOutAboveTheThreshold() {
+        // Arrange
+        final Set<Thread> threads = ConcurrentHashMap.newKeySet();
+        final ISpecification<Integer> recording =
+                n -> {
+                    threads.add(Thread.currentThread());
+                    return true;
+                };
+
+        // Act
+        final long count = parallel.count(recording, range(100_000).spliterator());
+
+        // Assert
+        assertEquals(100_000, count);
+        assertTrue(threads.stream().allMatch(t -> t.getName().startsWith("ForkJoinPool")));
+    }
+
+    @Test
+    void shouldStopEarlyOnceAMatchIsFound() {
+        // Arrange
+        final AtomicInteger evaluated = new AtomicInteger();
+        final ISpecification<Integer> zero =
+                n -> {
+                    evaluated.incrementAndGet();
+                    return n == 0;
+                };
+
+        // Act
+        final boolean any = parallel.anyMatch(zero, range(1_000_000).spliterator());
+
+        // Assert
+        assertTrue(any);
+        assertTrue(evaluated.get() < 1_000_000, "evaluated " + evaluated.get());
+    }
+
+    @Test
+    void shouldAnswerAnyAndAllMatch() {
+        // Arrange
+        final List<Integer> candidates = range(5_000);
+
+        // Act & Assert
+        assertTrue(parallel.allMatch(n -> n >= 0, candidates.spliterator()));
+        assertFalse(parallel.allMatch(EVEN, candidates.spliterator()));
+        assertFalse(parallel.anyMatch(n -> n < 0, candidates.spliterator()));
+        assertTrue(parallel.allMatch(EVEN, List.<Integer>of().spliterator()));
+    }
+
+    @Test
+    void shouldEvaluateStreamsOfUnknownSizeSequentially() {
+        // Arrange
+        final Set<Thread> threads = ConcurrentHashMap.newKeySet();
+
+        // Act
+        final List<Integer> evens =
+                parallel.filter(
+                        n -> {
+                            threads.add(Thread.currentThread());
+                            return n % 2 == 0;
+                        },
+                        IntStream.range(0, 100).boxed().filter(n -> n < 10).spliterator());
+
+        // Assert
+        assertEquals(List.of(0, 2, 4, 6, 8), evens);
+        assertEquals(Set.of(Thread.currentThread()), threads);
+    }
+
+    @Test
+    void shouldExposeBulkOperationsOnTheSpecification() {
+        // Arrange
+        final List<Integer> candidates = range(10);
+
+        // Act & Assert
+        assertEquals(List.of(0, 2, 4, 6, 8), EVEN.filter(candidates));
+        assertEquals(5, EVEN.not().count(candidates));
+        assertEquals(List.of(1, 3, 5, 7, 9), EVEN.partition(candidates).unsatisfied());
+        assertTrue(EVEN.anyMatch(candidates));
+        assertFalse(EVEN.allMatch(candidates));
+    }
+
+    @Test
+    void shouldRejectANonPositiveThreshold() {
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> SpecificationEvaluator.create(ForkJoinPool.commonPool(), 0));
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * App Bootstrap Core
+ * Copyright (C) 2026
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package app.bootstrap.core.ddd;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+import org.junit.jupiter.api.Test;
+
+class SpecificationPlanTest {
+
+    record Person(String name, Integer age, String city) {}
+
+    private static final Field<Person, Integer> AGE = Field.of("age", Person::age);
+    private static final Field<Person, String> CITY = Field.of("city", Person::city);
+    private static final Field<Person, String> NAME = Field.of("name", Person::name);
+
+    /** A store that indexes age and city, but not name. */
+    private static final Predicate<FieldSpecification<Person, ?>> INDEXED =
+            leaf -> Set.of("age", "city").contains(leaf.field().name());
+
+    private static final ISpecification<Person> LAMBDA = p -> p.name().length() > 3;
+
+    @Test
+    void shouldEvaluateFieldSpecificationsInMemory() {
+        // Arrange
+        final Person alice = new Person("Alice", 30, "Berlin");
+        final Person unknownAge = new Person("Bob", null, "Paris");
+
+        // Act & Assert
+        assertTrue(AGE.eq(30).isSatisfiedBy(alice));
+        assertTrue(AGE.between(30, 40).isSatisfiedBy(alice));
+        assertTrue(CITY.in("Paris", "Berlin").isSatisfiedBy(alice));
+        assertFalse(AGE.gt(30).isSatisfiedBy(alice));
+        assertTrue(AGE.le(30).isSatisfiedBy(alice));
+        assertFalse(AGE.ge(0).isSatisfiedBy(unknownAge), "null never matches");
+        assertTrue(AGE.ge(0).not().isSatisfiedBy(unknownAge));
+        assertEquals("age between [30, 40]", AGE.between(30, 40).toString());
+    }
+
+    @Test
+    void shouldRejectTheWrongNumberOfValues() {
+        assertThrows(
+                IllegalArgumentException.class,
+                () ->
+                        new FieldSpecification<>(
+                                AGE, FieldSpecification.Operator.BETWEEN, List.of(1)));
+        assertThrows(IllegalArgumentException.class, () -> AGE.in());
+    }
+
+    @Test
+    void shouldPushDownAnIndexedLeafExactly() {
+        // Act
+        final SpecificationPlan<Person> plan = SpecificationPlan.split(AGE.gt(18), INDEXED);
+
+        // Assert
+        assertTrue(plan.isExact());
+        assertEquals(AGE.gt(18), plan.pushdown());
+    }
+
+    @Test
+    void shouldSplitAConjunctionIntoPushdownAndResidual() {
+        // Arrange
+        final ISpecification<Person> spec =
+                AGE.gt(18).and(NAME.eq("Alice")).and(CITY.eq("Berlin")).and(LAMBDA);
+
+        // Act
+        final SpecificationPlan<Person> plan = SpecificationPlan.split(spec, INDEXED);
+
+        // Assert
+        assertEquals(
+                new AndSpecification<>(List.of(AGE.gt(18), CITY.eq("Berlin"))), plan.pushdown());
+        assertEquals(new AndSpecification<>(List.of(NAME.eq("Alice"), LAMBDA)), plan.residual());
+    }
+
+    @Test
+    void shouldPushDownASupersetOfAPartlyIndexedDisjunction() {
+        // Arrange
+        final ISpecification<Person> spec = AGE.lt(18).and(LAMBDA).or(CITY.eq("Berlin"));
+
+        // Act
+        final SpecificationPlan<Person> plan = SpecificationPlan.split(spec, INDEXED);
+
+        // Assert
+        assertEquals(
+                new OrSpecification<>(List.of(AGE.lt(18), CITY.eq("Berlin"))), plan.pushdown());
+        assertSame(spec, plan.residual(), "the whole or is re-checked over the superset");
+    }
+
+    @Test
+    void shouldScanWhenADisjunctOrNegationCannotBePushedDown() {
+        // Act
+        final SpecificationPlan<Person> or =
+                SpecificationPlan.split(AGE.lt(18).or(NAME.eq("Bob")), INDEXED);
+        final SpecificationPlan<Person> not =
+                SpecificationPlan.split(AGE.lt(18).and(LAMBDA).not(), INDEXED);
+        final SpecificationPlan<Person> lambda = SpecificationPlan.split(LAMBDA, INDEXED);
+
+        // Assert
+        assertTrue(or.isFullScan());
+        assertTrue(not.isFullScan());
+        assertTrue(lambda.isFullScan());
+        assertSame(LAMBDA, lambda.residual());
+    }
+
+    @Test
+    void shouldPushDownTheNegationOfAnExactOperand() {
+        // Arrange
+        final ISpecification<Person> spec = CITY.eq("Paris").not();
+
+        // Act
+        final SpecificationPlan<Person> plan = SpecificationPlan.split(spec, INDEXED);
+
+        // Assert
+        assertTrue(plan.isExact());
+        assertSame(spec, plan.pushdown());
+    }
+}
@@ -21,6 +21,7 @@ package app.bootstrap.core.ddd;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.util.List;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -456,4 +457,53 @@ public class SpecificationTest {
             assertFalse(priceSpec.isSatisfiedBy(product));
         }
     }
+
+    @Nested
+    @DisplayName("Composition Structure")
+    class CompositionStructureTests {
+
+        @Test
+        @DisplayName("Should flatten a chain of ands into one node")
+        void shouldFlattenAndChains() {
+            // Arrange
+            ISpecification<Product> a = new InStockSpecification();
+            ISpecification<Product> b = new PriceAboveSpecification(10.0);
+            ISpecification<Product> c = new NameContainsSpecification("x");
+
+            // Act
+            ISpecification<Product> spec = a.and(b).and(c);
+
+            // Assert
+            AndSpecification<?> and = assertInstanceOf(AndSpecification.class, spec);
+            assertEquals(List.of(a, b, c), and.operands());
+        }
+
+        @Test
+        @DisplayName("Should keep a nested or as one operand of an and")
+        void shouldKeepMixedOperatorsNested() {
+            // Arrange
+            ISpecification<Product> a = new InStockSpecification();
+            ISpecification<Product> b = new PriceAboveSpecification(10.0);
+            ISpecification<Product> c = new NameContainsSpecification("x");
+
+            // Act
+            ISpecification<Product> spec = a.and(b.or(c));
+
+            // Assert
+            AndSpecification<?> and = assertInstanceOf(AndSpecification.class, spec);
+            assertEquals(2, and.operands().size());
+            assertInstanceOf(OrSpecification.class, and.operands().get(1));
+        }
+
+        @Test
+        @DisplayName("Should cancel double negation")
+        void shouldCancelDoubleNegation() {
+            // Arrange
+            ISpecification<Product> a = new InStockSpecification();
+
+            // Act & Assert
+            assertInstanceOf(NotSpecification.class, a.not());
+            assertSame(a, a.not().not());
+        }
+    }
 }
@@ -0,0 +1,116 @@
+/*
+ * App Bootstrap Core
+ * Copyright (C) 2026
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package app.bootstrap.core.ddd;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.Test;
+
+class TimeOrderedUuidGeneratorTest {
+
+    private final TimeOrderedUuidGenerator generator = new TimeOrderedUuidGenerator();
+
+    @Test
+    void shouldProduceVersion7WithTheRfcVariant() {
+        // Act
+        UUID uuid = generator.next();
+
+        // Assert
+        assertEquals(7, uuid.version());
+        assertEquals(2, uuid.variant());
+    }
+
+    @Test
+    void shouldEncodeTheCreationTime() {
+        // Arrange
+        long before = System.currentTimeMillis();
+
+        // Act
+        UUID uuid = generator.next();
+
+        // Assert
+        long encoded = TimeOrderedUuidGenerator.timestampOf(uuid);
+        assertTrue(encoded >= before && encoded <= System.currentTimeMillis() + 1);
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> TimeOrderedUuidGenerator.timestampOf(UUID.randomUUID()));
+    }
+
+    @Test
+    void shouldBeStrictlyIncreasingWithinAThread() {
+        // Act: far more ids than the counter holds per millisecond
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < 100_000; i++) {
+            ids.add(generator.next());
+        }
+
+        // Assert: the leading 64 bits order them, as an unsigned B-tree key would
+        for (int i = 1; i < ids.size(); i++) {
+            assertTrue(
+                    Long.compareUnsigned(
+                                    ids.get(i - 1).getMostSignificantBits(),
+                                    ids.get(i).getMostSignificantBits())
+                            < 0,
+                    "id " + i + " is not after its predecessor");
+        }
+    }
+
+    @Test
+    void shouldNotCollideAcrossThreads() throws Exception {
+        // Arrange
+        int threads = 8;
+        int perThread = 20_000;
+        Set<UUID> all = ConcurrentHashMap.newKeySet();
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+
+        // Act
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(
+                        pool.submit(
+                                () -> {
+                                    Set<UUID> mine = new HashSet<>();
+                                    for (int i = 0; i < perThread; i++) {
+                                        mine.add(generator.next());
+                                    }
+                                    all.addAll(mine);
+                                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        // Assert
+        assertEquals(threads * perThread, all.size());
+    }
+}
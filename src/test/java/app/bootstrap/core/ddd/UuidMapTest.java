@@ -0,0 +1,144 @@
+/*
+ * App Bootstrap Core
+ * Copyright (C) 2026
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package app.bootstrap.core.ddd;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class UuidMapTest {
+
+    @Test
+    void shouldPutGetAndRemove() {
+        // Arrange
+        UuidMap<String> map = new UuidMap<>();
+        UUID key = UUID.randomUUID();
+
+        // Act & Assert
+        assertNull(map.put(key, "a"));
+        assertEquals("a", map.put(key, "b"));
+        assertEquals("b", map.get(key));
+        assertEquals("b", map.get(key.getMostSignificantBits(), key.getLeastSignificantBits()));
+        assertTrue(map.containsKey(key));
+        assertEquals(1, map.size());
+        assertEquals("b", map.remove(key));
+        assertNull(map.remove(key));
+        assertNull(map.get(key));
+        assertTrue(map.isEmpty());
+    }
+
+    @Test
+    void shouldKeepExistingValueOnPutIfAbsentAndComputeIfAbsent() {
+        // Arrange
+        UuidMap<String> map = new UuidMap<>();
+        UUID key = UUID.randomUUID();
+        map.put(key, "first");
+
+        // Act & Assert
+        assertEquals("first", map.putIfAbsent(key, "second"));
+        assertEquals("first", map.computeIfAbsent(key, k -> "third"));
+        UUID other = UUID.randomUUID();
+        assertEquals(other.toString(), map.computeIfAbsent(other, UUID::toString));
+        assertEquals(2, map.size());
+    }
+
+    @Test
+    void shouldRejectNullValues() {
+        UuidMap<String> map = new UuidMap<>();
+
+        assertThrows(NullPointerException.class, () -> map.put(UUID.randomUUID(), null));
+    }
+
+    @Test
+    void shouldMatchHashMapUnderRandomChurn() {
+        // Arrange: a small key space, so probe runs collide and removals shift entries back
+        Random random = new Random(42);
+        List<UUID> keys = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            keys.add(new UUID(random.nextLong(), random.nextLong()));
+        }
+        UuidMap<Integer> map = new UuidMap<>();
+        Map<UUID, Integer> expected = new HashMap<>();
+
+        // Act
+        for (int step = 0; step < 200_000; step++) {
+            UUID key = keys.get(random.nextInt(keys.size()));
+            if (random.nextInt(3) == 0) {
+                assertEquals(expected.remove(key), map.remove(key));
+            } else {
+                assertEquals(expected.put(key, step), map.put(key, step));
+            }
+        }
+
+        // Assert
+        assertEquals(expected.size(), map.size());
+        for (UUID key : keys) {
+            assertEquals(expected.get(key), map.get(key));
+        }
+        assertEquals(new HashSet<>(expected.values()), new HashSet<>(map.values()));
+        Map<UUID, Integer> visited = new HashMap<>();
+        map.forEach(visited::put);
+        assertEquals(expected, visited);
+    }
+
+    @Test
+    void shouldHandleSequentialTimeOrderedKeys() {
+        // Arrange: UUIDv7 keys share their leading bits
+        TimeOrderedUuidGenerator generator = new TimeOrderedUuidGenerator();
+        UuidMap<Integer> map = new UuidMap<>(10);
+        List<UUID> keys = new ArrayList<>();
+
+        // Act
+        for (int i = 0; i < 100_000; i++) {
+            UUID key = generator.next();
+            keys.add(key);
+            map.put(key, i);
+        }
+
+        // Assert
+        assertEquals(100_000, map.size());
+        for (int i = 0; i < keys.size(); i++) {
+            assertEquals(i, map.get(keys.get(i)));
+        }
+    }
+
+    @Test
+    void shouldEmptyOnClear() {
+        // Arrange
+        UuidMap<String> map = new UuidMap<>();
+        UUID key = UUID.randomUUID();
+        map.put(key, "a");
+
+        // Act
+        map.clear();
+
+        // Assert
+        assertTrue(map.isEmpty());
+        assertNull(map.get(key));
+        assertFalse(map.values().iterator().hasNext());
+    }
+}
@@ -0,0 +1,696 @@
+/*
+ * App Bootstrap Core
+ * Copyright (C) 2026
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package app.bootstrap.core.messaging;
+
+import app.bootstrap.core.ddd.DomainEvent;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Reference asynchronous {@link IEventBus}: {@link #publish} only enqueues, and every subscription
+ * consumes its events on its own, so a slow or failing listener costs the publisher nothing.
+ *
+ * <p><strong>Mailboxes.</strong> Each subscription owns a bounded FIFO queue. Enqueueing schedules
+ * the mailbox on the executor unless it is already scheduled; the scheduled task drains up to
+ * {@value #DRAIN_BATCH} events, then yields the thread and reschedules if more arrived. A listener
+ * therefore sees its events one at a time and in publish order, while different listeners run
+ * concurrently. The default executor starts a virtual thread per task; any executor works,
+ * including a small fixed pool shared by many mailboxes.
+ *
+ * <p><strong>Lanes.</strong> A mailbox serializes everything its listener receives. A subscription
+ * made with {@link #subscribe(Class, IEventListener, int)} instead gets several lanes, each a
+ * mailbox of its own, and routes an event by the hash of its {@linkplain #AGGREGATE_KEY aggregate
+ * id}: events of one aggregate stay in order, different aggregates are handled in parallel. Events
+ * without an aggregate share lane 0. {@link #backlogs()} reports the depth of every lane, so a hot
+ * aggregate shows up as one deep lane.
+ *
+ * <p><strong>Overflow.</strong> Mailboxes are bounded, so memory stays bounded under a burst. By
+ * default a full mailbox blocks {@code publish} until it has room; a {@link Policy} can instead
+ * drop the oldest queued event, spill to an {@link IOutbox} of the subscription's own, or
+ * disconnect the subscriber. Once a subscription spills, every later event goes to its spill outbox
+ * as well, and the lanes take events back from it oldest first as they drain, so the listener still
+ * sees publish order (per aggregate with lanes). Routing uses the same per-event-class table as
+ * {@link InMemoryEventBus}.
+ *
+ * <p><strong>Slow consumers.</strong> {@link #lag()} reports per subscription the backlog, the age
+ * of the oldest queued event, throughput and overflow counts; {@link #slowConsumers(Duration)}
+ * keeps those that fall behind a limit.
+ *
+ * <p><strong>Failure isolation.</strong> An exception from a listener is passed to the {@link
+ * FailureHandler} and counted; the listener's mailbox moves on to the next event, and no other
+ * listener notices.
+ *
+ * <p>Unsubscribing stops delivery to that subscription after the event in progress; queued events
+ * are discarded. {@link #close()} stops accepting events and lets the mailboxes drain.
+ */
+public final class AsyncEventBus implements IEventBus, AutoCloseable {
+
+    /** Events a mailbox drains per scheduling before giving its thread back. */
+    public static final int DRAIN_BATCH = 64;
+
+    /** Disconnected subscriptions {@link #lag()} keeps reporting; the oldest go first. */
+    public static final int DISCONNECTED_HISTORY = 64;
+
+    /**
+     * Receives what a listener threw, on the listener's thread, and each {@link Overflow#DISCONNECT
+     * disconnection}, on the publisher's thread.
+     */
+    @FunctionalInterface
+    public interface FailureHandler {
+        void onFailure(
+                @Nonnull IEventListener<?> listener,
+                @Nonnull IEvent event,
+                @Nonnull Exception error);
+    }
+
+    /** Lane of an event: the aggregate id of a {@link DomainEvent}, none for other events. */
+    public static final Function<IEvent, Object> AGGREGATE_KEY =
+            event -> event instanceof DomainEvent domainEvent ? domainEvent.getAggregateId() : null;
+
+    /** Queue depth of every lane of one subscription, index = lane. */
+    public record Backlog(
+            @Nullable Class<? extends IEvent> type,
+            @Nonnull IEventListener<?> listener,
+            @Nonnull int[] lanes) {
+
+        public int total() {
+            return Arrays.stream(lanes).sum();
+        }
+    }
+
+    /** What a subscription does with an event that finds its mailbox full. */
+    public enum Overflow {
+        /** The publisher waits for room. Nothing is lost, but one slow consumer slows all. */
+        BLOCK,
+        /** The oldest queued event is discarded to make room; counted as dropped. */
+        DROP_OLDEST,
+        /** The event goes to the subscription's spill outbox and is delivered from it later. */
+        SPILL,
+        /** The subscription is removed and its queue discarded; reported to the failure handler. */
+        DISCONNECT
+    }
+
+    /**
+     * How one subscription receives its events: in {@code lanes} mailboxes of the bus's capacity,
+     * with {@code overflow} deciding what a full one does. {@code spillTo} is required by, and only
+     * allowed with, {@link Overflow#SPILL}; it is called once per subscription for an outbox that
+     * only that subscription uses.
+     */
+    public record Policy(
+            int lanes, @Nonnull Overflow overflow, @Nullable Supplier<? extends IOutbox> spillTo) {
+
+        public static final Policy DEFAULT = new Policy(1, Overflow.BLOCK, null);
+
+        public Policy {
+            if (lanes < 1) {
+                throw new IllegalArgumentException("lanes must be positive");
+            }
+            if ((overflow == Overflow.SPILL) != (spillTo != null)) {
+                throw new IllegalArgumentException("an outbox is required by, and only by, SPILL");
+            }
+        }
+
+        @Nonnull
+        public static Policy of(@Nonnull Overflow overflow) {
+            return new Policy(1, overflow, null);
+        }
+
+        @Nonnull
+        public static Policy spillTo(@Nonnull Supplier<? extends IOutbox> outboxes) {
+            return new Policy(1, Overflow.SPILL, outboxes);
+        }
+
+        @Nonnull
+        public Policy withLanes(int lanes) {
+            return new Policy(lanes, overflow, spillTo);
+        }
+    }
+
+    /**
+     * How far one subscription is behind: queued events, the age of the oldest, events handled in
+     * total and per second since the previous report, and what overflow cost it.
+     */
+    public record Lag(
+            @Nullable Class<? extends IEvent> type,
+            @Nonnull IEventListener<?> listener,
+            int backlog,
+            @Nonnull Duration oldest,
+            long handled,
+            double throughput,
+            long dropped,
+            long spilled,
+            boolean disconnected) {}
+
+    private record Entry(IEvent event, long enqueuedAt) {}
+
+    private final class Mailbox {
+        @Nullable final Class<? extends IEvent> type;
+        final IEventListener<?> listener;
+        final Policy policy;
+        final Lane[] lanes;
+        final LongAdder handled = new LongAdder();
+        final LongAdder dropped = new LongAdder();
+        final LongAdder spilled = new LongAdder();
+        @Nullable final IOutbox spill;
+        volatile boolean cancelled;
+        volatile boolean disconnected;
+        private final ArrayDeque<Long> spilledAt = new ArrayDeque<>(); // guarded by this
+        private long sampledAt = System.nanoTime();
+        private long sampledHandled;
+
+        Mailbox(@Nullable Class<? extends IEvent> type, IEventListener<?> listener, Policy policy) {
+            this.type = type;
+            this.listener = listener;
+            this.policy = policy;
+            this.lanes = new Lane[policy.lanes()];
+            for (int i = 0; i < lanes.length; i++) {
+                this.lanes[i] = new Lane(this);
+            }
+            final Supplier<? extends IOutbox> spillTo = policy.spillTo();
+            this.spill = spillTo == null ? null : spillTo.get();
+        }
+
+        boolean matches(Class<?> eventClass) {
+            return type == null || type.isAssignableFrom(eventClass);
+        }
+
+        void enqueue(IEvent event) throws InterruptedException {
+            final Lane lane = laneOf(event);
+            switch (policy.overflow()) {
+                case BLOCK -> lane.put(event);
+                case DROP_OLDEST -> {
+                    while (!lane.offer(event)) {
+                        if (lane.dropOldest()) {
+                            dropped.increment();
+                        }
+                    }
+                }
+                case SPILL -> offerOrSpill(lane, event);
+                case DISCONNECT -> {
+                    if (!lane.offer(event)) {
+                        disconnect(this, event);
+                    }
+                }
+            }
+        }
+
+        /** Queues {@code event}, or spills it if its lane is full or earlier events are spilled. */
+        synchronized void offerOrSpill(Lane lane, IEvent event) {
+            if (spilledAt.isEmpty() && lane.offer(event)) {
+                return;
+            }
+            pending.incrementAndGet();
+            Objects.requireNonNull(spill).add(List.of(event));
+            spilledAt.add(System.nanoTime());
+            spilled.increment();
+        }
+
+        /**
+         * Moves spilled events back into their lanes, oldest first, until one does not fit. They
+         * keep the time they were first enqueued, so {@link #lag} still sees how long they waited.
+         */
+        synchronized void refill() {
+            final IOutbox outbox = spill;
+            while (outbox != null && !spilledAt.isEmpty() && !cancelled) {
+                final List<IEvent> batch = outbox.fetchUnpublished(DRAIN_BATCH);
+                final List<UUID> moved = new ArrayList<>();
+                for (final IEvent event : batch) {
+                    if (!laneOf(event).offer(event, spilledAt.element())) {
+                        break;
+                    }
+                    spilledAt.remove();
+                    moved.add(event.getEventId());
+                    delivered(); // counted again by the lane
+                }
+                if (!moved.isEmpty()) {
+                    outbox.markPublished(moved);
+                }
+                if (moved.size() < batch.size() || batch.isEmpty()) {
+                    return;
+                }
+            }
+        }
+
+        Lane laneOf(IEvent event) {
+            if (lanes.length == 1) {
+                return lanes[0];
+            }
+            final Object key = AGGREGATE_KEY.apply(event);
+            if (key == null) {
+                return lanes[0];
+            }
+            final int h = key.hashCode();
+            return lanes[Math.floorMod(h ^ (h >>> 16), lanes.length)];
+        }
+
+        Backlog backlog() {
+            final int[] depths = new int[lanes.length];
+            for (int i = 0; i < lanes.length; i++) {
+                depths[i] = lanes[i].queue.size();
+            }
+            return new Backlog(type, listener, depths);
+        }
+
+        synchronized Lag lag(long now) {
+            int backlog = spilledAt.size();
+            long oldest = spilledAt.isEmpty() ? now : spilledAt.element();
+            for (final Lane lane : lanes) {
+                backlog += lane.queue.size();
+                final Entry head = lane.queue.peek();
+                if (head != null) {
+                    oldest = Math.min(oldest, head.enqueuedAt());
+                }
+            }
+            final long total = handled.sum();
+            final long elapsed = Math.max(1, now - sampledAt);
+            final double throughput = (total - sampledHandled) * 1e9 / elapsed;
+            sampledAt = now;
+            sampledHandled = total;
+            return new Lag(
+                    type,
+                    listener,
+                    backlog,
+                    Duration.ofNanos(now - oldest),
+                    total,
+                    throughput,
+                    dropped.sum(),
+                    spilled.sum(),
+                    disconnected);
+        }
+
+        void discard() {
+            cancelled = true;
+            for (final Lane lane : lanes) {
+                lane.discard();
+            }
+            discardSpill();
+        }
+
+        private synchronized void discardSpill() {
+            final IOutbox outbox = spill;
+            while (outbox != null && !spilledAt.isEmpty()) {
+                final List<IEvent> batch = outbox.fetchUnpublished(DRAIN_BATCH);
+                if (batch.isEmpty()) {
+                    return;
+                }
+                outbox.markPublished(batch.stream().map(IEvent::getEventId).toList());
+                batch.forEach(
+                        event -> {
+                            spilledAt.poll();
+                            delivered();
+                        });
+            }
+        }
+    }
+
+    /** One FIFO queue of a mailbox, drained by at most one task at a time. */
+    private final class Lane implements Runnable {
+        final Mailbox mailbox;
+        final BlockingQueue<Entry> queue;
+        final AtomicBoolean scheduled = new AtomicBoolean();
+
+        Lane(Mailbox mailbox) {
+            this.mailbox = mailbox;
+            this.queue = new ArrayBlockingQueue<>(capacity);
+        }
+
+        void put(IEvent event) throws InterruptedException {
+            pending.incrementAndGet();
+            queue.put(new Entry(event, System.nanoTime()));
+            schedule();
+        }
+
+        boolean offer(IEvent event) {
+            return offer(event, System.nanoTime());
+        }
+
+        boolean offer(IEvent event, long enqueuedAt) {
+            pending.incrementAndGet();
+            if (queue.offer(new Entry(event, enqueuedAt))) {
+                schedule();
+                return true;
+            }
+            delivered();
+            return false;
+        }
+
+        boolean dropOldest() {
+            if (queue.poll() == null) {
+                return false;
+            }
+            delivered();
+            return true;
+        }
+
+        void schedule() {
+            if (scheduled.compareAndSet(false, true)) {
+                executor.execute(this);
+            }
+        }
+
+        @Override
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        public void run() {
+            try {
+                for (int i = 0; i < DRAIN_BATCH; i++) {
+                    final Entry entry = queue.poll();
+                    if (entry == null) {
+                        break;
+                    }
+                    try {
+                        if (!mailbox.cancelled) {
+                            ((IEventListener) mailbox.listener).handleEvent(entry.event());
+                            mailbox.handled.increment();
+                        }
+                    } catch (Exception e) {
+                        mailbox.handled.increment();
+                        failures.incrementAndGet();
+                        onFailure.onFailure(mailbox.listener, entry.event(), e);
+                    } finally {
+                        delivered();
+                    }
+                }
+            } finally {
+                if (mailbox.spill != null) {
+                    mailbox.refill();
+                }
+                scheduled.set(false);
+                if (!queue.isEmpty()) {
+                    schedule();
+                }
+            }
+        }
+
+        void discard() {
+            int dropped = 0;
+            while (queue.poll() != null) {
+                dropped++;
+            }
+            for (int i = 0; i < dropped; i++) {
+                delivered();
+            }
+        }
+    }
+
+    private record State(Mailbox[] mailboxes, Map<Class<?>, Mailbox[]> dispatch) {
+
+        State(Mailbox[] mailboxes) {
+            this(mailboxes, new ConcurrentHashMap<>());
+        }
+
+        Mailbox[] mailboxesFor(Class<?> eventClass) {
+            final Mailbox[] cached = dispatch.get(eventClass);
+            return cached != null ? cached : dispatch.computeIfAbsent(eventClass, this::resolve);
+        }
+
+        private Mailbox[] resolve(Class<?> eventClass) {
+            final List<Mailbox> matching = new ArrayList<>();
+            for (final Mailbox mailbox : mailboxes) {
+                if (mailbox.matches(eventClass)) {
+                    matching.add(mailbox);
+                }
+            }
+            return matching.toArray(new Mailbox[0]);
+        }
+    }
+
+    private final int capacity;
+    private final Executor executor;
+    @Nullable private final ExecutorService ownedExecutor;
+    private final FailureHandler onFailure;
+    private final AtomicLong pending = new AtomicLong();
+    private final AtomicLong failures = new AtomicLong();
+    private final Object idle = new Object();
+    private final List<Mailbox> disconnected = new CopyOnWriteArrayList<>(); // newest last
+    private volatile State state = new State(new Mailbox[0]);
+    private volatile boolean closed;
+
+    private AsyncEventBus(
+            int capacity,
+            Executor executor,
+            @Nullable ExecutorService ownedExecutor,
+            FailureHandler onFailure) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be positive");
+        }
+        this.capacity = capacity;
+        this.executor = executor;
+        this.ownedExecutor = ownedExecutor;
+        this.onFailure = onFailure;
+    }
+
+    /** Mailboxes of {@code capacity} events, drained on virtual threads owned by the bus. */
+    @Nonnull
+    public static AsyncEventBus create(int capacity, @Nonnull FailureHandler onFailure) {
+        final ExecutorService virtualThreads = Executors.newVirtualThreadPerTaskExecutor();
+        return new AsyncEventBus(capacity, virtualThreads, virtualThreads, onFailure);
+    }
+
+    /** Mailboxes of {@code capacity} events, drained on {@code executor}, which the caller owns. */
+    @Nonnull
+    public static AsyncEventBus create(
+            int capacity, @Nonnull Executor executor, @Nonnull FailureHandler onFailure) {
+        return new AsyncEventBus(capacity, executor, null, onFailure);
+    }
+
+    @Override
+    public <E extends IEvent> void subscribe(
+            @Nonnull Class<E> type, @Nonnull IEventListener<? super E> listener) {
+        add(new Mailbox(type, listener, Policy.DEFAULT));
+    }
+
+    /**
+     * Subscribes {@code listener} with {@code lanes} mailboxes of the bus's capacity each, ordered
+     * per aggregate rather than overall.
+     */
+    public <E extends IEvent> void subscribe(
+            @Nonnull Class<E> type, @Nonnull IEventListener<? super E> listener, int lanes) {
+        subscribe(type, listener, Policy.DEFAULT.withLanes(lanes));
+    }
+
+    /** Subscribes {@code listener} with its own lanes and overflow behaviour. */
+    public <E extends IEvent> void subscribe(
+            @Nonnull Class<E> type,
+            @Nonnull IEventListener<? super E> listener,
+            @Nonnull Policy policy) {
+        add(new Mailbox(type, listener, policy));
+    }
+
+    @Override
+    public <E extends IEvent> void unsubscribe(
+            @Nonnull Class<E> type, @Nonnull IEventListener<? super E> listener) {
+        removeFirst(type, listener);
+    }
+
+    @Override
+    public void subscribeAll(@Nonnull IEventListener<? super IEvent> listener) {
+        add(new Mailbox(null, listener, Policy.DEFAULT));
+    }
+
+    /** Subscribes {@code listener} to every event with its own lanes and overflow behaviour. */
+    public void subscribeAll(
+            @Nonnull IEventListener<? super IEvent> listener, @Nonnull Policy policy) {
+        add(new Mailbox(null, listener, policy));
+    }
+
+    @Override
+    public void unsubscribeAll(@Nonnull IEventListener<? super IEvent> listener) {
+        removeFirst(null, listener);
+    }
+
+    /**
+     * Enqueues {@code event} for every matching subscription, blocking while a mailbox is full.
+     *
+     * @throws IllegalStateException after {@link #close()}
+     */
+    @Override
+    public void publish(@Nonnull IEvent event) {
+        if (closed) {
+            throw new IllegalStateException("bus is closed");
+        }
+        try {
+            for (final Mailbox mailbox : state.mailboxesFor(event.getClass())) {
+                mailbox.enqueue(event);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("interrupted while publishing", e);
+        }
+    }
+
+    /** Waits until every enqueued event has been handled; {@code false} on timeout. */
+    public boolean awaitIdle(@Nonnull Duration timeout) throws InterruptedException {
+        final long deadline = System.nanoTime() + timeout.toNanos();
+        synchronized (idle) {
+            while (pending.get() > 0) {
+                final long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    return false;
+                }
+                TimeUnit.NANOSECONDS.timedWait(idle, remaining);
+            }
+        }
+        return true;
+    }
+
+    /** Events enqueued but not yet handled, over all mailboxes. */
+    public long pending() {
+        return pending.get();
+    }
+
+    /** The queue depths of every subscription, in subscription order. */
+    @Nonnull
+    public List<Backlog> backlogs() {
+        final List<Backlog> backlogs = new ArrayList<>();
+        for (final Mailbox mailbox : state.mailboxes()) {
+            backlogs.add(mailbox.backlog());
+        }
+        return backlogs;
+    }
+
+    /**
+     * The lag of every subscription, in subscription order, followed by the last {@value
+     * #DISCONNECTED_HISTORY} disconnected ones. Throughput is measured since the previous report,
+     * so a monitor that calls this periodically sees the current rate.
+     */
+    @Nonnull
+    public List<Lag> lag() {
+        final long now = System.nanoTime();
+        final List<Lag> lags = new ArrayList<>();
+        for (final Mailbox mailbox : state.mailboxes()) {
+            lags.add(mailbox.lag(now));
+        }
+        for (final Mailbox mailbox : disconnected) {
+            lags.add(mailbox.lag(now));
+        }
+        return lags;
+    }
+
+    /**
+     * The slow-consumer detector: subscriptions whose oldest queued event has waited longer than
+     * {@code maxLag}, and those disconnected for overflowing.
+     */
+    @Nonnull
+    public List<Lag> slowConsumers(@Nonnull Duration maxLag) {
+        final List<Lag> slow = new ArrayList<>();
+        for (final Lag lag : lag()) {
+            if (lag.disconnected() || lag.oldest().compareTo(maxLag) > 0) {
+                slow.add(lag);
+            }
+        }
+        return slow;
+    }
+
+    /** Listener invocations that threw. */
+    public long failures() {
+        return failures.get();
+    }
+
+    /**
+     * Stops accepting events, waits up to a few seconds for the mailboxes to drain and shuts down
+     * the executor if the bus created it.
+     */
+    @Override
+    public void close() throws InterruptedException {
+        closed = true;
+        awaitIdle(Duration.ofSeconds(5));
+        if (ownedExecutor != null) {
+            ownedExecutor.shutdown();
+            ownedExecutor.awaitTermination(5, TimeUnit.SECONDS);
+        }
+    }
+
+    private void delivered() {
+        if (pending.decrementAndGet() == 0) {
+            synchronized (idle) {
+                idle.notifyAll();
+            }
+        }
+    }
+
+    private synchronized void disconnect(Mailbox mailbox, IEvent overflowing) {
+        if (mailbox.cancelled) {
+            return;
+        }
+        final Mailbox[] current = state.mailboxes();
+        for (int i = 0; i < current.length; i++) {
+            if (current[i] == mailbox) {
+                final Mailbox[] next = new Mailbox[current.length - 1];
+                System.arraycopy(current, 0, next, 0, i);
+                System.arraycopy(current, i + 1, next, i, current.length - i - 1);
+                state = new State(next);
+                break;
+            }
+        }
+        mailbox.disconnected = true;
+        mailbox.discard();
+        if (disconnected.size() == DISCONNECTED_HISTORY) {
+            disconnected.remove(0);
+        }
+        disconnected.add(mailbox);
+        onFailure.onFailure(
+                mailbox.listener,
+                overflowing,
+                new IllegalStateException("slow consumer disconnected: mailbox full"));
+    }
+
+    private synchronized void add(Mailbox mailbox) {
+        final Mailbox[] current = state.mailboxes();
+        final Mailbox[] next = Arrays.copyOf(current, current.length + 1);
+        next[current.length] = mailbox;
+        state = new State(next);
+    }
+
+    private synchronized void removeFirst(
+            @Nullable Class<? extends IEvent> type, @Nonnull IEventListener<?> listener) {
+        final Mailbox[] current = state.mailboxes();
+        for (int i = 0; i < current.length; i++) {
+            if (current[i].type == type && current[i].listener == listener) {
+                final Mailbox[] next = new Mailbox[current.length - 1];
+                System.arraycopy(current, 0, next, 0, i);
+                System.arraycopy(current, i + 1, next, i, current.length - i - 1);
+                state = new State(next);
+                current[i].discard();
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,545 @@
+/*
+ * App Bootstrap Core
+ * Copyright (C) 2026
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package app.bootstrap.core.messaging;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import app.bootstrap.core.ddd.AggregateRoot;
+import app.bootstrap.core.ddd.DomainEvent;
+import app.bootstrap.core.ddd.Id;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class AsyncEventBusTest {
+
+    record Numbered(UUID getEventId, Instant getTimestamp, int n) implements IEvent {
+        Numbered(int n) {
+            this(UUID.randomUUID(), Instant.now(), n);
+        }
+    }
+
+    record Other(UUID getEventId, Instant getTimestamp) implements IEvent {
+        Other() {
+            this(UUID.randomUUID(), Instant.now());
+        }
+    }
+
+    static final class AccountId extends Id {
+        AccountId() {
+            super(UUID.randomUUID());
+        }
+    }
+
+    static final class Account extends AggregateRoot<AccountId> {
+        Account(AccountId id) {
+            super(id);
+        }
+    }
+
+    static final class Posted extends DomainEvent {
+        final int seq;
+
+        Posted(AccountId account, int seq) {
+            super(account, Account.class);
+            this.seq = seq;
+        }
+    }
+
+    private static final Duration WAIT = Duration.ofSeconds(5);
+
+    private final List<Exception> failures = new CopyOnWriteArrayList<>();
+    private AsyncEventBus bus = AsyncEventBus.create(16, (listener, event, e) -> failures.add(e));
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        bus.close();
+    }
+
+    @Test
+    void shouldReturnFromPublishWhileASlowListenerIsStillBusy() throws Exception {
+        // Arrange
+        final CountDownLatch release = new CountDownLatch(1);
+        final List<Integer> fast = new CopyOnWriteArrayList<>();
+        bus.subscribe(Numbered.class, e -> release.await());
+        bus.subscribe(Numbered.class, e -> fast.add(e.n()));
+
+        // Act
+        bus.publish(new Numbered(1));
+
+        // Assert
+        assertTrue(waitFor(() -> bus.pending() == 1), "the slow listener still holds its event");
+        assertEquals(List.of(1), fast);
+        release.countDown();
+        assertTrue(bus.awaitIdle(WAIT));
+    }
+
+    @Test
+    void shouldDeliverToEachListenerInPublishOrder() throws Exception {
+        // Arrange
+        final List<Integer> first = Collections.synchronizedList(new ArrayList<>());
+        final List<Integer> second = Collections.synchronizedList(new ArrayList<>());
+        bus.subscribe(Numbered.class, e -> first.add(e.n()));
+        bus.subscribeAll(e -> second.add(((Numbered) e).n()));
+
+        // Act
+        for (int i = 0; i < 500; i++) {
+            bus.publish(new Numbered(i));
+        }
+
+        // Assert
+        assertTrue(bus.awaitIdle(WAIT));
+        final List<Integer> expected = IntStream.range(0, 500).boxed().toList();
+        assertEquals(expected, first);
+        assertEquals(expected, second);
+    }
+
+    @Test
+    void shouldIsolateAFailingListener() throws Exception {
+        // Arrange
+        final List<Integer> healthy = new CopyOnWriteArrayList<>();
+        final List<Integer> flaky = new CopyOnWriteArrayList<>();
+        bus.subscribe(
+                Numbered.class,
+                e -> {
+                    if (e.n() == 1) {
+                        throw new IllegalStateException("boom");
+                    }
+                    flaky.add(e.n());
+                });
+        bus.subscribe(Numbered.class, e -> healthy.add(e.n()));
+
+        // Act
+        bus.publish(new Numbered(1));
+        bus.publish(new Numbered(2));
+
+        // Assert
+        assertTrue(bus.awaitIdle(WAIT));
+        assertEquals(List.of(1, 2), healthy);
+        assertEquals(List.of(2), flaky, "the failing listener keeps receiving");
+        assertEquals(1, bus.failures());
+        assertEquals("boom", failures.get(0).getMessage());
+    }
+
+    @Test
+    void shouldBlockThePublisherWhenAMailboxIsFull() throws Exception {
+        // Arrange
+        bus.close();
+        bus = AsyncEventBus.create(1, (listener, event, e) -> {});
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        bus.subscribe(
+                Numbered.class,
+                e -> {
+                    started.countDown();
+                    release.await();
+                });
+        bus.publish(new Numbered(1)); // being handled
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        bus.publish(new Numbered(2)); // fills the mailbox
+
+        // Act
+        final CompletableFuture<Void> third =
+                CompletableFuture.runAsync(() -> bus.publish(new Numbered(3)));
+
+        // Assert
+        assertThrows(TimeoutException.class, () -> third.get(200, TimeUnit.MILLISECONDS));
+        release.countDown();
+        third.get(5, TimeUnit.SECONDS);
+        assertTrue(bus.awaitIdle(WAIT));
+    }
+
+    @Test
+    void shouldRouteByTypeAndDiscardQueuedEventsOnUnsubscribe() throws Exception {
+        // Arrange
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final List<Integer> received = new CopyOnWriteArrayList<>();
+        final IEventListener<Numbered> blocked =
+                e -> {
+                    started.countDown();
+                    release.await();
+                    received.add(e.n());
+                };
+        bus.subscribe(Numbered.class, blocked);
+        bus.publish(new Other()); // not routed to a Numbered subscription
+        bus.publish(new Numbered(1));
+        bus.publish(new Numbered(2));
+        bus.publish(new Numbered(3));
+
+        // Act
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        assertEquals(3, bus.pending());
+        bus.unsubscribe(Numbered.class, blocked);
+        release.countDown();
+
+        // Assert
+        assertTrue(bus.awaitIdle(WAIT));
+        assertEquals(List.of(1), received, "only the event already in progress completes");
+    }
+
+    @Test
+    void shouldShareASmallPoolAcrossManyMailboxes() throws Exception {
+        // Arrange
+        final ExecutorService pool = Executors.newFixedThreadPool(2);
+        try (AsyncEventBus pooled = AsyncEventBus.create(8, pool, (l, ev, e) -> {})) {
+            final List<Integer> received = new CopyOnWriteArrayList<>();
+            for (int i = 0; i < 20; i++) {
+                pooled.subscribe(Numbered.class, e -> received.add(e.n()));
+            }
+
+            // Act
+            for (int i = 0; i < 50; i++) {
+                pooled.publish(new Numbered(i));
+            }
+
+            // Assert
+            assertTrue(pooled.awaitIdle(WAIT));
+            assertEquals(20 * 50, received.size());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void shouldRejectPublishAfterClose() throws Exception {
+        // Arrange
+        final List<Integer> received = new CopyOnWriteArrayList<>();
+        bus.subscribe(Numbered.class, e -> received.add(e.n()));
+        bus.publish(new Numbered(1));
+
+        // Act
+        bus.close();
+
+        // Assert
+        assertEquals(List.of(1), received, "close drains what was published");
+        assertThrows(IllegalStateException.class, () -> bus.publish(new Numbered(2)));
+    }
+
+    @Test
+    void shouldKeepPerAggregateOrderWhileLanesRunInParallel() throws Exception {
+        // Arrange
+        final List<AccountId> accounts =
+                IntStream.range(0, 16).mapToObj(i -> new AccountId()).toList();
+        final Map<Id, List<Integer>> seen = new ConcurrentHashMap<>();
+        final AtomicInteger inFlight = new AtomicInteger();
+        final AtomicInteger maxInFlight = new AtomicInteger();
+        bus.subscribe(
+                Posted.class,
+                e -> {
+                    maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                    seen.computeIfAbsent(e.getAggregateId(), k -> new CopyOnWriteArrayList<>())
+                            .add(e.seq);
+                    Thread.sleep(1);
+                    inFlight.decrementAndGet();
+                },
+                4);
+
+        // Act
+        for (int seq = 0; seq < 10; seq++) {
+            for (final AccountId account : accounts) {
+                bus.publish(new Posted(account, seq));
+            }
+        }
+
+        // Assert
+        assertTrue(bus.awaitIdle(WAIT));
+        final List<Integer> inOrder = IntStream.range(0, 10).boxed().toList();
+        for (final AccountId account : accounts) {
+            assertEquals(inOrder, seen.get(account), "one aggregate is handled in publish order");
+        }
+        assertTrue(maxInFlight.get() > 1, "different aggregates are handled concurrently");
+    }
+
+    @Test
+    void shouldReportTheBacklogOfEveryLane() throws Exception {
+        // Arrange
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final IEventListener<Posted> blocked =
+                e -> {
+                    started.countDown();
+                    release.await();
+                };
+        bus.subscribe(Posted.class, blocked, 4);
+        bus.subscribe(Numbered.class, e -> release.await(), 3);
+        final AccountId hot = new AccountId();
+
+        // Act
+        for (int seq = 0; seq < 3; seq++) {
+            bus.publish(new Posted(hot, seq));
+            bus.publish(new Numbered(seq));
+        }
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        assertTrue(waitFor(() -> bus.backlogs().stream().allMatch(b -> b.total() == 2)));
+
+        // Assert — the hot aggregate fills one lane, events without an aggregate use lane 0
+        final List<AsyncEventBus.Backlog> backlogs = bus.backlogs();
+        assertEquals(2, backlogs.size());
+        assertEquals(Posted.class, backlogs.get(0).type());
+        assertEquals(4, backlogs.get(0).lanes().length);
+        assertEquals(1, IntStream.of(backlogs.get(0).lanes()).filter(d -> d > 0).count());
+        assertArrayEquals(new int[] {2, 0, 0}, backlogs.get(1).lanes());
+        assertThrows(IllegalArgumentException.class, () -> bus.subscribe(Posted.class, blocked, 0));
+        release.countDown();
+        assertTrue(bus.awaitIdle(WAIT));
+    }
+
+    @Test
+    void shouldDropTheOldestQueuedEventsWhenAMailboxOverflows() throws Exception {
+        // Arrange
+        final List<Integer> received = new CopyOnWriteArrayList<>();
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final IEventListener<Numbered> slow =
+                e -> {
+                    started.countDown();
+                    release.await();
+                    received.add(e.n());
+                };
+        useBus(AsyncEventBus.create(2, (listener, event, e) -> failures.add(e)));
+        bus.subscribe(
+                Numbered.class, slow, AsyncEventBus.Policy.of(AsyncEventBus.Overflow.DROP_OLDEST));
+        bus.publish(new Numbered(1));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        // Act — never blocks: 2 and 3 make room for 4 and 5
+        for (int n = 2; n <= 5; n++) {
+            bus.publish(new Numbered(n));
+        }
+        release.countDown();
+
+        // Assert
+        assertTrue(bus.awaitIdle(WAIT));
+        assertEquals(List.of(1, 4, 5), received);
+        assertEquals(2, bus.lag().get(0).dropped());
+    }
+
+    @Test
+    void shouldSpillOverflowAndDeliverItBackInOrder() throws Exception {
+        // Arrange
+        final InMemoryOutbox outbox = new InMemoryOutbox();
+        final List<Integer> received = new CopyOnWriteArrayList<>();
+        final List<Integer> healthy = new CopyOnWriteArrayList<>();
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final IEventListener<Numbered> slow =
+                e -> {
+                    started.countDown();
+                    release.await();
+                    received.add(e.n());
+                };
+        useBus(AsyncEventBus.create(2, (listener, event, e) -> failures.add(e)));
+        bus.subscribe(Numbered.class, slow, AsyncEventBus.Policy.spillTo(() -> outbox));
+        bus.subscribe(Numbered.class, e -> healthy.add(e.n()));
+        bus.publish(new Numbered(1));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        // Act
+        for (int n = 2; n <= 5; n++) {
+            bus.publish(new Numbered(n));
+        }
+        final List<Integer> spilled =
+                outbox.fetchUnpublished(10).stream().map(e -> ((Numbered) e).n()).toList();
+        final int backlog = bus.lag().get(0).backlog();
+        release.countDown();
+
+        // Assert — the queue kept 2 and 3, the spill outbox held 4 and 5 until there was room
+        assertTrue(bus.awaitIdle(WAIT));
+        assertEquals(List.of(4, 5), spilled);
+        assertEquals(4, backlog, "spilled events count as backlog");
+        assertEquals(List.of(1, 2, 3, 4, 5), received);
+        assertEquals(List.of(1, 2, 3, 4, 5), healthy, "other subscriptions see no duplicates");
+        assertTrue(outbox.fetchUnpublished(10).isEmpty());
+        assertEquals(2, bus.lag().get(0).spilled());
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> new AsyncEventBus.Policy(1, AsyncEventBus.Overflow.SPILL, null));
+    }
+
+    @Test
+    void shouldKeepPerAggregateOrderAcrossSpilledLanes() throws Exception {
+        // Arrange
+        final List<AccountId> accounts =
+                IntStream.range(0, 16).mapToObj(i -> new AccountId()).toList();
+        final Map<Id, List<Integer>> seen = new ConcurrentHashMap<>();
+        useBus(AsyncEventBus.create(2, (listener, event, e) -> failures.add(e)));
+        bus.subscribe(
+                Posted.class,
+                e -> {
+                    seen.computeIfAbsent(e.getAggregateId(), k -> new CopyOnWriteArrayList<>())
+                            .add(e.seq);
+                    Thread.sleep(1);
+                },
+                AsyncEventBus.Policy.spillTo(InMemoryOutbox::new).withLanes(4));
+
+        // Act
+        for (int seq = 0; seq < 10; seq++) {
+            for (final AccountId account : accounts) {
+                bus.publish(new Posted(account, seq));
+            }
+        }
+
+        // Assert
+        assertTrue(bus.awaitIdle(WAIT));
+        final List<Integer> inOrder = IntStream.range(0, 10).boxed().toList();
+        for (final AccountId account : accounts) {
+            assertEquals(inOrder, seen.get(account), "one aggregate is handled in publish order");
+        }
+        assertTrue(bus.lag().get(0).spilled() > 0);
+        assertTrue(failures.isEmpty());
+    }
+
+    @Test
+    void shouldDisconnectASubscriberWhoseMailboxOverflows() throws Exception {
+        // Arrange
+        final List<Integer> slowReceived = new CopyOnWriteArrayList<>();
+        final List<Integer> healthy = new CopyOnWriteArrayList<>();
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final IEventListener<Numbered> slow =
+                e -> {
+                    started.countDown();
+                    release.await();
+                    slowReceived.add(e.n());
+                };
+        useBus(AsyncEventBus.create(2, (listener, event, e) -> failures.add(e)));
+        bus.subscribe(
+                Numbered.class, slow, AsyncEventBus.Policy.of(AsyncEventBus.Overflow.DISCONNECT));
+        bus.subscribe(Numbered.class, e -> healthy.add(e.n()));
+        bus.publish(new Numbered(1));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        // Act
+        for (int n = 2; n <= 5; n++) {
+            bus.publish(new Numbered(n));
+        }
+        release.countDown();
+
+        // Assert
+        assertTrue(bus.awaitIdle(WAIT));
+        assertEquals(List.of(1), slowReceived, "queued events are discarded on disconnect");
+        assertEquals(List.of(1, 2, 3, 4, 5), healthy);
+        assertEquals(1, failures.size());
+        assertInstanceOf(IllegalStateException.class, failures.get(0));
+        final List<AsyncEventBus.Lag> lag = bus.lag();
+        assertEquals(2, lag.size());
+        assertSame(slow, lag.get(1).listener());
+        assertTrue(lag.get(1).disconnected());
+    }
+
+    @Test
+    void shouldReportLagAndDetectSlowConsumers() throws Exception {
+        // Arrange
+        final CountDownLatch release = new CountDownLatch(1);
+        final IEventListener<Numbered> slow = e -> release.await();
+        bus.subscribe(Numbered.class, slow);
+        bus.subscribe(Numbered.class, e -> {});
+
+        // Act
+        bus.publish(new Numbered(1));
+        bus.publish(new Numbered(2));
+        Thread.sleep(60);
+
+        // Assert
+        final List<AsyncEventBus.Lag> slowConsumers = bus.slowConsumers(Duration.ofMillis(20));
+        assertEquals(1, slowConsumers.size());
+        assertSame(slow, slowConsumers.get(0).listener());
+        assertEquals(1, slowConsumers.get(0).backlog());
+        assertEquals(0, slowConsumers.get(0).handled());
+
+        release.countDown();
+        assertTrue(bus.awaitIdle(WAIT));
+        final AsyncEventBus.Lag caughtUp = bus.lag().get(0);
+        assertEquals(2, caughtUp.handled());
+        assertEquals(0, caughtUp.backlog());
+        assertEquals(Duration.ZERO, caughtUp.oldest());
+        assertTrue(caughtUp.throughput() > 0);
+        assertTrue(bus.slowConsumers(Duration.ofMillis(20)).isEmpty());
+    }
+
+    @Test
+    void shouldReportASpillingSubscriberAsSlowFromItsOldestSpilledEvent() throws Exception {
+        // Arrange
+        final CountDownLatch first = new CountDownLatch(1);
+        final CountDownLatch atFour = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final IEventListener<Numbered> slow =
+                e -> {
+                    if (e.n() == 1) {
+                        first.await();
+                    } else if (e.n() == 4) {
+                        atFour.countDown();
+                        release.await();
+                    }
+                };
+        useBus(AsyncEventBus.create(2, (listener, event, e) -> failures.add(e)));
+        bus.subscribe(Numbered.class, slow, AsyncEventBus.Policy.spillTo(InMemoryOutbox::new));
+        for (int n = 1; n <= 7; n++) {
+            bus.publish(new Numbered(n));
+        }
+        Thread.sleep(100);
+
+        // Act — 2 and 3 drain, 4 and 5 come back from the spill outbox, the listener holds 4
+        first.countDown();
+        assertTrue(atFour.await(5, TimeUnit.SECONDS));
+        final List<AsyncEventBus.Lag> slowConsumers = bus.slowConsumers(Duration.ofMillis(50));
+        release.countDown();
+
+        // Assert — the refilled lane still carries the time 5 was first enqueued
+        assertEquals(1, slowConsumers.size());
+        assertSame(slow, slowConsumers.get(0).listener());
+        assertTrue(slowConsumers.get(0).oldest().compareTo(Duration.ofMillis(100)) >= 0);
+        assertTrue(bus.awaitIdle(WAIT));
+    }
+
+    private void useBus(AsyncEventBus replacement) throws InterruptedException {
+        bus.close();
+        bus = replacement;
+    }
+
+    private static boolean waitFor(BooleanSupplier condition) throws InterruptedException {
+        final long deadline = System.nanoTime() + WAIT.toNanos();
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                return false;
+            }
+            Thread.sleep(5);
+        }
+        return true;
+    }
+}
@@ -0,0 +1,236 @@
+/*
+ * App Bootstrap Core
+ * Copyright (C) 2026
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package app.bootstrap.core.messaging;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import jakarta.annotation.Nonnull;
+import java.io.IOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class DispatchingEventListenerTest {
+
+    static class BaseEvent implements IEvent {
+        private final UUID id = UUID.randomUUID();
+        private final Instant timestamp = Instant.now();
+
+        @Nonnull
+        @Override
+        public UUID getEventId() {
+            return id;
+        }
+
+        @Nonnull
+        @Override
+        public Instant getTimestamp() {
+            return timestamp;
+        }
+    }
+
+    /** Not an event type: handlers are looked up along it, but none can be declared for it. */
+    interface Auditable {}
+
+    static final class OrderPlaced extends BaseEvent implements Auditable {}
+
+    static final class OrderCancelled extends BaseEvent {}
+
+    static final class Unrelated extends BaseEvent {}
+
+    static class OrderProjection {
+        final List<String> calls = new ArrayList<>();
+
+        @Handles
+        void placed(OrderPlaced event) {
+            calls.add("placed");
+        }
+
+        @Handles
+        private void cancelled(OrderCancelled event) {
+            calls.add("cancelled");
+        }
+
+        @Handles
+        void any(BaseEvent event) {
+            calls.add("any");
+        }
+
+        void notAHandler(OrderPlaced event) {
+            calls.add("not a handler");
+        }
+    }
+
+    static final class AuditingProjection extends OrderProjection {
+        @Handles
+        @Override
+        void any(BaseEvent event) {
+            calls.add("any (overridden)");
+        }
+    }
+
+    /** Declares a handler like the private {@code cancelled} it cannot override. */
+    static final class ShadowingProjection extends OrderProjection {
+        @Handles
+        void cancelled(OrderCancelled event) {
+            calls.add("cancelled (subclass)");
+        }
+    }
+
+    @Test
+    void shouldCallEveryAcceptingHandlerMostSpecificFirst() throws Exception {
+        // Arrange
+        final OrderProjection projection = new OrderProjection();
+        final DispatchingEventListener listener = DispatchingEventListener.of(projection);
+
+        // Act
+        listener.handleEvent(new OrderPlaced());
+        listener.handleEvent(new OrderCancelled());
+        listener.handleEvent(new Unrelated());
+
+        // Assert
+        assertEquals(List.of("placed", "any", "cancelled", "any", "any"), projection.calls);
+        assertSame(projection, listener.target());
+    }
+
+    @Test
+    void shouldUseTheOverridingMethodOnce() throws Exception {
+        // Arrange
+        final AuditingProjection projection = new AuditingProjection();
+        final DispatchingEventListener listener = DispatchingEventListener.of(projection);
+
+        // Act
+        listener.handleEvent(new OrderPlaced());
+
+        // Assert
+        assertEquals(List.of("placed", "any (overridden)"), projection.calls);
+    }
+
+    @Test
+    void shouldKeepAPrivateHandlerASubclassCannotOverride() throws Exception {
+        // Arrange
+        final ShadowingProjection projection = new ShadowingProjection();
+        final DispatchingEventListener listener = DispatchingEventListener.of(projection);
+
+        // Act
+        listener.handleEvent(new OrderCancelled());
+
+        // Assert
+        assertEquals(List.of("cancelled (subclass)", "cancelled", "any"), projection.calls);
+    }
+
+    @Test
+    void shouldReportHandledTypes() {
+        // Arrange
+        final DispatchingEventListener listener =
+                DispatchingEventListener.of(
+                        new Object() {
+                            @Handles
+                            void on(OrderPlaced event) {}
+
+                            @Handles
+                            void on(OrderCancelled event) {}
+                        });
+
+        // Act & Assert
+        assertEquals(Set.of(OrderPlaced.class, OrderCancelled.class), listener.handledTypes());
+        assertTrue(listener.handles(OrderPlaced.class));
+        assertFalse(listener.handles(Unrelated.class));
+    }
+
+    @Test
+    void shouldIgnoreEventsNoMethodAccepts() throws Exception {
+        // Arrange
+        final List<IEvent> seen = new ArrayList<>();
+        final DispatchingEventListener listener =
+                DispatchingEventListener.of(
+                        new Object() {
+                            @Handles
+                            void on(OrderPlaced event) {
+                                seen.add(event);
+                            }
+                        });
+
+        // Act
+        listener.handleEvent(new OrderCancelled());
+
+        // Assert
+        assertTrue(seen.isEmpty());
+    }
+
+    @Test
+    void shouldPropagateExceptionsFromHandlers() {
+        // Arrange
+        final DispatchingEventListener listener =
+                DispatchingEventListener.of(
+                        new Object() {
+                            @Handles
+                            void on(OrderPlaced event) throws IOException {
+                                throw new IOException("disk full");
+                            }
+                        });
+
+        // Act & Assert
+        final IOException thrown =
+                assertThrows(IOException.class, () -> listener.handleEvent(new OrderPlaced()));
+        assertEquals("disk full", thrown.getMessage());
+    }
+
+    @Test
+    void shouldRouteThroughABusSubscription() {
+        // Arrange
+        final OrderProjection projection = new OrderProjection();
+        final InMemoryEventBus bus = new InMemoryEventBus();
+        bus.subscribeAll(DispatchingEventListener.of(projection));
+
+        // Act
+        bus.publish(new OrderCancelled());
+
+        // Assert
+        assertEquals(List.of("cancelled", "any"), projection.calls);
+    }
+
+    @Test
+    void shouldRejectInvalidHandlerSignatures() {
+        assertThrows(
+                IllegalArgumentException.class, () -> DispatchingEventListener.of(new Object()));
+        assertThrows(
+                IllegalArgumentException.class,
+                () ->
+                        DispatchingEventListener.of(
+                                new Object() {
+                                    @Handles
+                                    void on(String notAnEvent) {}
+                                }));
+        assertThrows(
+                IllegalArgumentException.class,
+                () ->
+                        DispatchingEventListener.of(
+                                new Object() {
+                                    @Handles
+                                    String on(OrderPlaced event) {
+                                        return "";
+                                    }
+                                }));
+    }
+}
@@ -0,0 +1,42 @@
+/*
+ * App Bootstrap Core
+ * Copyright (C) 2026
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package app.bootstrap.core.messaging;
+
+import jakarta.annotation.Nonnull;
+import java.nio.ByteBuffer;
+
+/**
+ * Binary serialisation of events for the file-backed reference stores. The stores own framing
+ * (lengths, checksums, positions); a codec only turns one event into bytes and back.
+ *
+ * @param <E> the event type the codec handles
+ */
+public interface EventCodec<E extends IEvent> {
+
+    /** Serialises {@code event}. */
+    @Nonnull
+    byte[] encode(@Nonnull E event);
+
+    /**
+     * Deserialises one event from {@code bytes}, which holds exactly what {@link #encode} wrote.
+     */
+    @Nonnull
+    E decode(@Nonnull ByteBuffer bytes);
+}
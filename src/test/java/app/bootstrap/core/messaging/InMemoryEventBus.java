@@ -22,31 +22,70 @@ package app.bootstrap.core.messaging;
 import jakarta.annotation.Nonnull;
 import jakarta.annotation.Nullable;
 import java.util.ArrayList;
-import java.util.Iterator;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
+/**
+ * Reference {@link IEventBus} that dispatches synchronously, in subscription order, with a
+ * type-indexed dispatch table.
+ *
+ * <p>Subscriptions live in an immutable array that each {@code subscribe}/{@code unsubscribe}
+ * replaces, together with an empty cache. On the first publish of each concrete event class the bus
+ * picks the matching listeners — typed subscriptions to the class or a supertype, and {@code
+ * subscribeAll} listeners — in subscription order and caches them as an array. Later publishes of
+ * that class are one map lookup and a loop over exactly the listeners that receive it, however many
+ * other subscriptions exist. Publishing neither copies nor locks anything; a listener that
+ * subscribes or unsubscribes during a publish takes effect from the next publish.
+ *
+ * <p>{@link #publishAll} looks the receivers up once per run of same-class events, then delivers
+ * subscription by subscription: each receives the events it matches, in publish order, as one list
+ * if it is an {@link IBatchEventListener} and one at a time otherwise.
+ *
+ * <p>A listener's checked exception is rethrown wrapped in a {@link RuntimeException}, and the
+ * remaining listeners are skipped.
+ */
 public final class InMemoryEventBus implements IEventBus {
 
-    private static final class Subscription {
-        @Nullable final Class<? extends IEvent> type;
-        @Nonnull final IEventListener<?> listener;
+    private record Subscription(
+            @Nullable Class<? extends IEvent> type, @Nonnull IEventListener<?> listener) {
 
-        Subscription(@Nullable Class<? extends IEvent> type, @Nonnull IEventListener<?> listener) {
-            this.type = type;
-            this.listener = listener;
+        boolean matches(Class<?> eventClass) {
+            return type == null || type.isAssignableFrom(eventClass);
         }
+    }
 
-        boolean matches(@Nonnull IEvent event) {
-            return type == null || type.isInstance(event);
+    /** Subscriptions and the dispatch table derived from them, replaced as a unit. */
+    private record State(Subscription[] subscriptions, Map<Class<?>, Subscription[]> dispatch) {
+
+        State(Subscription[] subscriptions) {
+            this(subscriptions, new ConcurrentHashMap<>());
+        }
+
+        Subscription[] receiversOf(Class<?> eventClass) {
+            final Subscription[] cached = dispatch.get(eventClass);
+            return cached != null ? cached : dispatch.computeIfAbsent(eventClass, this::resolve);
+        }
+
+        private Subscription[] resolve(Class<?> eventClass) {
+            final List<Subscription> matching = new ArrayList<>();
+            for (final Subscription subscription : subscriptions) {
+                if (subscription.matches(eventClass)) {
+                    matching.add(subscription);
+                }
+            }
+            return matching.toArray(new Subscription[0]);
         }
     }
 
-    @Nonnull private final List<Subscription> subscriptions = new ArrayList<>();
+    private volatile State state = new State(new Subscription[0]);
 
     @Override
     public <E extends IEvent> void subscribe(
             @Nonnull Class<E> type, @Nonnull IEventListener<? super E> listener) {
-        subscriptions.add(new Subscription(type, listener));
+        add(new Subscription(type, listener));
     }
 
     @Override
@@ -57,7 +96,7 @@ public final class InMemoryEventBus implements IEventBus {
 
     @Override
     public void subscribeAll(@Nonnull IEventListener<? super IEvent> listener) {
-        subscriptions.add(new Subscription(null, listener));
+        add(new Subscription(null, listener));
     }
 
     @Override
@@ -68,26 +107,75 @@ public final class InMemoryEventBus implements IEventBus {
     @Override
     @SuppressWarnings({"unchecked", "rawtypes"})
     public void publish(@Nonnull IEvent event) {
-        final List<Subscription> snapshot = new ArrayList<>(subscriptions);
-        for (Subscription subscription : snapshot) {
-            if (!subscription.matches(event)) {
+        for (final Subscription subscription : state.receiversOf(event.getClass())) {
+            try {
+                ((IEventListener) subscription.listener()).handleEvent(event);
+            } catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        }
+    }
+
+    @Override
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public void publishAll(@Nonnull List<? extends IEvent> events) {
+        final State current = state;
+        final Map<Subscription, List<IEvent>> batches = new IdentityHashMap<>();
+        Class<?> lastClass = null;
+        Subscription[] receivers = null;
+        for (final IEvent event : events) {
+            if (event.getClass() != lastClass) {
+                lastClass = event.getClass();
+                receivers = current.receiversOf(lastClass);
+            }
+            for (final Subscription subscription : receivers) {
+                batches.computeIfAbsent(subscription, s -> new ArrayList<>()).add(event);
+            }
+        }
+        if (batches.isEmpty()) {
+            return;
+        }
+        for (final Subscription subscription : current.subscriptions()) {
+            final List<IEvent> batch = batches.get(subscription);
+            if (batch == null) {
                 continue;
             }
             try {
-                ((IEventListener) subscription.listener).handleEvent(event);
+                if (subscription.listener() instanceof IBatchEventListener batchListener) {
+                    batchListener.handleEvents(batch);
+                } else {
+                    final IEventListener listener = subscription.listener();
+                    for (final IEvent event : batch) {
+                        listener.handleEvent(event);
+                    }
+                }
             } catch (Exception e) {
                 throw new RuntimeException(e);
             }
         }
     }
 
-    private void removeFirst(
+    /** How many listeners an event of {@code eventClass} reaches. */
+    public int listenerCount(@Nonnull Class<? extends IEvent> eventClass) {
+        return state.receiversOf(eventClass).length;
+    }
+
+    private synchronized void add(Subscription subscription) {
+        final Subscription[] current = state.subscriptions();
+        final Subscription[] next = Arrays.copyOf(current, current.length + 1);
+        next[current.length] = subscription;
+        state = new State(next);
+    }
+
+    private synchronized void removeFirst(
             @Nullable Class<? extends IEvent> type, @Nonnull IEventListener<?> listener) {
-        final Iterator<Subscription> iterator = subscriptions.iterator();
-        while (iterator.hasNext()) {
-            final Subscription subscription = iterator.next();
-            if (subscription.type == type && subscription.listener == listener) {
-                iterator.remove();
+        final Subscription[] current = state.subscriptions();
+        for (int i = 0; i < current.length; i++) {
+            if (current[i].type() == type && current[i].listener() == listener) {
+                final Subscription[] next = new Subscription[current.length - 1];
+                System.arraycopy(current, 0, next, 0, i);
+                System.arraycopy(current, i + 1, next, i, current.length - i - 1);
+                state = new State(next);
                 return;
             }
         }
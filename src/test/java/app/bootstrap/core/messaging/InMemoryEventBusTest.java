@@ -209,4 +209,101 @@ class InMemoryEventBusTest {
         bus.publish(new ChildEvent());
         assertEquals(List.of("late"), received);
     }
+
+    @Test
+    void dispatchTableIsRebuiltWhenSubscriptionsChange() {
+        final InMemoryEventBus bus = new InMemoryEventBus();
+        final List<String> received = new ArrayList<>();
+        final IEventListener<BaseEvent> base = e -> received.add("base");
+        bus.subscribe(ChildEvent.class, e -> received.add("child"));
+        bus.publish(new ChildEvent()); // caches the table for ChildEvent
+
+        bus.subscribe(BaseEvent.class, base);
+        bus.publish(new ChildEvent());
+        bus.unsubscribe(BaseEvent.class, base);
+        bus.publish(new ChildEvent());
+
+        assertEquals(List.of("child", "child", "base", "child"), received);
+    }
+
+    @Test
+    void listenerCountOnlyIncludesMatchingSubscriptions() {
+        final InMemoryEventBus bus = new InMemoryEventBus();
+        for (int i = 0; i < 100; i++) {
+            bus.subscribe(OtherEvent.class, e -> {});
+        }
+        bus.subscribe(BaseEvent.class, e -> {});
+        bus.subscribeAll(e -> {});
+        bus.subscribe(ChildEvent.class, e -> {});
+
+        assertEquals(3, bus.listenerCount(ChildEvent.class));
+        assertEquals(102, bus.listenerCount(OtherEvent.class));
+    }
+
+    @Test
+    void publishAllHandsABatchListenerEveryMatchingEventInOneCall() {
+        final InMemoryEventBus bus = new InMemoryEventBus();
+        final List<List<BaseEvent>> batches = new ArrayList<>();
+        final IBatchEventListener<BaseEvent> projector = events -> batches.add(List.copyOf(events));
+        bus.subscribe(BaseEvent.class, projector);
+        final ChildEvent first = new ChildEvent();
+        final BaseEvent second = new BaseEvent();
+        final ChildEvent third = new ChildEvent();
+
+        bus.publishAll(List.of(first, new NotABaseEvent(), second, third));
+        bus.publish(first);
+
+        assertEquals(List.of(List.of(first, second, third), List.of(first)), batches);
+    }
+
+    @Test
+    void publishAllDeliversSubscriptionBySubscriptionInPublishOrder() {
+        final InMemoryEventBus bus = new InMemoryEventBus();
+        final List<String> received = new ArrayList<>();
+        bus.subscribe(ChildEvent.class, e -> received.add("child"));
+        bus.subscribeAll(e -> received.add("all:" + e.getClass().getSimpleName()));
+
+        bus.publishAll(List.of(new ChildEvent(), new OtherEvent(), new ChildEvent()));
+
+        assertEquals(
+                List.of("child", "child", "all:ChildEvent", "all:OtherEvent", "all:ChildEvent"),
+                received);
+    }
+
+    @Test
+    void publishAllStopsAtTheFirstFailingListener() {
+        final InMemoryEventBus bus = new InMemoryEventBus();
+        final List<IEvent> received = new ArrayList<>();
+        bus.subscribe(
+                ChildEvent.class,
+                (IBatchEventListener<ChildEvent>)
+                        events -> {
+                            throw new Exception("store down");
+                        });
+        bus.subscribeAll(received::add);
+
+        final RuntimeException thrown =
+                assertThrows(
+                        RuntimeException.class,
+                        () -> bus.publishAll(List.of(new ChildEvent(), new ChildEvent())));
+
+        assertEquals("store down", thrown.getCause().getMessage());
+        assertTrue(received.isEmpty());
+    }
+
+    static final class NotABaseEvent implements IEvent {
+        private final UUID id = UUID.randomUUID();
+
+        @Nonnull
+        @Override
+        public UUID getEventId() {
+            return id;
+        }
+
+        @Nonnull
+        @Override
+        public Instant getTimestamp() {
+            return Instant.EPOCH;
+        }
+    }
 }
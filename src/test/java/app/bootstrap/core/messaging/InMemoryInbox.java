@@ -19,11 +19,10 @@
  */
 package app.bootstrap.core.messaging;
 
+import app.bootstrap.core.ddd.UuidMap;
 import jakarta.annotation.Nonnull;
 import java.util.Comparator;
-import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.UUID;
 
 /**
@@ -39,7 +38,7 @@ public final class InMemoryInbox implements IInbox {
 
     private record Entry(IEvent event, long seq, boolean processed) {}
 
-    private final Map<UUID, Entry> rows = new LinkedHashMap<>();
+    private final UuidMap<Entry> rows = new UuidMap<>();
     private long seqGen = 0;
 
     @Override
@@ -66,7 +65,10 @@ public final class InMemoryInbox implements IInbox {
 
     @Override
     public synchronized void markProcessed(@Nonnull UUID eventId) {
-        rows.computeIfPresent(eventId, (k, r) -> new Entry(r.event(), r.seq(), true));
+        final Entry r = rows.get(eventId);
+        if (r != null) {
+            rows.put(eventId, new Entry(r.event(), r.seq(), true));
+        }
     }
 
     /** Total rows held, processed and unprocessed — i.e. distinct events received. */
@@ -19,10 +19,14 @@
  */
 package app.bootstrap.core.messaging;
 
+import app.bootstrap.core.ddd.UuidMap;
 import jakarta.annotation.Nonnull;
-import java.util.LinkedHashMap;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 import java.util.UUID;
 
 /**
@@ -30,31 +34,124 @@ import java.util.UUID;
  * is held until acknowledged, then dropped. Insertion order is preserved so {@link
  * #fetchUnpublished(int)} returns events oldest first. Thread-safe so a relay thread can drain
  * while writers stage.
+ *
+ * <p>Events are held in a {@link UuidMap} by id and ordered by a queue of staging records.
+ * Acknowledging an event only removes it from the map; its queue record goes stale and is dropped
+ * once it reaches the head, or when stale records outnumber live ones.
+ *
+ * <p>{@link #claim} leases events by recording a token and expiry per event id, under the same lock
+ * as everything else, so concurrent claims never overlap. Expiry is read from the injected {@link
+ * Clock}; an expired lease is simply overwritten by the next claim.
  */
-public final class InMemoryOutbox implements IOutbox {
+public final class InMemoryOutbox implements IClaimableOutbox {
+
+    /** One staging of an event, live while the map holds a record with the same sequence. */
+    private record Staged(IEvent event, long seq) {}
+
+    private record Lease(UUID token, Instant until) {}
+
+    private final UuidMap<Staged> unpublished = new UuidMap<>();
+    private final UuidMap<Lease> leases = new UuidMap<>();
+    private final ArrayDeque<Staged> order = new ArrayDeque<>();
+    private final Clock clock;
+    private long seqGen = 0;
+
+    public InMemoryOutbox() {
+        this(Clock.systemUTC());
+    }
 
-    private final Map<UUID, IEvent> unpublished = new LinkedHashMap<>();
+    public InMemoryOutbox(@Nonnull Clock clock) {
+        this.clock = clock;
+    }
 
     @Override
     public synchronized void add(@Nonnull List<? extends IEvent> events) {
         for (final IEvent event : events) {
-            unpublished.put(event.getEventId(), event);
+            final Staged previous = unpublished.get(event.getEventId());
+            if (previous != null) {
+                // re-staged before acknowledgement: replace the event, keep its position
+                unpublished.put(event.getEventId(), new Staged(event, previous.seq()));
+            } else {
+                final Staged staged = new Staged(event, seqGen++);
+                unpublished.put(event.getEventId(), staged);
+                order.addLast(staged);
+            }
         }
     }
 
     @Nonnull
     @Override
     public synchronized List<IEvent> fetchUnpublished(int limit) {
-        return unpublished.values().stream().limit(limit).toList();
+        final List<IEvent> batch =
+                new ArrayList<>(Math.max(0, Math.min(limit, unpublished.size())));
+        for (final Staged staged : order) {
+            if (batch.size() >= limit) {
+                break;
+            }
+            final Staged live = live(staged);
+            if (live != null) {
+                batch.add(live.event());
+            }
+        }
+        return List.copyOf(batch);
+    }
+
+    @Nonnull
+    @Override
+    public synchronized Claim claim(int limit, @Nonnull Duration lease) {
+        final Instant now = clock.instant();
+        final Lease granted = new Lease(UUID.randomUUID(), now.plus(lease));
+        final List<IEvent> claimed = new ArrayList<>(Math.max(0, Math.min(limit, 64)));
+        for (final Staged staged : order) {
+            if (claimed.size() >= limit) {
+                break;
+            }
+            final Staged live = live(staged);
+            if (live == null) {
+                continue;
+            }
+            final UUID eventId = live.event().getEventId();
+            final Lease held = leases.get(eventId);
+            if (held == null || !held.until().isAfter(now)) {
+                leases.put(eventId, granted);
+                claimed.add(live.event());
+            }
+        }
+        return new Claim(granted.token(), claimed, granted.until());
+    }
+
+    @Override
+    public synchronized void release(@Nonnull Claim claim) {
+        for (final IEvent event : claim.events()) {
+            final Lease held = leases.get(event.getEventId());
+            if (held != null && held.token().equals(claim.token())) {
+                leases.remove(event.getEventId());
+            }
+        }
     }
 
     @Override
     public synchronized void markPublished(@Nonnull List<UUID> eventIds) {
-        eventIds.forEach(unpublished::remove);
+        for (final UUID eventId : eventIds) {
+            unpublished.remove(eventId);
+            leases.remove(eventId);
+        }
+        while (!order.isEmpty() && live(order.peekFirst()) == null) {
+            order.pollFirst();
+        }
+        if (order.size() > 2 * unpublished.size() + 64) {
+            order.removeIf(staged -> live(staged) == null);
+        }
     }
 
     /** Number of staged events not yet acknowledged. */
     public synchronized int size() {
         return unpublished.size();
     }
+
+    /** The current staging for {@code staged}'s event, or {@code null} if the record is stale. */
+    private Staged live(Staged staged) {
+        final Staged current = unpublished.get(staged.event().getEventId());
+        return current != null && current.seq() == staged.seq() ? current : null;
+    }
 }
@@ -22,9 +22,20 @@ package app.bootstrap.core.messaging;
 import static org.junit.jupiter.api.Assertions.*;
 
 import app.bootstrap.core.ddd.IDomainEvent;
+import java.time.Clock;
+import java.time.Duration;
 import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -44,6 +55,32 @@ class InMemoryOutboxTest {
         return events.stream().map(IEvent::getEventId).toList();
     }
 
+    /** A clock the test moves by hand, to expire leases without sleeping. */
+    static final class ManualClock extends Clock {
+        private Instant now = Instant.parse("2026-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+    }
+
+    private static final Duration LEASE = Duration.ofSeconds(30);
+
     private InMemoryOutbox outbox;
 
     @BeforeEach
@@ -130,6 +167,21 @@ class InMemoryOutboxTest {
         assertEquals(List.of(event.getEventId()), idsOf(outbox.fetchUnpublished(10)));
     }
 
+    @Test
+    void shouldKeepOrderWhenAcknowledgingOutOfOrder() {
+        TestEvent first = event();
+        TestEvent second = event();
+        TestEvent third = event();
+        outbox.add(List.of(first, second, third));
+
+        outbox.markPublished(List.of(second.getEventId()));
+        outbox.add(List.of(second)); // redelivered by an upstream retry: staged again, at the end
+
+        assertEquals(
+                List.of(first.getEventId(), third.getEventId(), second.getEventId()),
+                idsOf(outbox.fetchUnpublished(10)));
+    }
+
     @Test
     void shouldAcceptDomainEventListThroughWildcard() {
         // Mirrors aggregate.commit(outbox::add): a List<IDomainEvent> must be accepted by
@@ -144,4 +196,88 @@ class InMemoryOutboxTest {
                 domainEvents.stream().map(IDomainEvent::getEventId).toList(),
                 idsOf(outbox.fetchUnpublished(10)));
     }
+
+    @Test
+    void shouldHandOutDisjointClaimsOldestFirst() {
+        List<IEvent> staged = List.of(event(), event(), event(), event(), event());
+        outbox.add(staged);
+
+        IClaimableOutbox.Claim first = outbox.claim(3, LEASE);
+        IClaimableOutbox.Claim second = outbox.claim(3, LEASE);
+
+        assertEquals(idsOf(staged.subList(0, 3)), first.eventIds());
+        assertEquals(idsOf(staged.subList(3, 5)), second.eventIds());
+        assertNotEquals(first.token(), second.token());
+        assertTrue(outbox.claim(3, LEASE).isEmpty());
+        assertEquals(5, outbox.fetchUnpublished(10).size(), "fetch ignores leases");
+    }
+
+    @Test
+    void shouldReclaimEventsOnceTheLeaseExpires() {
+        ManualClock clock = new ManualClock();
+        outbox = new InMemoryOutbox(clock);
+        outbox.add(List.of(event(), event()));
+        IClaimableOutbox.Claim crashed = outbox.claim(10, LEASE);
+
+        clock.advance(LEASE.minusSeconds(1));
+        assertTrue(outbox.claim(10, LEASE).isEmpty());
+        clock.advance(Duration.ofSeconds(1));
+        IClaimableOutbox.Claim takeover = outbox.claim(10, LEASE);
+
+        assertEquals(crashed.eventIds(), takeover.eventIds());
+        assertEquals(clock.instant().plus(LEASE), takeover.expiresAt());
+        outbox.release(crashed); // the stale token no longer holds anything
+        assertTrue(outbox.claim(10, LEASE).isEmpty());
+    }
+
+    @Test
+    void shouldEndALeaseOnReleaseOrAcknowledgement() {
+        TestEvent failed = event();
+        TestEvent published = event();
+        outbox.add(List.of(failed, published));
+        IClaimableOutbox.Claim claim = outbox.claim(10, LEASE);
+
+        outbox.markPublished(List.of(published.getEventId()));
+        outbox.release(claim);
+
+        assertEquals(List.of(failed.getEventId()), outbox.claim(10, LEASE).eventIds());
+        assertEquals(1, outbox.size());
+    }
+
+    @Test
+    void shouldNeverHandTheSameEventToConcurrentClaimers() throws Exception {
+        List<IEvent> staged = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            staged.add(event());
+        }
+        outbox.add(staged);
+        Set<UUID> claimedOnce = ConcurrentHashMap.newKeySet();
+        ExecutorService relays = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int r = 0; r < 4; r++) {
+                results.add(
+                        relays.submit(
+                                () -> {
+                                    boolean disjoint = true;
+                                    IClaimableOutbox.Claim claim = outbox.claim(7, LEASE);
+                                    while (!claim.isEmpty()) {
+                                        for (UUID id : claim.eventIds()) {
+                                            disjoint &= claimedOnce.add(id);
+                                        }
+                                        outbox.markPublished(claim.eventIds());
+                                        claim = outbox.claim(7, LEASE);
+                                    }
+                                    return disjoint;
+                                }));
+            }
+            for (Future<Boolean> result : results) {
+                assertTrue(result.get());
+            }
+        } finally {
+            relays.shutdown();
+        }
+        assertEquals(new HashSet<>(idsOf(staged)), claimedOnce);
+        assertEquals(0, outbox.size());
+    }
 }
@@ -0,0 +1,435 @@
+/*
+ * App Bootstrap Core
+ * Copyright (C) 2026
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package app.bootstrap.core.messaging;
+
+import app.bootstrap.core.ddd.UuidMap;
+import jakarta.annotation.Nonnull;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * File-backed reference {@link IOutbox} for services without a database: an append-only log of
+ * memory-mapped segment files, plus a published watermark.
+ *
+ * <p><strong>Layout.</strong> Every staged event gets the next sequence number and is written as
+ * one record, a 16-byte header ({@code length, crc32, sequence}) followed by the {@link EventCodec}
+ * payload, into the mapped active segment. A segment is a file of {@code segmentBytes}, named after
+ * the sequence of its first record. When a record does not fit, the next segment is started.
+ *
+ * <p><strong>Watermark.</strong> Acknowledging an event does not touch the log. The outbox keeps
+ * the unacknowledged sequences in memory, and the watermark is the lowest of them: everything below
+ * it is published. Once the watermark passes the end of a segment, the watermark is written to
+ * {@code published.mark} and forced, and the segment is retired. The watermark is persisted only
+ * then and on {@link #close()}, so after a crash the events acknowledged since are relayed again.
+ * That is the usual at-least-once redelivery, which consumers already deduplicate.
+ *
+ * <p><strong>Recycling.</strong> A retired segment file is kept as a spare, and the next segment is
+ * started by renaming and remapping it rather than allocating a new file. Stale records in a
+ * recycled file are never mistaken for new ones, because recovery accepts only a record with the
+ * next expected sequence and a valid checksum.
+ *
+ * <p><strong>Group commit.</strong> With {@code syncWrites}, {@link #add} returns only once its
+ * records are forced to disk. As in the file event store, the first waiter forces the active
+ * segment on behalf of every record written so far, and writers covered by that force return
+ * without forcing.
+ *
+ * <p><strong>Recovery.</strong> On open the segments are scanned in order from the persisted
+ * watermark. The log ends at the first zero length, bad checksum or unexpected sequence, and
+ * writing resumes there. An event id staged again before it is acknowledged is superseded by the
+ * newer record.
+ */
+public final class MappedFileOutbox implements IOutbox, Closeable {
+
+    private static final int HEADER = 16;
+    private static final int CRC = 4;
+    private static final int SEQUENCE = 8;
+    private static final long DEFAULT_SEGMENT_BYTES = 16L * 1024 * 1024;
+    private static final String SUFFIX = ".seg";
+    private static final String SPARE = "spare.free";
+    private static final String MARK = "published.mark";
+
+    private static final class Segment {
+        final long firstSequence;
+        final Path file;
+        final FileChannel channel;
+        final MappedByteBuffer buffer;
+        int size;
+
+        Segment(long firstSequence, Path file, FileChannel channel, MappedByteBuffer buffer) {
+            this.firstSequence = firstSequence;
+            this.file = file;
+            this.channel = channel;
+            this.buffer = buffer;
+        }
+    }
+
+    /** Where an unacknowledged record lives. */
+    private record Location(Segment segment, int offset, int length) {}
+
+    private final Path dir;
+    private final EventCodec<IEvent> codec;
+    private final int segmentBytes;
+    private final boolean syncWrites;
+
+    private final List<Segment> segments = new ArrayList<>();
+    private final TreeMap<Long, Location> unpublished = new TreeMap<>();
+    private final UuidMap<Long> sequences = new UuidMap<>();
+    private final FileChannel markChannel;
+    private final MappedByteBuffer mark;
+    private long nextSequence;
+    private long persistedWatermark;
+
+    private final Object forceLock = new Object();
+    private volatile long durable;
+    private long forces;
+
+    private MappedFileOutbox(
+            Path dir, EventCodec<IEvent> codec, int segmentBytes, boolean syncWrites)
+            throws IOException {
+        this.dir = dir;
+        this.codec = codec;
+        this.segmentBytes = segmentBytes;
+        this.syncWrites = syncWrites;
+        this.markChannel =
+                FileChannel.open(
+                        dir.resolve(MARK),
+                        StandardOpenOption.CREATE,
+                        StandardOpenOption.READ,
+                        StandardOpenOption.WRITE);
+        this.mark = markChannel.map(FileChannel.MapMode.READ_WRITE, 0, Long.BYTES);
+    }
+
+    /** Opens (or creates) an outbox in {@code dir} with 16 MiB segments and durable adds. */
+    @Nonnull
+    public static MappedFileOutbox open(@Nonnull Path dir, @Nonnull EventCodec<IEvent> codec)
+            throws IOException {
+        return open(dir, codec, DEFAULT_SEGMENT_BYTES, true);
+    }
+
+    /**
+     * Opens (or creates) an outbox in {@code dir}.
+     *
+     * @param segmentBytes the size of each segment file; a record must fit in one
+     * @param syncWrites whether {@link #add} waits until its records are forced to disk
+     */
+    @Nonnull
+    public static MappedFileOutbox open(
+            @Nonnull Path dir,
+            @Nonnull EventCodec<IEvent> codec,
+            long segmentBytes,
+            boolean syncWrites)
+            throws IOException {
+        if (segmentBytes <= HEADER || segmentBytes > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("segmentBytes must be in (16, 2^31)");
+        }
+        Files.createDirectories(dir);
+        final MappedFileOutbox outbox =
+                new MappedFileOutbox(dir, codec, (int) segmentBytes, syncWrites);
+        outbox.load();
+        return outbox;
+    }
+
+    @Override
+    public void add(@Nonnull List<? extends IEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        final byte[][] payloads = new byte[events.size()][];
+        for (int i = 0; i < payloads.length; i++) {
+            payloads[i] = codec.encode(events.get(i));
+            if (HEADER + payloads[i].length > segmentBytes) {
+                throw new IllegalArgumentException(
+                        "event " + events.get(i).getEventId() + " does not fit in a segment");
+            }
+        }
+        try {
+            final long end = write(events, payloads);
+            if (syncWrites) {
+                awaitDurable(end);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Nonnull
+    @Override
+    public synchronized List<IEvent> fetchUnpublished(int limit) {
+        final List<IEvent> batch =
+                new ArrayList<>(Math.max(0, Math.min(limit, unpublished.size())));
+        for (final Location location : unpublished.values()) {
+            if (batch.size() >= limit) {
+                break;
+            }
+            batch.add(decode(location));
+        }
+        return List.copyOf(batch);
+    }
+
+    @Override
+    public synchronized void markPublished(@Nonnull List<UUID> eventIds) {
+        for (final UUID eventId : eventIds) {
+            final Long sequence = sequences.remove(eventId);
+            if (sequence != null) {
+                unpublished.remove(sequence);
+            }
+        }
+        retirePublishedSegments();
+    }
+
+    /** Number of staged events not yet acknowledged. */
+    public synchronized int size() {
+        return unpublished.size();
+    }
+
+    /** Every sequence below this is published. */
+    public synchronized long watermark() {
+        return unpublished.isEmpty() ? nextSequence : unpublished.firstKey();
+    }
+
+    /** Number of segment files holding unpublished events, the active one included. */
+    public synchronized int segmentCount() {
+        return segments.size();
+    }
+
+    /** Number of {@code force}s issued by adds; with group commit, fewer than the adds. */
+    public long forces() {
+        synchronized (forceLock) {
+            return forces;
+        }
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        active().buffer.force();
+        persistWatermark(watermark());
+        for (final Segment segment : segments) {
+            segment.channel.close();
+        }
+        markChannel.close();
+    }
+
+    // ---- write path --------------------------------------------------------------------------
+
+    /** Writes one record per event; returns the sequence after the last one. */
+    private synchronized long write(List<? extends IEvent> events, byte[][] payloads)
+            throws IOException {
+        for (int i = 0; i < payloads.length; i++) {
+            final int length = HEADER + payloads[i].length;
+            Segment active = active();
+            if (active.size + length > segmentBytes) {
+                active.buffer.force(); // group commit only ever forces the active segment
+                active = newSegment(nextSequence);
+            }
+            final ByteBuffer record = ByteBuffer.allocate(length);
+            record.putInt(length).putInt(0).putLong(nextSequence).put(payloads[i]);
+            record.putInt(CRC, crc(record));
+            active.buffer.put(active.size, record.array());
+
+            final UUID eventId = events.get(i).getEventId();
+            final Long superseded = sequences.put(eventId, nextSequence);
+            if (superseded != null) {
+                unpublished.remove(superseded);
+            }
+            unpublished.put(nextSequence, new Location(active, active.size, length));
+            active.size += length;
+            nextSequence++;
+        }
+        return nextSequence;
+    }
+
+    /** Blocks until every record before {@code end} is on disk. */
+    private void awaitDurable(long end) {
+        if (durable >= end) {
+            return;
+        }
+        synchronized (forceLock) {
+            if (durable >= end) {
+                return;
+            }
+            final Segment active;
+            final long covered;
+            synchronized (this) {
+                active = active();
+                covered = nextSequence;
+            }
+            // a segment rolled since our write was forced before the roll
+            active.buffer.force();
+            forces++;
+            durable = covered;
+        }
+    }
+
+    // ---- retirement --------------------------------------------------------------------------
+
+    private void retirePublishedSegments() {
+        final long watermark = watermark();
+        if (segments.size() < 2 || segments.get(1).firstSequence > watermark) {
+            return;
+        }
+        persistWatermark(watermark);
+        try {
+            while (segments.size() > 1 && segments.get(1).firstSequence <= watermark) {
+                retire(segments.remove(0));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void retire(Segment segment) throws IOException {
+        segment.channel.close();
+        Files.move(segment.file, dir.resolve(SPARE), StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    private void persistWatermark(long watermark) {
+        if (watermark > persistedWatermark) {
+            mark.putLong(0, watermark);
+            mark.force();
+            persistedWatermark = watermark;
+        }
+    }
+
+    // ---- recovery ----------------------------------------------------------------------------
+
+    private void load() throws IOException {
+        persistedWatermark = mark.getLong(0);
+        final List<Path> files;
+        try (Stream<Path> list = Files.list(dir)) {
+            files = list.filter(p -> p.getFileName().toString().endsWith(SUFFIX)).sorted().toList();
+        }
+        long expected = -1;
+        for (int i = 0; i < files.size(); i++) {
+            final Path file = files.get(i);
+            final long first = firstSequenceOf(file);
+            final boolean published =
+                    i + 1 < files.size() && firstSequenceOf(files.get(i + 1)) <= persistedWatermark;
+            if (published) {
+                Files.move(file, dir.resolve(SPARE), StandardCopyOption.REPLACE_EXISTING);
+                continue;
+            }
+            if (expected >= 0 && first != expected) {
+                throw new IOException(
+                        file + " starts at sequence " + first + ", expected " + expected);
+            }
+            final Segment segment = map(first, file);
+            segments.add(segment);
+            expected = scan(segment, first);
+        }
+        if (segments.isEmpty()) {
+            nextSequence = Math.max(persistedWatermark, 0);
+            newSegment(nextSequence);
+        } else {
+            nextSequence = expected;
+        }
+        durable = nextSequence;
+    }
+
+    /** Indexes the intact records of {@code segment}; returns the sequence after the last one. */
+    private long scan(Segment segment, long first) {
+        long expected = first;
+        int offset = 0;
+        while (HEADER <= segmentBytes - offset) {
+            final int length = segment.buffer.getInt(offset);
+            if (length < HEADER || length > segmentBytes - offset) {
+                break;
+            }
+            final ByteBuffer record = segment.buffer.slice(offset, length);
+            if (record.getLong(SEQUENCE) != expected || crc(record) != record.getInt(CRC)) {
+                break;
+            }
+            if (expected >= persistedWatermark) {
+                final Location location = new Location(segment, offset, length);
+                final Long superseded = sequences.put(decode(location).getEventId(), expected);
+                if (superseded != null) {
+                    unpublished.remove(superseded);
+                }
+                unpublished.put(expected, location);
+            }
+            offset += length;
+            expected++;
+        }
+        segment.size = offset;
+        return expected;
+    }
+
+    // ---- helpers -----------------------------------------------------------------------------
+
+    private Segment active() {
+        return segments.get(segments.size() - 1);
+    }
+
+    private Segment newSegment(long firstSequence) throws IOException {
+        final Path file = dir.resolve(String.format("%020d%s", firstSequence, SUFFIX));
+        final Path spare = dir.resolve(SPARE);
+        if (Files.exists(spare)) {
+            Files.move(spare, file); // its stale records all precede firstSequence
+        }
+        final Segment segment = map(firstSequence, file);
+        segments.add(segment);
+        return segment;
+    }
+
+    private Segment map(long firstSequence, Path file) throws IOException {
+        final FileChannel channel =
+                FileChannel.open(
+                        file,
+                        StandardOpenOption.CREATE,
+                        StandardOpenOption.READ,
+                        StandardOpenOption.WRITE);
+        return new Segment(
+                firstSequence,
+                file,
+                channel,
+                channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentBytes));
+    }
+
+    private IEvent decode(Location location) {
+        return codec.decode(
+                location.segment()
+                        .buffer
+                        .slice(location.offset() + HEADER, location.length() - HEADER));
+    }
+
+    private static long firstSequenceOf(Path file) {
+        final String name = file.getFileName().toString();
+        return Long.parseLong(name.substring(0, name.length() - SUFFIX.length()));
+    }
+
+    private static int crc(ByteBuffer record) {
+        final CRC32 crc = new CRC32();
+        crc.update(record.slice(SEQUENCE, record.limit() - SEQUENCE));
+        return (int) crc.getValue();
+    }
+}
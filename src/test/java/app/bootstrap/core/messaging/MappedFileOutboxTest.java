@@ -0,0 +1,265 @@
+/*
+ * App Bootstrap Core
+ * Copyright (C) 2026
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package app.bootstrap.core.messaging;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import jakarta.annotation.Nonnull;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class MappedFileOutboxTest {
+
+    record Staged(UUID getEventId, Instant getTimestamp, long n) implements IEvent {
+        Staged(long n) {
+            this(UUID.randomUUID(), Instant.now(), n);
+        }
+    }
+
+    /** eventId, timestamp, n. */
+    static final class StagedCodec implements EventCodec<IEvent> {
+        @Nonnull
+        @Override
+        public byte[] encode(@Nonnull IEvent event) {
+            final Staged staged = (Staged) event;
+            return ByteBuffer.allocate(36)
+                    .putLong(staged.getEventId().getMostSignificantBits())
+                    .putLong(staged.getEventId().getLeastSignificantBits())
+                    .putLong(staged.getTimestamp().getEpochSecond())
+                    .putInt(staged.getTimestamp().getNano())
+                    .putLong(staged.n())
+                    .array();
+        }
+
+        @Nonnull
+        @Override
+        public IEvent decode(@Nonnull ByteBuffer bytes) {
+            return new Staged(
+                    new UUID(bytes.getLong(), bytes.getLong()),
+                    Instant.ofEpochSecond(bytes.getLong(), bytes.getInt()),
+                    bytes.getLong());
+        }
+    }
+
+    /** 16-byte header + 36-byte payload. */
+    private static final int RECORD = 52;
+
+    @TempDir Path dir;
+
+    private final StagedCodec codec = new StagedCodec();
+
+    private static List<Staged> staged(int from, int to) {
+        final List<Staged> events = new ArrayList<>();
+        for (int n = from; n < to; n++) {
+            events.add(new Staged(n));
+        }
+        return events;
+    }
+
+    private static List<Long> numbers(List<IEvent> events) {
+        return events.stream().map(e -> ((Staged) e).n()).toList();
+    }
+
+    private static List<UUID> idsOf(List<? extends IEvent> events) {
+        return events.stream().map(IEvent::getEventId).map(UUID.class::cast).toList();
+    }
+
+    @Test
+    void shouldStageFetchAndAcknowledgeOldestFirst() throws Exception {
+        try (MappedFileOutbox outbox = MappedFileOutbox.open(dir, codec)) {
+            // Arrange
+            final List<Staged> events = staged(0, 5);
+            outbox.add(events);
+
+            // Act
+            final List<IEvent> fetched = outbox.fetchUnpublished(3);
+            outbox.markPublished(idsOf(events.subList(1, 2)));
+
+            // Assert
+            assertEquals(List.of(0L, 1L, 2L), numbers(fetched));
+            assertEquals(events.get(0), fetched.get(0));
+            assertEquals(List.of(0L, 2L, 3L, 4L), numbers(outbox.fetchUnpublished(10)));
+            assertEquals(0, outbox.watermark(), "an acknowledgement out of order keeps it");
+            outbox.markPublished(idsOf(events.subList(0, 1)));
+            assertEquals(2, outbox.watermark());
+            assertEquals(3, outbox.size());
+        }
+    }
+
+    @Test
+    void shouldRecoverUnpublishedEventsAfterReopen() throws Exception {
+        // Arrange
+        final List<Staged> events = staged(0, 10);
+        try (MappedFileOutbox outbox = MappedFileOutbox.open(dir, codec, 4 * RECORD, true)) {
+            outbox.add(events);
+            outbox.markPublished(idsOf(events.subList(0, 6)));
+        }
+
+        // Act
+        try (MappedFileOutbox reopened = MappedFileOutbox.open(dir, codec, 4 * RECORD, true)) {
+
+            // Assert
+            assertEquals(List.of(6L, 7L, 8L, 9L), numbers(reopened.fetchUnpublished(10)));
+            assertEquals(6, reopened.watermark());
+            reopened.add(staged(10, 11));
+            assertEquals(5, reopened.size());
+        }
+    }
+
+    @Test
+    void shouldRecycleSegmentsOnceFullyPublished() throws Exception {
+        try (MappedFileOutbox outbox = MappedFileOutbox.open(dir, codec, 4 * RECORD, false)) {
+            // Arrange — three segments of four records each
+            final List<Staged> events = staged(0, 12);
+            outbox.add(events);
+            assertEquals(3, outbox.segmentCount());
+
+            // Act
+            outbox.markPublished(idsOf(events.subList(0, 8)));
+
+            // Assert — the first two are retired, one file is kept as a spare for the next roll
+            assertEquals(1, outbox.segmentCount());
+            assertEquals(1, segmentFiles());
+            assertTrue(Files.exists(dir.resolve("spare.free")));
+            outbox.add(staged(12, 13));
+            assertEquals(2, segmentFiles());
+            assertFalse(
+                    Files.exists(dir.resolve("spare.free")), "the spare became the new segment");
+            assertEquals(List.of(8L, 9L, 10L, 11L, 12L), numbers(outbox.fetchUnpublished(10)));
+        }
+
+        // the recycled file's stale records are not taken for new ones
+        try (MappedFileOutbox reopened = MappedFileOutbox.open(dir, codec, 4 * RECORD, false)) {
+            assertEquals(List.of(8L, 9L, 10L, 11L, 12L), numbers(reopened.fetchUnpublished(10)));
+        }
+    }
+
+    @Test
+    void shouldIgnoreATornRecordAtTheTail() throws Exception {
+        // Arrange
+        try (MappedFileOutbox outbox = MappedFileOutbox.open(dir, codec)) {
+            outbox.add(staged(0, 3));
+        }
+        final Path segment;
+        try (Stream<Path> files = Files.list(dir)) {
+            segment = files.filter(p -> p.toString().endsWith(".seg")).findFirst().orElseThrow();
+        }
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[] {1, 2, 3}), 2L * RECORD + 20);
+        }
+
+        // Act
+        try (MappedFileOutbox reopened = MappedFileOutbox.open(dir, codec)) {
+
+            // Assert — the third record fails its checksum and the log resumes in its place
+            assertEquals(List.of(0L, 1L), numbers(reopened.fetchUnpublished(10)));
+            reopened.add(staged(3, 4));
+            assertEquals(List.of(0L, 1L, 3L), numbers(reopened.fetchUnpublished(10)));
+        }
+    }
+
+    @Test
+    void shouldIgnoreARecordLengthThatRunsPastTheSegment() throws Exception {
+        // Arrange
+        try (MappedFileOutbox outbox = MappedFileOutbox.open(dir, codec)) {
+            outbox.add(staged(0, 3));
+        }
+        final Path segment;
+        try (Stream<Path> files = Files.list(dir)) {
+            segment = files.filter(p -> p.toString().endsWith(".seg")).findFirst().orElseThrow();
+        }
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+            channel.write(
+                    ByteBuffer.allocate(Integer.BYTES).putInt(0, Integer.MAX_VALUE), 2L * RECORD);
+        }
+
+        // Act
+        try (MappedFileOutbox reopened = MappedFileOutbox.open(dir, codec)) {
+
+            // Assert — offset + length would overflow; the record is treated as the torn tail
+            assertEquals(List.of(0L, 1L), numbers(reopened.fetchUnpublished(10)));
+        }
+    }
+
+    @Test
+    void shouldShareForcesAcrossConcurrentAdds() throws Exception {
+        try (MappedFileOutbox outbox = MappedFileOutbox.open(dir, codec)) {
+            // Arrange
+            final int writers = 8;
+            final int addsPerWriter = 50;
+            final CountDownLatch start = new CountDownLatch(1);
+            final ExecutorService pool = Executors.newFixedThreadPool(writers);
+            try {
+                final List<Future<?>> done = new ArrayList<>();
+                for (int w = 0; w < writers; w++) {
+                    done.add(
+                            pool.submit(
+                                    () -> {
+                                        start.await();
+                                        for (int i = 0; i < addsPerWriter; i++) {
+                                            outbox.add(staged(i, i + 1));
+                                        }
+                                        return null;
+                                    }));
+                }
+
+                // Act
+                start.countDown();
+                for (Future<?> f : done) {
+                    f.get();
+                }
+            } finally {
+                pool.shutdown();
+            }
+
+            // Assert
+            assertEquals(writers * addsPerWriter, outbox.size());
+            assertTrue(outbox.forces() <= writers * addsPerWriter);
+            assertTrue(outbox.forces() > 0);
+        }
+    }
+
+    @Test
+    void shouldRejectAnEventLargerThanASegment() throws Exception {
+        try (MappedFileOutbox outbox = MappedFileOutbox.open(dir, codec, RECORD - 1, false)) {
+            assertThrows(IllegalArgumentException.class, () -> outbox.add(staged(0, 1)));
+        }
+    }
+
+    private long segmentFiles() throws Exception {
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.filter(p -> p.toString().endsWith(".seg")).count();
+        }
+    }
+}
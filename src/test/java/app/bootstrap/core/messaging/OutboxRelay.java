@@ -0,0 +1,417 @@
+/*
+ * App Bootstrap Core
+ * Copyright (C) 2026
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package app.bootstrap.core.messaging;
+
+import app.bootstrap.core.messaging.IClaimableOutbox.Claim;
+import jakarta.annotation.Nonnull;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Reference relay that drains an {@link IOutbox} into a {@link Publisher} with several workers.
+ *
+ * <p><strong>Leases.</strong> Every worker fetches the oldest unpublished events and leases the
+ * ones no other worker holds. A lease is an entry in a shared table, from event id to expiry, and
+ * is set atomically per id, so two workers never publish the same event at the same time. Once the
+ * {@link IOutbox#markPublished acknowledgement} succeeds, the lease is cut down to a short grace
+ * period, so a worker whose fetch raced the acknowledgement still cannot take the event again, and
+ * the table only holds events in flight. A lease left by a failed publish is released at once; one
+ * left by a stuck worker expires. That table only coordinates the workers of this relay. When the
+ * outbox is an {@link IClaimableOutbox}, workers {@linkplain IClaimableOutbox#claim claim} their
+ * batches from it instead. Those leases are atomic in the outbox, so any number of relays, in any
+ * number of processes, can drain it together.
+ *
+ * <p><strong>Adaptive batches.</strong> Each worker sizes its next batch from its last one. A full
+ * batch published within {@link Settings#targetLatency} means there is a backlog and room, so the
+ * size doubles. A publish slower than the target halves it. Sizes stay between {@link
+ * Settings#minBatch} and {@link Settings#maxBatch}.
+ *
+ * <p><strong>Idling.</strong> A worker that finds nothing to claim waits, starting at {@link
+ * Settings#minIdle} and doubling up to {@link Settings#maxIdle}. {@link #wake()} ends every wait at
+ * once. The outbox returned by {@link #signalling()} calls it after each {@code add}, so new work
+ * is relayed without waiting for a poll.
+ *
+ * <p>With more than one worker, batches are published concurrently and events of different batches
+ * can overtake each other. Use one worker where consumers need the outbox order. Delivery is at
+ * least once: an event whose acknowledgement fails is published again. A worker whose fetch or
+ * claim throws counts a failure and waits as if idle before trying again.
+ */
+public final class OutboxRelay implements AutoCloseable {
+
+    /** Where relayed events go: a broker client, or {@code bus::publishAll}. */
+    @FunctionalInterface
+    public interface Publisher {
+        void publish(@Nonnull List<? extends IEvent> events) throws Exception;
+    }
+
+    /** Tuning of a relay. */
+    public record Settings(
+            int workers,
+            int minBatch,
+            int maxBatch,
+            @Nonnull Duration lease,
+            @Nonnull Duration targetLatency,
+            @Nonnull Duration minIdle,
+            @Nonnull Duration maxIdle) {
+
+        public static final Settings DEFAULTS =
+                new Settings(
+                        2,
+                        8,
+                        512,
+                        Duration.ofSeconds(30),
+                        Duration.ofMillis(50),
+                        Duration.ofMillis(1),
+                        Duration.ofSeconds(1));
+
+        public Settings {
+            if (workers < 1 || minBatch < 1 || maxBatch < minBatch) {
+                throw new IllegalArgumentException(
+                        "need workers >= 1 and 1 <= minBatch <= maxBatch");
+            }
+            if (minIdle.isZero() || minIdle.isNegative() || maxIdle.compareTo(minIdle) < 0) {
+                throw new IllegalArgumentException("need 0 < minIdle <= maxIdle");
+            }
+        }
+
+        @Nonnull
+        public Settings withWorkers(int workers) {
+            return new Settings(
+                    workers, minBatch, maxBatch, lease, targetLatency, minIdle, maxIdle);
+        }
+    }
+
+    /** How long an acknowledged event stays leased, to cover fetches that raced the ack. */
+    static final Duration ACK_GRACE = Duration.ofSeconds(1);
+
+    private final IOutbox outbox;
+    private final Publisher publisher;
+    private final Settings settings;
+
+    private record Lease(UUID eventId, long until) {}
+
+    private final Map<UUID, Long> leases = new ConcurrentHashMap<>();
+    private final Queue<Lease> expiries = new ConcurrentLinkedQueue<>();
+    private final Queue<Lease> graces = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicLong published = new AtomicLong();
+    private final AtomicLong failures = new AtomicLong();
+    private final Object signal = new Object();
+    private final Worker[] workers;
+    private long wakeups;
+    private volatile boolean running = true;
+
+    private OutboxRelay(IOutbox outbox, Publisher publisher, Settings settings) {
+        this.outbox = outbox;
+        this.publisher = publisher;
+        this.settings = settings;
+        this.workers = new Worker[settings.workers()];
+        final Thread.Builder threads = Thread.ofVirtual().name("outbox-relay-", 0);
+        for (int i = 0; i < workers.length; i++) {
+            workers[i] = new Worker(threads);
+        }
+    }
+
+    /** Starts relaying {@code outbox} to {@code publisher}. */
+    @Nonnull
+    public static OutboxRelay start(
+            @Nonnull IOutbox outbox, @Nonnull Publisher publisher, @Nonnull Settings settings) {
+        final OutboxRelay relay = new OutboxRelay(outbox, publisher, settings);
+        for (final Worker worker : relay.workers) {
+            worker.thread.start();
+        }
+        return relay;
+    }
+
+    /**
+     * The size of the next batch after one that {@code claimed} events, was {@code limit} big and
+     * published in {@code latency}.
+     */
+    static int nextBatchSize(int limit, int claimed, Duration latency, Settings settings) {
+        if (latency.compareTo(settings.targetLatency()) > 0) {
+            return Math.max(settings.minBatch(), limit / 2);
+        }
+        if (claimed == limit) {
+            return Math.min(settings.maxBatch(), limit * 2);
+        }
+        return limit;
+    }
+
+    /** Ends every worker's idle wait, so work staged just now is relayed at once. */
+    public void wake() {
+        synchronized (signal) {
+            wakeups++;
+            signal.notifyAll();
+        }
+    }
+
+    /**
+     * The relay's outbox, waking the relay after every {@code add}; claimable when the relay's
+     * outbox is.
+     */
+    @Nonnull
+    public IOutbox signalling() {
+        return outbox instanceof IClaimableOutbox claimable
+                ? new ClaimableSignalling(claimable)
+                : new Signalling(outbox);
+    }
+
+    /** Events published and acknowledged. */
+    public long published() {
+        return published.get();
+    }
+
+    /** Fetches and claims that threw, plus batches whose publish or acknowledgement threw. */
+    public long failures() {
+        return failures.get();
+    }
+
+    /** Events leased in this relay's own table; none when the outbox is claimable. */
+    public int leased() {
+        return leases.size();
+    }
+
+    /** The size each worker will use for its next batch. */
+    @Nonnull
+    public int[] batchSizes() {
+        final int[] sizes = new int[workers.length];
+        for (int i = 0; i < workers.length; i++) {
+            sizes[i] = workers[i].limit;
+        }
+        return sizes;
+    }
+
+    /** Stops the workers after their current batch. */
+    @Override
+    public void close() throws InterruptedException {
+        running = false;
+        wake();
+        for (final Worker worker : workers) {
+            worker.thread.join(TimeUnit.SECONDS.toMillis(5));
+        }
+    }
+
+    private final class Worker implements Runnable {
+        final Thread thread;
+        volatile int limit = settings.minBatch();
+        private Duration idle = settings.minIdle();
+        private long leasedUntil;
+
+        Worker(Thread.Builder threads) {
+            this.thread = threads.unstarted(this);
+        }
+
+        @Override
+        public void run() {
+            while (running) {
+                final long seen;
+                synchronized (signal) {
+                    seen = wakeups;
+                }
+                final Claim claim;
+                try {
+                    claim = claim();
+                } catch (RuntimeException e) {
+                    failures.incrementAndGet();
+                    limit = settings.minBatch();
+                    await(currentWakeups());
+                    continue;
+                }
+                if (claim.isEmpty()) {
+                    await(seen);
+                    continue;
+                }
+                idle = settings.minIdle();
+                relay(claim);
+            }
+        }
+
+        private Claim claim() {
+            if (outbox instanceof IClaimableOutbox claimable) {
+                return claimable.claim(limit, settings.lease());
+            }
+            final long now = System.nanoTime();
+            final long expiry = now + settings.lease().toNanos();
+            expire(expiries, now);
+            expire(graces, now);
+            final List<IEvent> batch = new ArrayList<>(limit);
+            for (final IEvent event : outbox.fetchUnpublished(limit + inFlight.get())) {
+                if (batch.size() == limit) {
+                    break;
+                }
+                if (leases.putIfAbsent(event.getEventId(), expiry) == null) {
+                    expiries.add(new Lease(event.getEventId(), expiry));
+                    batch.add(event);
+                }
+            }
+            inFlight.addAndGet(batch.size());
+            leasedUntil = expiry;
+            return new Claim(UUID.randomUUID(), batch, Instant.now().plus(settings.lease()));
+        }
+
+        /** Drops the leases of {@code queue} that expired by {@code now}; it is in expiry order. */
+        private void expire(Queue<Lease> queue, long now) {
+            Lease head = queue.peek();
+            while (head != null && head.until() - now < 0) {
+                if (queue.remove(head)) {
+                    leases.remove(head.eventId(), head.until());
+                }
+                head = queue.peek();
+            }
+        }
+
+        /** Cuts the leases of an acknowledged batch down to {@link #ACK_GRACE}. */
+        private void settle(List<UUID> ids) {
+            final long grace = Math.min(ACK_GRACE.toNanos(), settings.lease().toNanos());
+            final long until = System.nanoTime() + grace;
+            for (final UUID id : ids) {
+                if (leases.replace(id, leasedUntil, until)) {
+                    graces.add(new Lease(id, until));
+                }
+            }
+            forget(ids);
+        }
+
+        /** Takes the batch's leases off the expiry queue in one pass. */
+        private void forget(List<UUID> ids) {
+            final Set<Lease> held = new HashSet<>();
+            for (final UUID id : ids) {
+                held.add(new Lease(id, leasedUntil));
+            }
+            expiries.removeAll(held);
+        }
+
+        private void relay(Claim claim) {
+            final List<UUID> ids = claim.eventIds();
+            final long started = System.nanoTime();
+            try {
+                publisher.publish(claim.events());
+                outbox.markPublished(ids);
+                published.addAndGet(ids.size());
+                if (!(outbox instanceof IClaimableOutbox)) {
+                    settle(ids);
+                }
+            } catch (Exception e) {
+                failures.incrementAndGet();
+                release(claim);
+                limit = settings.minBatch();
+                await(currentWakeups());
+                return;
+            } finally {
+                if (!(outbox instanceof IClaimableOutbox)) {
+                    inFlight.addAndGet(-ids.size());
+                }
+            }
+            limit =
+                    nextBatchSize(
+                            limit,
+                            ids.size(),
+                            Duration.ofNanos(System.nanoTime() - started),
+                            settings);
+        }
+
+        private void release(Claim claim) {
+            if (outbox instanceof IClaimableOutbox claimable) {
+                claimable.release(claim);
+            } else {
+                claim.eventIds().forEach(id -> leases.remove(id, leasedUntil));
+                forget(claim.eventIds());
+            }
+        }
+
+        private void await(long seen) {
+            synchronized (signal) {
+                if (running && wakeups == seen) {
+                    try {
+                        TimeUnit.NANOSECONDS.timedWait(signal, idle.toNanos());
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        running = false;
+                    }
+                }
+            }
+            final Duration doubled = idle.multipliedBy(2);
+            idle = doubled.compareTo(settings.maxIdle()) > 0 ? settings.maxIdle() : doubled;
+        }
+
+        private long currentWakeups() {
+            synchronized (signal) {
+                return wakeups;
+            }
+        }
+    }
+
+    private class Signalling implements IOutbox {
+        private final IOutbox delegate;
+
+        Signalling(IOutbox delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void add(@Nonnull List<? extends IEvent> events) {
+            delegate.add(events);
+            wake();
+        }
+
+        @Nonnull
+        @Override
+        public List<IEvent> fetchUnpublished(int limit) {
+            return delegate.fetchUnpublished(limit);
+        }
+
+        @Override
+        public void markPublished(@Nonnull List<UUID> eventIds) {
+            delegate.markPublished(eventIds);
+        }
+    }
+
+    private final class ClaimableSignalling extends Signalling implements IClaimableOutbox {
+        private final IClaimableOutbox delegate;
+
+        ClaimableSignalling(IClaimableOutbox delegate) {
+            super(delegate);
+            this.delegate = delegate;
+        }
+
+        @Nonnull
+        @Override
+        public Claim claim(int limit, @Nonnull Duration lease) {
+            return delegate.claim(limit, lease);
+        }
+
+        @Override
+        public void release(@Nonnull Claim claim) {
+            delegate.release(claim);
+        }
+    }
+}
@@ -0,0 +1,343 @@
+/*
+ * App Bootstrap Core
+ * Copyright (C) 2026
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package app.bootstrap.core.messaging;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class OutboxRelayTest {
+
+    record Staged(UUID getEventId, Instant getTimestamp) implements IEvent {
+        Staged() {
+            this(UUID.randomUUID(), Instant.now());
+        }
+    }
+
+    private static final Duration WAIT = Duration.ofSeconds(5);
+
+    private static final OutboxRelay.Settings FAST =
+            new OutboxRelay.Settings(
+                    1,
+                    4,
+                    256,
+                    Duration.ofSeconds(30),
+                    Duration.ofMillis(50),
+                    Duration.ofMillis(1),
+                    Duration.ofMillis(20));
+
+    private final InMemoryOutbox outbox = new InMemoryOutbox();
+    private OutboxRelay relay;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (relay != null) {
+            relay.close();
+        }
+    }
+
+    @Test
+    void shouldPublishEveryEventOnceAcrossWorkersLeasingInProcess() throws Exception {
+        // Arrange
+        final List<IEvent> staged = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            staged.add(new Staged());
+        }
+        outbox.add(staged);
+        final Map<UUID, AtomicInteger> publishCounts = new ConcurrentHashMap<>();
+
+        // Act
+        relay =
+                OutboxRelay.start(
+                        plain(outbox),
+                        events ->
+                                events.forEach(
+                                        e ->
+                                                publishCounts
+                                                        .computeIfAbsent(
+                                                                e.getEventId(),
+                                                                id -> new AtomicInteger())
+                                                        .incrementAndGet()),
+                        FAST.withWorkers(4));
+
+        // Assert
+        assertTrue(waitFor(() -> relay.published() == 2_000));
+        assertEquals(0, outbox.size());
+        assertEquals(2_000, publishCounts.size());
+        assertTrue(publishCounts.values().stream().allMatch(count -> count.get() == 1));
+    }
+
+    @Test
+    void shouldLetIndependentRelaysShareAClaimableOutbox() throws Exception {
+        // Arrange
+        final List<IEvent> staged = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            staged.add(new Staged());
+        }
+        outbox.add(staged);
+        final Map<UUID, AtomicInteger> publishCounts = new ConcurrentHashMap<>();
+        final OutboxRelay.Publisher counting =
+                events ->
+                        events.forEach(
+                                e ->
+                                        publishCounts
+                                                .computeIfAbsent(
+                                                        e.getEventId(), id -> new AtomicInteger())
+                                                .incrementAndGet());
+
+        // Act — no state shared between the relays but the outbox
+        relay = OutboxRelay.start(outbox, counting, FAST.withWorkers(2));
+        try (OutboxRelay other = OutboxRelay.start(outbox, counting, FAST.withWorkers(2))) {
+
+            // Assert
+            assertTrue(waitFor(() -> relay.published() + other.published() == 2_000));
+        }
+        assertEquals(0, outbox.size());
+        assertEquals(2_000, publishCounts.size());
+        assertTrue(publishCounts.values().stream().allMatch(count -> count.get() == 1));
+    }
+
+    @Test
+    void shouldRelayAtOnceWhenTheSignallingOutboxIsAddedTo() throws Exception {
+        // Arrange — the idle wait is far longer than the test
+        final CountDownLatch relayed = new CountDownLatch(1);
+        final OutboxRelay.Settings sleepy =
+                new OutboxRelay.Settings(
+                        1,
+                        4,
+                        16,
+                        Duration.ofSeconds(30),
+                        Duration.ofMillis(50),
+                        Duration.ofMinutes(1),
+                        Duration.ofMinutes(1));
+        relay = OutboxRelay.start(outbox, events -> relayed.countDown(), sleepy);
+        Thread.sleep(50);
+
+        // Act
+        relay.signalling().add(List.of(new Staged()));
+
+        // Assert
+        assertTrue(relayed.await(2, TimeUnit.SECONDS));
+        assertInstanceOf(IClaimableOutbox.class, relay.signalling());
+    }
+
+    @Test
+    void shouldBackOffExponentiallyWhileIdle() throws Exception {
+        // Arrange
+        final AtomicInteger polls = new AtomicInteger();
+        final IOutbox counting =
+                new IOutbox() {
+                    @Override
+                    public void add(List<? extends IEvent> events) {
+                        outbox.add(events);
+                    }
+
+                    @Override
+                    public List<IEvent> fetchUnpublished(int limit) {
+                        polls.incrementAndGet();
+                        return outbox.fetchUnpublished(limit);
+                    }
+
+                    @Override
+                    public void markPublished(List<UUID> eventIds) {
+                        outbox.markPublished(eventIds);
+                    }
+                };
+        final OutboxRelay.Settings backoff =
+                new OutboxRelay.Settings(
+                        1,
+                        4,
+                        16,
+                        Duration.ofSeconds(30),
+                        Duration.ofMillis(50),
+                        Duration.ofMillis(10),
+                        Duration.ofMillis(80));
+
+        // Act
+        relay = OutboxRelay.start(counting, events -> {}, backoff);
+        Thread.sleep(400);
+
+        // Assert — waits of 10, 20, 40, 80, 80, ... ms: a fixed 10 ms poll would be about 40
+        assertTrue(polls.get() >= 3, "polls: " + polls.get());
+        assertTrue(polls.get() <= 12, "polls: " + polls.get());
+    }
+
+    @Test
+    void shouldSizeBatchesFromBacklogAndLatency() {
+        // Act & Assert
+        assertEquals(8, OutboxRelay.nextBatchSize(4, 4, Duration.ofMillis(1), FAST));
+        assertEquals(256, OutboxRelay.nextBatchSize(256, 256, Duration.ofMillis(1), FAST));
+        assertEquals(64, OutboxRelay.nextBatchSize(64, 10, Duration.ofMillis(1), FAST));
+        assertEquals(32, OutboxRelay.nextBatchSize(64, 64, Duration.ofMillis(80), FAST));
+        assertEquals(4, OutboxRelay.nextBatchSize(4, 4, Duration.ofMillis(80), FAST));
+    }
+
+    @Test
+    void shouldGrowTheBatchWhileABacklogDrainsQuickly() throws Exception {
+        // Arrange
+        final List<IEvent> staged = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            staged.add(new Staged());
+        }
+        outbox.add(staged);
+        final List<Integer> batchSizes = new ArrayList<>();
+
+        // Act
+        relay = OutboxRelay.start(outbox, events -> batchSizes.add(events.size()), FAST);
+
+        // Assert
+        assertTrue(waitFor(() -> outbox.size() == 0));
+        relay.close();
+        assertEquals(List.of(4, 8, 16, 32, 64, 128, 256), batchSizes.subList(0, 7));
+    }
+
+    @Test
+    void shouldRetryAFailedBatchAfterReleasingItsLeases() throws Exception {
+        // Arrange
+        final Staged event = new Staged();
+        outbox.add(List.of(event));
+        final AtomicInteger attempts = new AtomicInteger();
+
+        // Act
+        relay =
+                OutboxRelay.start(
+                        outbox,
+                        events -> {
+                            if (attempts.incrementAndGet() == 1) {
+                                throw new IllegalStateException("broker unavailable");
+                            }
+                        },
+                        FAST.withWorkers(2));
+
+        // Assert
+        assertTrue(waitFor(() -> relay.published() == 1));
+        assertEquals(2, attempts.get());
+        assertEquals(1, relay.failures());
+        assertEquals(0, outbox.size());
+        assertThrows(IllegalArgumentException.class, () -> FAST.withWorkers(0));
+    }
+
+    @Test
+    void shouldDropTheLeasesOfAcknowledgedEventsAfterAShortGrace() throws Exception {
+        // Arrange
+        final List<IEvent> staged = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            staged.add(new Staged());
+        }
+        outbox.add(staged);
+        final OutboxRelay.Settings longLeases =
+                new OutboxRelay.Settings(
+                        2,
+                        4,
+                        256,
+                        Duration.ofHours(1),
+                        Duration.ofMillis(50),
+                        Duration.ofMillis(1),
+                        Duration.ofMillis(20));
+
+        // Act
+        relay = OutboxRelay.start(plain(outbox), events -> {}, longLeases);
+
+        // Assert — the table empties long before the hour-long lease would expire
+        assertTrue(waitFor(() -> relay.published() == 100));
+        assertTrue(waitFor(() -> relay.leased() == 0));
+        assertEquals(0, outbox.size());
+    }
+
+    @Test
+    void shouldKeepRelayingAfterAFetchThrows() throws Exception {
+        // Arrange
+        outbox.add(List.of(new Staged(), new Staged()));
+        final AtomicInteger fetches = new AtomicInteger();
+        final IOutbox flaky =
+                new IOutbox() {
+                    @Override
+                    public void add(List<? extends IEvent> events) {
+                        outbox.add(events);
+                    }
+
+                    @Override
+                    public List<IEvent> fetchUnpublished(int limit) {
+                        if (fetches.incrementAndGet() == 1) {
+                            throw new UncheckedIOException(new IOException("disk unavailable"));
+                        }
+                        return outbox.fetchUnpublished(limit);
+                    }
+
+                    @Override
+                    public void markPublished(List<UUID> eventIds) {
+                        outbox.markPublished(eventIds);
+                    }
+                };
+
+        // Act
+        relay = OutboxRelay.start(flaky, events -> {}, FAST);
+
+        // Assert
+        assertTrue(waitFor(() -> relay.published() == 2));
+        assertEquals(1, relay.failures());
+        assertEquals(0, outbox.size());
+    }
+
+    /** {@code outbox} without its claim operations, so the relay leases in process. */
+    private static IOutbox plain(IOutbox outbox) {
+        return new IOutbox() {
+            @Override
+            public void add(List<? extends IEvent> events) {
+                outbox.add(events);
+            }
+
+            @Override
+            public List<IEvent> fetchUnpublished(int limit) {
+                return outbox.fetchUnpublished(limit);
+            }
+
+            @Override
+            public void markPublished(List<UUID> eventIds) {
+                outbox.markPublished(eventIds);
+            }
+        };
+    }
+
+    private static boolean waitFor(BooleanSupplier condition) throws InterruptedException {
+        final long deadline = System.nanoTime() + WAIT.toNanos();
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                return false;
+            }
+            Thread.sleep(5);
+        }
+        return true;
+    }
+}
@@ -0,0 +1,383 @@
+/*
+ * App Bootstrap Core
+ * Copyright (C) 2026
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package app.bootstrap.core.messaging;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Reference broadcast {@link IEventBus} over one preallocated ring, in the style of the LMAX
+ * Disruptor: the event is written once, and every subscriber reads it from the shared slot.
+ *
+ * <p><strong>Sequences.</strong> The ring has a power-of-two number of slots. {@link #publish}
+ * stores the event in slot {@code cursor + 1} and then advances the cursor; that volatile write is
+ * what makes the slot visible. Each {@link Subscriber} runs on its own thread with its own
+ * sequence, the last slot it has handled. It reads every slot up to its barrier in one batch, skips
+ * events that do not match its type, and then advances its sequence. Fan-out therefore costs no
+ * allocation or copy per subscriber, however many there are.
+ *
+ * <p><strong>Barriers.</strong> A subscriber's barrier is the cursor, or, when it was subscribed
+ * with {@link #subscribeAfter dependencies}, the lowest of their sequences too. It therefore sees
+ * an event only after those subscribers have handled it. An example is a projector that must run
+ * after the journaller.
+ *
+ * <p><strong>Back-pressure.</strong> The producer does not overwrite a slot that the slowest
+ * subscriber has not passed, so {@code publish} waits when the ring is full.
+ *
+ * <p><strong>Waiting.</strong> Producer and subscribers idle with the bus's {@link WaitStrategy}.
+ * {@link WaitStrategy#BUSY_SPIN} gives the lowest latency at the cost of one core per thread.
+ * {@link WaitStrategy#YIELD} and {@link WaitStrategy#PARK} trade latency for CPU.
+ *
+ * <p>Publishing is single-producer: one thread at a time may call {@code publish}. A subscriber
+ * added while events flow starts after the current cursor; unsubscribing waits for its thread to
+ * finish the batch in hand. Whatever a listener throws, errors included, goes to the {@link
+ * AsyncEventBus.FailureHandler} and does not stop the subscriber. A slot keeps its event reachable
+ * until it is overwritten.
+ */
+public final class RingBufferEventBus implements IEventBus, AutoCloseable {
+
+    /** How a thread idles while the sequence it waits for is not yet available. */
+    public enum WaitStrategy {
+        /** Spins on the CPU; the lowest latency, one busy core per waiting thread. */
+        BUSY_SPIN {
+            @Override
+            void idle(int attempt) {
+                Thread.onSpinWait();
+            }
+        },
+        /** Spins briefly, then yields the core to other runnable threads. */
+        YIELD {
+            @Override
+            void idle(int attempt) {
+                if (attempt < SPIN_TRIES) {
+                    Thread.onSpinWait();
+                } else {
+                    Thread.yield();
+                }
+            }
+        },
+        /** Spins, yields, then parks for {@value #PARK_NANOS} ns; the least CPU when idle. */
+        PARK {
+            @Override
+            void idle(int attempt) {
+                if (attempt < SPIN_TRIES) {
+                    Thread.onSpinWait();
+                } else if (attempt < 2 * SPIN_TRIES) {
+                    Thread.yield();
+                } else {
+                    LockSupport.parkNanos(PARK_NANOS);
+                }
+            }
+        };
+
+        static final int SPIN_TRIES = 100;
+        static final long PARK_NANOS = 50_000;
+
+        abstract void idle(int attempt);
+    }
+
+    /** One subscription: a listener, its sequence, and the subscribers it runs behind. */
+    public final class Subscriber implements Runnable {
+        @Nullable private final Class<? extends IEvent> type;
+        private final IEventListener<?> listener;
+        private final Subscriber[] dependencies;
+        private final AtomicLong sequence;
+        private final Thread thread;
+        private volatile boolean running = true;
+        @Nullable private Class<?> lastClass;
+        private boolean lastMatched;
+
+        private Subscriber(
+                @Nullable Class<? extends IEvent> type,
+                IEventListener<?> listener,
+                Subscriber[] dependencies) {
+            this.type = type;
+            this.listener = listener;
+            this.dependencies = dependencies;
+            this.sequence = new AtomicLong(cursor.get());
+            this.thread = threads.unstarted(this);
+        }
+
+        /** The last slot this subscriber has handled. */
+        public long sequence() {
+            return sequence.get();
+        }
+
+        @Override
+        public void run() {
+            try {
+                long next = sequence.get() + 1;
+                int attempt = 0;
+                while (running) {
+                    final long available = barrier();
+                    if (available < next) {
+                        waitStrategy.idle(attempt++);
+                        continue;
+                    }
+                    attempt = 0;
+                    for (; next <= available; next++) {
+                        final IEvent event = ring[(int) (next & mask)];
+                        if (matches(event.getClass())) {
+                            deliver(event);
+                        }
+                    }
+                    sequence.set(available);
+                }
+            } finally {
+                // only now may the producer reuse the slots this thread was reading
+                retire(this);
+            }
+        }
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        private void deliver(IEvent event) {
+            try {
+                ((IEventListener) listener).handleEvent(event);
+            } catch (Exception e) {
+                failures.incrementAndGet();
+                onFailure.onFailure(listener, event, e);
+            } catch (Error e) { // would end the thread with its sequence frozen
+                failures.incrementAndGet();
+                onFailure.onFailure(
+                        listener, event, new IllegalStateException("listener threw an error", e));
+            }
+        }
+
+        private long barrier() {
+            long available = cursor.get();
+            for (final Subscriber dependency : dependencies) {
+                available = Math.min(available, dependency.sequence.get());
+            }
+            return available;
+        }
+
+        private boolean matches(Class<?> eventClass) {
+            if (eventClass != lastClass) {
+                lastClass = eventClass;
+                lastMatched = type == null || type.isAssignableFrom(eventClass);
+            }
+            return lastMatched;
+        }
+    }
+
+    private final IEvent[] ring;
+    private final int mask;
+    private final WaitStrategy waitStrategy;
+    private final AsyncEventBus.FailureHandler onFailure;
+    private final AtomicLong cursor = new AtomicLong(-1);
+    private final AtomicLong failures = new AtomicLong();
+    private final Thread.Builder threads;
+    private volatile Subscriber[] subscribers = new Subscriber[0];
+    private volatile boolean closed;
+
+    private RingBufferEventBus(
+            int size, WaitStrategy waitStrategy, AsyncEventBus.FailureHandler onFailure) {
+        if (size < 1 || Integer.bitCount(size) != 1) {
+            throw new IllegalArgumentException("size must be a power of two");
+        }
+        this.ring = new IEvent[size];
+        this.mask = size - 1;
+        this.waitStrategy = waitStrategy;
+        this.onFailure = onFailure;
+        this.threads = Thread.ofPlatform().daemon().name("ring-subscriber-", 0);
+    }
+
+    /**
+     * A ring of {@code size} slots, a power of two, whose threads idle with {@code waitStrategy}.
+     */
+    @Nonnull
+    public static RingBufferEventBus create(
+            int size,
+            @Nonnull WaitStrategy waitStrategy,
+            @Nonnull AsyncEventBus.FailureHandler onFailure) {
+        return new RingBufferEventBus(size, waitStrategy, onFailure);
+    }
+
+    @Override
+    public <E extends IEvent> void subscribe(
+            @Nonnull Class<E> type, @Nonnull IEventListener<? super E> listener) {
+        add(type, listener, new Subscriber[0]);
+    }
+
+    /**
+     * Subscribes {@code listener} behind {@code dependencies}, so it sees an event only after all
+     * of them; with none, like {@link #subscribe(Class, IEventListener)}. The handle can in turn be
+     * a dependency.
+     */
+    @Nonnull
+    public <E extends IEvent> Subscriber subscribeAfter(
+            @Nonnull Class<E> type,
+            @Nonnull IEventListener<? super E> listener,
+            @Nonnull Subscriber... dependencies) {
+        return add(type, listener, dependencies.clone());
+    }
+
+    @Override
+    public <E extends IEvent> void unsubscribe(
+            @Nonnull Class<E> type, @Nonnull IEventListener<? super E> listener) {
+        remove(type, listener);
+    }
+
+    @Override
+    public void subscribeAll(@Nonnull IEventListener<? super IEvent> listener) {
+        add(null, listener, new Subscriber[0]);
+    }
+
+    @Override
+    public void unsubscribeAll(@Nonnull IEventListener<? super IEvent> listener) {
+        remove(null, listener);
+    }
+
+    /**
+     * Writes {@code event} into the next slot, waiting while the slowest subscriber is a full ring
+     * behind.
+     *
+     * @throws IllegalStateException after {@link #close()}
+     */
+    @Override
+    public void publish(@Nonnull IEvent event) {
+        if (closed) {
+            throw new IllegalStateException("bus is closed");
+        }
+        final long next = cursor.get() + 1;
+        int attempt = 0;
+        while (next - ring.length > slowest(next - 1)) {
+            waitStrategy.idle(attempt++);
+        }
+        ring[(int) (next & mask)] = event;
+        cursor.set(next);
+    }
+
+    /** The last published slot. */
+    public long cursor() {
+        return cursor.get();
+    }
+
+    /** Waits until every subscriber has reached the cursor; {@code false} on timeout. */
+    public boolean awaitIdle(@Nonnull Duration timeout) throws InterruptedException {
+        final long deadline = System.nanoTime() + timeout.toNanos();
+        final long target = cursor.get();
+        while (slowest(target) < target) {
+            if (System.nanoTime() > deadline) {
+                return false;
+            }
+            TimeUnit.MILLISECONDS.sleep(1);
+        }
+        return true;
+    }
+
+    /** Listener invocations that threw. */
+    public long failures() {
+        return failures.get();
+    }
+
+    /**
+     * Stops accepting events, waits up to a few seconds for subscribers to catch up, then stops
+     * them.
+     */
+    @Override
+    public void close() throws InterruptedException {
+        closed = true;
+        awaitIdle(Duration.ofSeconds(5));
+        final Subscriber[] current = subscribers;
+        for (final Subscriber subscriber : current) {
+            subscriber.running = false;
+        }
+        for (final Subscriber subscriber : current) {
+            subscriber.thread.join(TimeUnit.SECONDS.toMillis(5));
+        }
+    }
+
+    private long slowest(long ceiling) {
+        long min = ceiling;
+        for (final Subscriber subscriber : subscribers) {
+            min = Math.min(min, subscriber.sequence.get());
+        }
+        return min;
+    }
+
+    private synchronized Subscriber add(
+            @Nullable Class<? extends IEvent> type,
+            IEventListener<?> listener,
+            Subscriber[] dependencies) {
+        final List<Subscriber> current = Arrays.asList(subscribers);
+        for (final Subscriber dependency : dependencies) {
+            if (!current.contains(dependency) || !dependency.running) {
+                throw new IllegalArgumentException("dependency is not subscribed to this bus");
+            }
+        }
+        final Subscriber subscriber = new Subscriber(type, listener, dependencies);
+        final Subscriber[] next = Arrays.copyOf(subscribers, subscribers.length + 1);
+        next[subscribers.length] = subscriber;
+        subscribers = next;
+        // gating from the stale cursor read at construction; the producer cannot lap the start
+        // now, so move it up to the cursor and only then let the thread read
+        subscriber.sequence.set(cursor.get());
+        subscriber.thread.start();
+        return subscriber;
+    }
+
+    /**
+     * Stops the matching subscriber and waits for its thread to leave the ring. The subscriber
+     * keeps gating the producer until then, since it may still be reading slots of its last batch.
+     */
+    private void remove(@Nullable Class<? extends IEvent> type, IEventListener<?> listener) {
+        final Subscriber removed = stop(type, listener);
+        if (removed == null || removed.thread == Thread.currentThread()) {
+            return; // a listener unsubscribing itself retires once its batch is done
+        }
+        try {
+            removed.thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt(); // the thread still retires itself on exit
+        }
+    }
+
+    @Nullable private synchronized Subscriber stop(
+            @Nullable Class<? extends IEvent> type, IEventListener<?> listener) {
+        for (final Subscriber subscriber : subscribers) {
+            if (subscriber.running && subscriber.type == type && subscriber.listener == listener) {
+                for (final Subscriber other : subscribers) {
+                    if (other.running && Arrays.asList(other.dependencies).contains(subscriber)) {
+                        throw new IllegalStateException(
+                                "another subscriber runs behind this one; unsubscribe it first");
+                    }
+                }
+                subscriber.running = false;
+                return subscriber;
+            }
+        }
+        return null;
+    }
+
+    /** Drops {@code subscriber} from the gating set once its thread has stopped reading. */
+    private synchronized void retire(Subscriber subscriber) {
+        final List<Subscriber> remaining = new ArrayList<>(Arrays.asList(subscribers));
+        remaining.remove(subscriber);
+        subscribers = remaining.toArray(new Subscriber[0]);
+    }
+}
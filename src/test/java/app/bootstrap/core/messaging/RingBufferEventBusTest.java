@@ -0,0 +1,347 @@
+/*
+ * App Bootstrap Core
+ * Copyright (C) 2026
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package app.bootstrap.core.messaging;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import app.bootstrap.core.messaging.RingBufferEventBus.WaitStrategy;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class RingBufferEventBusTest {
+
+    record Numbered(UUID getEventId, Instant getTimestamp, int n) implements IEvent {
+        Numbered(int n) {
+            this(UUID.randomUUID(), Instant.now(), n);
+        }
+    }
+
+    record Other(UUID getEventId, Instant getTimestamp) implements IEvent {
+        Other() {
+            this(UUID.randomUUID(), Instant.now());
+        }
+    }
+
+    private static final Duration WAIT = Duration.ofSeconds(5);
+
+    private final List<Exception> failures = new CopyOnWriteArrayList<>();
+    private RingBufferEventBus bus =
+            RingBufferEventBus.create(
+                    64, WaitStrategy.PARK, (listener, event, e) -> failures.add(e));
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        bus.close();
+    }
+
+    @Test
+    void shouldBroadcastEveryEventToEverySubscriberInOrder() throws Exception {
+        // Arrange — more events than slots, so the ring wraps many times
+        final List<List<Integer>> received = new ArrayList<>();
+        for (int i = 0; i < 32; i++) {
+            final List<Integer> mine = new ArrayList<>();
+            received.add(mine);
+            bus.subscribe(Numbered.class, e -> mine.add(e.n()));
+        }
+
+        // Act
+        for (int n = 0; n < 1_000; n++) {
+            bus.publish(new Numbered(n));
+        }
+
+        // Assert
+        assertTrue(bus.awaitIdle(WAIT));
+        final List<Integer> expected = IntStream.range(0, 1_000).boxed().toList();
+        for (final List<Integer> mine : received) {
+            assertEquals(expected, mine);
+        }
+        assertTrue(failures.isEmpty());
+    }
+
+    @Test
+    void shouldDeliverWithEveryWaitStrategy() throws Exception {
+        for (final WaitStrategy strategy : WaitStrategy.values()) {
+            // Arrange
+            useBus(RingBufferEventBus.create(16, strategy, (l, ev, e) -> failures.add(e)));
+            final List<Integer> first = new ArrayList<>();
+            final List<Integer> second = new ArrayList<>();
+            bus.subscribe(Numbered.class, e -> first.add(e.n()));
+            bus.subscribe(Numbered.class, e -> second.add(e.n()));
+
+            // Act
+            for (int n = 0; n < 200; n++) {
+                bus.publish(new Numbered(n));
+            }
+
+            // Assert
+            assertTrue(bus.awaitIdle(WAIT), strategy.name());
+            final List<Integer> expected = IntStream.range(0, 200).boxed().toList();
+            assertEquals(expected, first, strategy.name());
+            assertEquals(expected, second, strategy.name());
+        }
+    }
+
+    @Test
+    void shouldSkipEventsOutsideTheSubscribedType() throws Exception {
+        // Arrange
+        final List<IEvent> numbered = new CopyOnWriteArrayList<>();
+        final List<IEvent> all = new CopyOnWriteArrayList<>();
+        bus.subscribe(Numbered.class, numbered::add);
+        bus.subscribeAll(all::add);
+
+        // Act
+        bus.publish(new Other());
+        bus.publish(new Numbered(1));
+
+        // Assert
+        assertTrue(bus.awaitIdle(WAIT));
+        assertEquals(1, numbered.size());
+        assertEquals(2, all.size());
+        assertEquals(1, bus.cursor());
+    }
+
+    @Test
+    void shouldRunADependentSubscriberBehindItsDependencies() throws Exception {
+        // Arrange
+        final AtomicInteger journalled = new AtomicInteger(-1);
+        final List<String> violations = new CopyOnWriteArrayList<>();
+        final RingBufferEventBus.Subscriber journal =
+                bus.subscribeAfter(
+                        Numbered.class,
+                        e -> {
+                            Thread.sleep(0, 10_000);
+                            journalled.set(e.n());
+                        });
+        bus.subscribeAfter(
+                Numbered.class,
+                e -> {
+                    if (journalled.get() < e.n()) {
+                        violations.add("projected " + e.n() + " before it was journalled");
+                    }
+                },
+                journal);
+
+        // Act
+        for (int n = 0; n < 500; n++) {
+            bus.publish(new Numbered(n));
+        }
+
+        // Assert
+        assertTrue(bus.awaitIdle(WAIT));
+        assertEquals(List.of(), violations);
+        assertEquals(499, journal.sequence());
+    }
+
+    @Test
+    void shouldMakeThePublisherWaitWhenTheRingIsFull() throws Exception {
+        // Arrange
+        useBus(RingBufferEventBus.create(4, WaitStrategy.PARK, (l, ev, e) -> failures.add(e)));
+        final CountDownLatch release = new CountDownLatch(1);
+        final List<Integer> received = new CopyOnWriteArrayList<>();
+        bus.subscribe(
+                Numbered.class,
+                e -> {
+                    release.await();
+                    received.add(e.n());
+                });
+
+        // Act — slot 0 is in progress and the ring holds four, so the fifth publish waits
+        final CompletableFuture<Void> producer =
+                CompletableFuture.runAsync(
+                        () -> {
+                            for (int n = 0; n < 5; n++) {
+                                bus.publish(new Numbered(n));
+                            }
+                        });
+
+        // Assert
+        assertThrows(TimeoutException.class, () -> producer.get(200, TimeUnit.MILLISECONDS));
+        assertEquals(3, bus.cursor());
+        release.countDown();
+        producer.get(5, TimeUnit.SECONDS);
+        assertTrue(bus.awaitIdle(WAIT));
+        assertEquals(List.of(0, 1, 2, 3, 4), received);
+    }
+
+    @Test
+    void shouldIsolateFailuresAndRejectPublishAfterClose() throws Exception {
+        // Arrange
+        final List<Integer> received = new CopyOnWriteArrayList<>();
+        bus.subscribe(
+                Numbered.class,
+                e -> {
+                    if (e.n() == 1) {
+                        throw new IllegalStateException("boom");
+                    }
+                    received.add(e.n());
+                });
+
+        // Act
+        for (int n = 0; n < 3; n++) {
+            bus.publish(new Numbered(n));
+        }
+        bus.close();
+
+        // Assert
+        assertEquals(List.of(0, 2), received);
+        assertEquals(1, bus.failures());
+        assertEquals("boom", failures.get(0).getMessage());
+        assertThrows(IllegalStateException.class, () -> bus.publish(new Numbered(3)));
+    }
+
+    @Test
+    void shouldKeepDeliveringAfterAListenerThrowsAnError() throws Exception {
+        // Arrange
+        useBus(RingBufferEventBus.create(4, WaitStrategy.PARK, (l, ev, e) -> failures.add(e)));
+        final List<Integer> received = new CopyOnWriteArrayList<>();
+        bus.subscribe(
+                Numbered.class,
+                e -> {
+                    if (e.n() == 1) {
+                        throw new AssertionError("boom");
+                    }
+                    received.add(e.n());
+                });
+
+        // Act — wraps the ring several times, which would hang on a dead subscriber
+        final CompletableFuture<Void> producer =
+                CompletableFuture.runAsync(
+                        () -> {
+                            for (int n = 0; n < 20; n++) {
+                                bus.publish(new Numbered(n));
+                            }
+                        });
+
+        // Assert
+        producer.get(5, TimeUnit.SECONDS);
+        assertTrue(bus.awaitIdle(WAIT));
+        assertEquals(19, received.size());
+        assertEquals(1, bus.failures());
+        assertInstanceOf(AssertionError.class, failures.get(0).getCause());
+    }
+
+    @Test
+    void shouldGateThePublisherUntilAnUnsubscribedThreadHasLeftTheRing() throws Exception {
+        // Arrange
+        useBus(RingBufferEventBus.create(4, WaitStrategy.PARK, (l, ev, e) -> failures.add(e)));
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final List<Integer> received = new CopyOnWriteArrayList<>();
+        final IEventListener<Numbered> slow =
+                e -> {
+                    started.countDown();
+                    release.await();
+                    received.add(e.n());
+                };
+        bus.subscribe(Numbered.class, slow);
+        for (int n = 0; n < 4; n++) {
+            bus.publish(new Numbered(n));
+        }
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        // Act — the subscriber is still inside its batch while it is removed
+        final CompletableFuture<Void> unsubscribed =
+                CompletableFuture.runAsync(() -> bus.unsubscribe(Numbered.class, slow));
+        final CompletableFuture<Void> producer =
+                CompletableFuture.runAsync(
+                        () -> {
+                            for (int n = 4; n < 8; n++) {
+                                bus.publish(new Numbered(n));
+                            }
+                        });
+
+        // Assert — nothing overwrites the slots it has yet to read
+        assertThrows(TimeoutException.class, () -> producer.get(200, TimeUnit.MILLISECONDS));
+        assertFalse(unsubscribed.isDone(), "unsubscribe waits for the thread");
+        release.countDown();
+        unsubscribed.get(5, TimeUnit.SECONDS);
+        producer.get(5, TimeUnit.SECONDS);
+        assertFalse(received.isEmpty());
+        assertEquals(IntStream.range(0, received.size()).boxed().toList(), received);
+    }
+
+    @Test
+    void shouldStartANewSubscriberWhereTheProducerCannotLapIt() throws Exception {
+        // Arrange
+        useBus(RingBufferEventBus.create(4, WaitStrategy.PARK, (l, ev, e) -> failures.add(e)));
+        final AtomicInteger gaps = new AtomicInteger();
+        final CountDownLatch stop = new CountDownLatch(1);
+        final CompletableFuture<Void> producer =
+                CompletableFuture.runAsync(
+                        () -> {
+                            for (int n = 0; stop.getCount() > 0; n++) {
+                                bus.publish(new Numbered(n));
+                            }
+                        });
+
+        // Act — each subscribe meets a producer that nothing gates
+        for (int i = 0; i < 100; i++) {
+            final int[] last = {-1};
+            final IEventListener<Numbered> listener =
+                    e -> {
+                        if (last[0] >= 0 && e.n() != last[0] + 1) {
+                            gaps.incrementAndGet();
+                        }
+                        last[0] = e.n();
+                    };
+            bus.subscribe(Numbered.class, listener);
+            Thread.sleep(1);
+            bus.unsubscribe(Numbered.class, listener);
+        }
+        stop.countDown();
+        producer.get(5, TimeUnit.SECONDS);
+
+        // Assert — every subscriber saw a gap-free run, never an overwritten slot
+        assertTrue(bus.awaitIdle(WAIT));
+        assertEquals(0, gaps.get());
+        assertTrue(failures.isEmpty());
+    }
+
+    @Test
+    void shouldRejectInvalidSizesAndUnsubscribingADependency() throws Exception {
+        // Arrange
+        final IEventListener<Numbered> first = e -> {};
+        final RingBufferEventBus.Subscriber dependency = bus.subscribeAfter(Numbered.class, first);
+        bus.subscribeAfter(Numbered.class, e -> {}, dependency);
+
+        // Act & Assert
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> RingBufferEventBus.create(48, WaitStrategy.YIELD, (l, ev, e) -> {}));
+        assertThrows(IllegalStateException.class, () -> bus.unsubscribe(Numbered.class, first));
+    }
+
+    private void useBus(RingBufferEventBus replacement) throws InterruptedException {
+        bus.close();
+        bus = replacement;
+    }
+}
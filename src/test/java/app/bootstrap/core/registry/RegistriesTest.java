@@ -0,0 +1,233 @@
+/*
+ * App Bootstrap Core
+ * Copyright (C) 2026
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package app.bootstrap.core.registry;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import app.bootstrap.core.cqrs.ICommand;
+import app.bootstrap.core.cqrs.ICommandHandler;
+import app.bootstrap.core.cqrs.IEventHandler;
+import app.bootstrap.core.cqrs.IProjector;
+import app.bootstrap.core.cqrs.IQuery;
+import app.bootstrap.core.cqrs.IQueryHandler;
+import app.bootstrap.core.cqrs.IResultCommand;
+import app.bootstrap.core.cqrs.IResultCommandHandler;
+import app.bootstrap.core.cqrs.SimpleICommandBus;
+import app.bootstrap.core.cqrs.SimpleQueryBus;
+import app.bootstrap.core.messaging.IEvent;
+import app.bootstrap.core.messaging.InMemoryEventBus;
+import jakarta.annotation.Nonnull;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+/**
+ * End to end over the registry the {@link RegistryProcessor} generated for this test compilation:
+ * the handlers below are {@link Registered}, so {@code GeneratedRegistry} lists them.
+ */
+class RegistriesTest {
+
+    // --- Messages ----------------------------------------------------------------------------
+
+    record RegisterUser(String name) implements ICommand {}
+
+    record RenameUser(String name) implements ICommand {}
+
+    record CountUsers() implements IResultCommand<Integer> {}
+
+    record FindUser(String name) implements IQuery<String> {}
+
+    record UserRegistered(UUID getEventId, Instant getTimestamp, String name) implements IEvent {
+        UserRegistered(String name) {
+            this(UUID.randomUUID(), Instant.now(), name);
+        }
+    }
+
+    // --- Registered handlers -----------------------------------------------------------------
+
+    @Registered({RegisterUser.class, RenameUser.class})
+    static final class UserCommandHandler implements ICommandHandler {
+        final List<ICommand> handled = new ArrayList<>();
+
+        @Override
+        public void handle(@Nonnull ICommand command) {
+            handled.add(command);
+        }
+    }
+
+    @Registered
+    static final class CountUsersHandler implements IResultCommandHandler<CountUsers, Integer> {
+        @Nonnull
+        @Override
+        public Integer handle(@Nonnull CountUsers command) {
+            return 42;
+        }
+    }
+
+    /** The message type is inferred through the intermediate base class. */
+    abstract static class LookupHandler<Q extends IQuery<String>>
+            implements IQueryHandler<Q, String> {}
+
+    @Registered
+    static final class FindUserHandler extends LookupHandler<FindUser> {
+        @Nonnull
+        @Override
+        public String handle(@Nonnull FindUser query) {
+            return "found " + query.name();
+        }
+    }
+
+    @Registered
+    static final class UserProjector implements IProjector<UserRegistered> {
+        final List<String> names = new ArrayList<>();
+
+        @Override
+        public void handleEvent(@Nonnull UserRegistered event) {
+            names.add(event.name());
+        }
+    }
+
+    @Registered
+    static final class AuditHandler implements IEventHandler<IEvent> {
+        int seen;
+
+        @Override
+        public void handleEvent(@Nonnull IEvent event) {
+            seen++;
+        }
+    }
+
+    // --- Tests -------------------------------------------------------------------------------
+
+    private static IRegistry generated() {
+        return Registries.load().stream()
+                .filter(registry -> registry.getClass().getSimpleName().equals("GeneratedRegistry"))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    @Test
+    void shouldLoadTheGeneratedRegistryThroughTheServiceFile() {
+        // Act
+        final IRegistry registry = generated();
+
+        // Assert
+        assertEquals(RegistriesTest.class.getPackage(), registry.getClass().getPackage());
+        assertEquals(
+                List.of(
+                        new Registration(
+                                Registration.Kind.EVENT_HANDLER, AuditHandler.class, IEvent.class),
+                        new Registration(
+                                Registration.Kind.RESULT_COMMAND,
+                                CountUsersHandler.class,
+                                CountUsers.class),
+                        new Registration(
+                                Registration.Kind.QUERY, FindUserHandler.class, FindUser.class),
+                        new Registration(
+                                Registration.Kind.COMMAND,
+                                UserCommandHandler.class,
+                                RegisterUser.class),
+                        new Registration(
+                                Registration.Kind.COMMAND,
+                                UserCommandHandler.class,
+                                RenameUser.class),
+                        new Registration(
+                                Registration.Kind.PROJECTOR,
+                                UserProjector.class,
+                                UserRegistered.class)),
+                registry.registrations());
+    }
+
+    @Test
+    void shouldCatalogueBusinessRulesOfTheCompilation() {
+        // Act
+        final List<RuleEntry> rules = generated().rules();
+
+        // Assert
+        assertTrue(
+                rules.contains(
+                        new RuleEntry(
+                                "app.bootstrap.core.ddd.BusinessRulesTest",
+                                List.of(
+                                        "This should not be empty",
+                                        "This should not be empty too"))),
+                rules.toString());
+    }
+
+    @Test
+    void shouldWireEveryHandlerOntoItsBus() throws Exception {
+        // Arrange
+        final UserCommandHandler commands = new UserCommandHandler();
+        final UserProjector projector = new UserProjector();
+        final AuditHandler audit = new AuditHandler();
+        final Map<Class<?>, Object> container =
+                Map.of(
+                        UserCommandHandler.class, commands,
+                        CountUsersHandler.class, new CountUsersHandler(),
+                        FindUserHandler.class, new FindUserHandler(),
+                        UserProjector.class, projector,
+                        AuditHandler.class, audit);
+        final SimpleICommandBus commandBus = new SimpleICommandBus();
+        final SimpleQueryBus queryBus = new SimpleQueryBus();
+        final InMemoryEventBus eventBus = new InMemoryEventBus();
+
+        // Act
+        Registries.wire(generated(), container::get, commandBus, queryBus, eventBus);
+
+        // Assert
+        assertTrue(commandBus.sendSync(new RegisterUser("alice")));
+        assertTrue(commandBus.sendSync(new RenameUser("bob")));
+        assertEquals(2, commands.handled.size());
+        assertEquals(42, commandBus.sendSync(new CountUsers()));
+        assertEquals("found carol", queryBus.sendSync(new FindUser("carol")));
+        eventBus.publish(new UserRegistered("dave"));
+        assertEquals(List.of("dave"), projector.names);
+        assertEquals(1, audit.seen, "an IEvent handler subscribes to everything");
+    }
+
+    @Test
+    void shouldRejectMissingBusesAndInstances() {
+        // Arrange
+        final IRegistry registry = generated();
+
+        // Act & Assert
+        assertThrows(
+                IllegalStateException.class,
+                () -> Registries.wire(registry, type -> null, new SimpleICommandBus(), null, null));
+        assertThrows(
+                IllegalStateException.class,
+                () ->
+                        Registries.wire(
+                                registry,
+                                type -> {
+                                    try {
+                                        return type.getDeclaredConstructor().newInstance();
+                                    } catch (ReflectiveOperationException e) {
+                                        throw new IllegalStateException(e);
+                                    }
+                                },
+                                new SimpleICommandBus(),
+                                null,
+                                null));
+    }
+}
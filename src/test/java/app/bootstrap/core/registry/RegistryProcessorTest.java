@@ -0,0 +1,395 @@
+/*
+ * App Bootstrap Core
+ * Copyright (C) 2026
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package app.bootstrap.core.registry;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/** Runs the processor through {@code javax.tools} over small in-memory compilation units. */
+class RegistryProcessorTest {
+
+    @TempDir Path dir;
+
+    private record Compilation(boolean success, String errors, Path classes) {
+
+        IRegistry registry() throws Exception {
+            final URLClassLoader loader =
+                    new URLClassLoader(
+                            new URL[] {classes.toUri().toURL()},
+                            RegistryProcessorTest.class.getClassLoader());
+            final List<IRegistry> found = new ArrayList<>();
+            Registries.load(loader).stream()
+                    .filter(r -> r.getClass().getClassLoader() == loader)
+                    .forEach(found::add);
+            assertEquals(1, found.size(), "one registry per compilation");
+            return found.get(0);
+        }
+    }
+
+    private static JavaFileObject source(String name, String code) {
+        return new SimpleJavaFileObject(
+                URI.create("string:///" + name.replace('.', '/') + ".java"),
+                JavaFileObject.Kind.SOURCE) {
+            @Override
+            public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                return code;
+            }
+        };
+    }
+
+    private Compilation compile(Map<String, String> sources, String... options) throws IOException {
+        final Path classes = Files.createDirectories(dir.resolve("classes"));
+        final Path generated = Files.createDirectories(dir.resolve("generated"));
+        final JavaCompiler javac = ToolProvider.getSystemJavaCompiler();
+        final DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        final List<String> arguments = new ArrayList<>();
+        arguments.addAll(
+                List.of(
+                        "-classpath", System.getProperty("java.class.path"),
+                        "-d", classes.toString(),
+                        "-s", generated.toString()));
+        arguments.addAll(List.of(options));
+        final JavaCompiler.CompilationTask task =
+                javac.getTask(
+                        null,
+                        null,
+                        diagnostics,
+                        arguments,
+                        null,
+                        sources.entrySet().stream()
+                                .map(e -> source(e.getKey(), e.getValue()))
+                                .toList());
+        task.setProcessors(List.of(new RegistryProcessor()));
+        final boolean success = task.call();
+        final String errors =
+                diagnostics.getDiagnostics().stream()
+                        .filter(d -> d.getKind() == Diagnostic.Kind.ERROR)
+                        .map(d -> d.getMessage(null))
+                        .collect(Collectors.joining("\n"));
+        return new Compilation(success, errors, classes);
+    }
+
+    private static final String COMMANDS =
+            """
+            package com.acme.orders;
+
+            import app.bootstrap.core.cqrs.*;
+
+            public record PlaceOrder(String sku) implements ICommand {}
+            """;
+
+    private static final String ORDER_HANDLER =
+            """
+            package com.acme.orders;
+
+            import app.bootstrap.core.cqrs.*;
+            import app.bootstrap.core.registry.Registered;
+
+            @Registered(PlaceOrder.class)
+            public final class OrderHandler implements ICommandHandler {
+                @Override public void handle(ICommand command) {}
+            }
+            """;
+
+    @Test
+    void shouldGenerateARegistryInTheSharedPackage() throws Exception {
+        // Arrange
+        final Map<String, String> sources =
+                Map.of(
+                        "com.acme.orders.PlaceOrder",
+                        COMMANDS,
+                        "com.acme.orders.OrderHandler",
+                        ORDER_HANDLER,
+                        "com.acme.users.FindUserHandler",
+                        """
+                        package com.acme.users;
+
+                        import app.bootstrap.core.cqrs.*;
+                        import app.bootstrap.core.registry.Registered;
+
+                        @Registered
+                        public final class FindUserHandler
+                                implements IQueryHandler<FindUserHandler.FindUser, String> {
+                            public record FindUser(String name) implements IQuery<String> {}
+
+                            @Override public String handle(FindUser query) { return query.name(); }
+                        }
+                        """);
+
+        // Act
+        final Compilation compilation = compile(sources);
+
+        // Assert
+        assertTrue(compilation.success(), compilation.errors());
+        assertTrue(Files.exists(dir.resolve("generated/com/acme/GeneratedRegistry.java")));
+        final List<String> rows =
+                compilation.registry().registrations().stream()
+                        .map(
+                                r ->
+                                        r.kind()
+                                                + " "
+                                                + r.handler().getName()
+                                                + " "
+                                                + r.message().getName())
+                        .toList();
+        assertEquals(
+                List.of(
+                        "COMMAND com.acme.orders.OrderHandler com.acme.orders.PlaceOrder",
+                        "QUERY com.acme.users.FindUserHandler"
+                                + " com.acme.users.FindUserHandler$FindUser"),
+                rows);
+    }
+
+    @Test
+    void shouldCatalogueBusinessRulesByElement() throws Exception {
+        // Arrange
+        final Map<String, String> sources =
+                Map.of(
+                        "com.acme.Order",
+                        """
+                        package com.acme;
+
+                        import app.bootstrap.core.ddd.BusinessRules;
+
+                        @BusinessRules(rules = "An order has at least one line")
+                        public class Order {
+                            @BusinessRules(rules = {"Status only moves forward", "Never null"})
+                            String status;
+
+                            @BusinessRules(rules = "Only open orders can be confirmed")
+                            public void confirm(
+                                    @BusinessRules(rules = "Reason is not blank") String reason,
+                                    int[] lines) {}
+                        }
+                        """,
+                        "com.acme.orders.PlaceOrder",
+                        COMMANDS,
+                        "com.acme.orders.OrderHandler",
+                        ORDER_HANDLER);
+
+        // Act
+        final Compilation compilation = compile(sources);
+
+        // Assert
+        assertTrue(compilation.success(), compilation.errors());
+        assertEquals(
+                List.of(
+                        new RuleEntry("com.acme.Order", List.of("An order has at least one line")),
+                        new RuleEntry(
+                                "com.acme.Order#confirm(String,int[])",
+                                List.of("Only open orders can be confirmed")),
+                        new RuleEntry(
+                                "com.acme.Order#confirm(String,int[]):reason",
+                                List.of("Reason is not blank")),
+                        new RuleEntry(
+                                "com.acme.Order#status",
+                                List.of("Status only moves forward", "Never null"))),
+                compilation.registry().rules());
+        assertEquals(1, compilation.registry().registrations().size());
+    }
+
+    @Test
+    void shouldGenerateNothingForBusinessRulesAlone() throws Exception {
+        // Arrange
+        final Map<String, String> sources =
+                Map.of(
+                        "com.acme.Order",
+                        """
+                        package com.acme;
+
+                        import app.bootstrap.core.ddd.BusinessRules;
+
+                        @BusinessRules(rules = "An order has at least one line")
+                        public class Order {}
+                        """);
+
+        // Act
+        final Compilation compilation = compile(sources);
+
+        // Assert
+        assertTrue(compilation.success(), compilation.errors());
+        assertFalse(
+                Files.exists(compilation.classes().resolve("com/acme/GeneratedRegistry.class")));
+        assertFalse(Files.exists(compilation.classes().resolve("META-INF/services")));
+    }
+
+    @Test
+    void shouldHonourThePackageOption() throws Exception {
+        // Arrange
+        final Map<String, String> sources =
+                Map.of(
+                        "com.acme.orders.PlaceOrder",
+                        COMMANDS,
+                        "com.acme.orders.OrderHandler",
+                        ORDER_HANDLER);
+
+        // Act
+        final Compilation compilation =
+                compile(sources, "-A" + RegistryProcessor.PACKAGE_OPTION + "=com.acme.boot");
+
+        // Assert
+        assertTrue(compilation.success(), compilation.errors());
+        assertEquals(
+                "com.acme.boot.GeneratedRegistry", compilation.registry().getClass().getName());
+        assertEquals(
+                "com.acme.boot.GeneratedRegistry\n",
+                Files.readString(
+                        dir.resolve("classes/META-INF/services/" + IRegistry.class.getName()),
+                        StandardCharsets.UTF_8));
+    }
+
+    private void assertRejected(String handler, String expectedError) throws IOException {
+        final Compilation compilation =
+                compile(
+                        Map.of(
+                                "com.acme.orders.PlaceOrder",
+                                COMMANDS,
+                                "com.acme.orders.H",
+                                handler));
+
+        assertFalse(compilation.success());
+        assertTrue(
+                compilation.errors().contains(expectedError),
+                "expected '" + expectedError + "' in:\n" + compilation.errors());
+        assertFalse(Files.exists(dir.resolve("generated/com/acme/orders/GeneratedRegistry.java")));
+    }
+
+    @Test
+    void shouldRejectACommandHandlerWithoutListedCommands() throws IOException {
+        assertRejected(
+                """
+                package com.acme.orders;
+
+                import app.bootstrap.core.cqrs.*;
+                import app.bootstrap.core.registry.Registered;
+
+                @Registered
+                public final class H implements ICommandHandler {
+                    @Override public void handle(ICommand command) {}
+                }
+                """,
+                "list it in @Registered");
+    }
+
+    @Test
+    void shouldRejectAbstractClassesAndNonHandlers() throws IOException {
+        assertRejected(
+                """
+                package com.acme.orders;
+
+                import app.bootstrap.core.registry.Registered;
+
+                @Registered
+                public final class H {}
+                """,
+                "needs a command, query or event handler");
+        assertRejected(
+                """
+                package com.acme.orders;
+
+                import app.bootstrap.core.cqrs.*;
+                import app.bootstrap.core.registry.Registered;
+
+                @Registered(PlaceOrder.class)
+                public abstract class H implements ICommandHandler {}
+                """,
+                "needs a concrete class");
+    }
+
+    @Test
+    void shouldRejectAListedTypeNoRoleHandles() throws IOException {
+        assertRejected(
+                """
+                package com.acme.orders;
+
+                import app.bootstrap.core.cqrs.*;
+                import app.bootstrap.core.registry.Registered;
+
+                @Registered({PlaceOrder.class, String.class})
+                public final class H implements ICommandHandler {
+                    @Override public void handle(ICommand command) {}
+                }
+                """,
+                "java.lang.String is not a message any role of H handles");
+    }
+
+    @Test
+    void shouldRejectAnUnresolvedTypeArgument() throws IOException {
+        assertRejected(
+                """
+                package com.acme.orders;
+
+                import app.bootstrap.core.cqrs.*;
+                import app.bootstrap.core.messaging.IEvent;
+                import app.bootstrap.core.registry.Registered;
+
+                @Registered
+                @SuppressWarnings("rawtypes")
+                public final class H implements IProjector {
+                    @Override public void handleEvent(IEvent event) {}
+                }
+                """,
+                "cannot tell which IEvent H handles as IProjector");
+    }
+
+    @Test
+    void shouldRejectHandlersInvisibleFromTheRegistryPackage() throws IOException {
+        final Compilation compilation =
+                compile(
+                        Map.of(
+                                "com.acme.orders.PlaceOrder",
+                                COMMANDS,
+                                "com.acme.orders.H",
+                                """
+                                package com.acme.orders;
+
+                                import app.bootstrap.core.cqrs.*;
+                                import app.bootstrap.core.registry.Registered;
+
+                                @Registered(PlaceOrder.class)
+                                final class H implements ICommandHandler {
+                                    @Override public void handle(ICommand command) {}
+                                }
+                                """),
+                        "-A" + RegistryProcessor.PACKAGE_OPTION + "=com.acme");
+
+        assertFalse(compilation.success());
+        assertTrue(compilation.errors().contains("must be visible from package com.acme"));
+    }
+}